@@ -17,17 +17,26 @@
 
 package io.sundr.adapter.api;
 
+import java.util.Map;
 import java.util.Optional;
-import java.util.ServiceLoader;
-import java.util.stream.StreamSupport;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import io.sundr.model.Method;
 import io.sundr.model.Property;
 import io.sundr.model.TypeDef;
 import io.sundr.model.TypeRef;
+import io.sundr.utils.Services;
 
 public class Adapters {
 
+  //The factory of each input class is only looked up once. Input classes often belong to the compiler, so the factories
+  //are kept in maps owned by this class, rather than on the input classes where they would pin this class loader.
+  private static final Map<Class<?>, Optional<AdapterFactory>> TYPE_FACTORIES = new ConcurrentHashMap<>();
+  private static final Map<Class<?>, Optional<AdapterFactory>> REFERENCE_FACTORIES = new ConcurrentHashMap<>();
+  private static final Map<Class<?>, Optional<AdapterFactory>> PROPERTY_FACTORIES = new ConcurrentHashMap<>();
+  private static final Map<Class<?>, Optional<AdapterFactory>> METHOD_FACTORIES = new ConcurrentHashMap<>();
+
   public static <T, R, P, M> TypeDef adaptType(T input, AdapterContextAware ctx) {
     if (input == null) {
       throw new IllegalArgumentException("Adapter.adapt(null, ctx) is not allowed!");
@@ -62,38 +71,34 @@ public class Adapters {
 
   @SuppressWarnings("unchecked")
   public static <T, R, P, M> Optional<Adapter<T, R, P, M>> getAdapterForType(Class type, AdapterContextAware ctx) {
-    return StreamSupport.stream(ServiceLoader.load(AdapterFactory.class, Adapter.class.getClassLoader()).spliterator(), false)
-        .filter(f -> f.getTypeAdapterType() != null)
-        .filter(f -> f.getTypeAdapterType().isAssignableFrom(type))
-        .map(f -> (Adapter<T, R, P, M>) f.create(ctx.getAdapterContext()))
-        .findFirst();
+    return factoryOf(TYPE_FACTORIES, type, AdapterFactory::getTypeAdapterType)
+        .map(f -> (Adapter<T, R, P, M>) f.create(ctx.getAdapterContext()));
   }
 
   @SuppressWarnings("unchecked")
   public static <T, R, P, M> Optional<Adapter<T, R, P, M>> getAdapterForReference(Class type, AdapterContextAware ctx) {
-    return StreamSupport.stream(ServiceLoader.load(AdapterFactory.class, Adapter.class.getClassLoader()).spliterator(), false)
-        .filter(f -> f.getReferenceAdapterType() != null)
-        .filter(f -> f.getReferenceAdapterType().isAssignableFrom(type))
-        .map(f -> (Adapter<T, R, P, M>) f.create(ctx.getAdapterContext()))
-        .findFirst();
+    return factoryOf(REFERENCE_FACTORIES, type, AdapterFactory::getReferenceAdapterType)
+        .map(f -> (Adapter<T, R, P, M>) f.create(ctx.getAdapterContext()));
   }
 
   @SuppressWarnings("unchecked")
   public static <T, R, P, M> Optional<Adapter<T, R, P, M>> getAdapterForProperty(Class type, AdapterContextAware ctx) {
-    return StreamSupport.stream(ServiceLoader.load(AdapterFactory.class, Adapter.class.getClassLoader()).spliterator(), false)
-        .filter(f -> f.getPropertyAdapterType() != null)
-        .filter(f -> f.getPropertyAdapterType().isAssignableFrom(type))
-        .map(f -> (Adapter<T, R, P, M>) f.create(ctx.getAdapterContext()))
-        .findFirst();
+    return factoryOf(PROPERTY_FACTORIES, type, AdapterFactory::getPropertyAdapterType)
+        .map(f -> (Adapter<T, R, P, M>) f.create(ctx.getAdapterContext()));
   }
 
   @SuppressWarnings("unchecked")
   public static <T, R, P, M> Optional<Adapter<T, R, P, M>> getAdapterForMethod(Class type, AdapterContextAware ctx) {
-    return StreamSupport.stream(ServiceLoader.load(AdapterFactory.class, Adapter.class.getClassLoader()).spliterator(), false)
-        .filter(f -> f.getMethodAdapterType() != null)
-        .filter(f -> f.getMethodAdapterType().isAssignableFrom(type))
-        .map(f -> (Adapter<T, R, P, M>) f.create(ctx.getAdapterContext()))
-        .findFirst();
+    return factoryOf(METHOD_FACTORIES, type, AdapterFactory::getMethodAdapterType)
+        .map(f -> (Adapter<T, R, P, M>) f.create(ctx.getAdapterContext()));
+  }
+
+  private static Optional<AdapterFactory> factoryOf(Map<Class<?>, Optional<AdapterFactory>> factories, Class<?> type,
+      Function<AdapterFactory, Class> adapterType) {
+    return factories.computeIfAbsent(type, t -> Services.load(AdapterFactory.class).stream()
+        .filter(f -> adapterType.apply(f) != null)
+        .filter(f -> adapterType.apply(f).isAssignableFrom(t))
+        .findFirst());
   }
 
   public static WithContext withContext(AdapterContext ctx) {
@@ -18,15 +18,14 @@
 package io.sundr.adapter.api;
 
 import java.util.Optional;
-import java.util.ServiceLoader;
-import java.util.stream.StreamSupport;
 
 import io.sundr.model.TypeDef;
+import io.sundr.utils.Services;
 
 public interface TypeLookup<T> {
 
   public static Optional<TypeDef> lookup(String fullyQualifiedName, AdapterContextAware context) {
-    return StreamSupport.stream(ServiceLoader.load(TypeLookup.class, TypeLookup.class.getClassLoader()).spliterator(), false)
+    return Services.load(TypeLookup.class).stream()
         .map(l -> l.forName(fullyQualifiedName))
         .filter(Optional::isPresent)
         .map(Optional::get)
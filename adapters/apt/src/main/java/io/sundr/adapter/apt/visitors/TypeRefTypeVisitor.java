@@ -34,6 +34,7 @@ import javax.lang.model.util.AbstractTypeVisitor6;
 
 import io.sundr.adapter.apt.AptContext;
 import io.sundr.model.ClassRefBuilder;
+import io.sundr.model.Interner;
 import io.sundr.model.PrimitiveRefBuilder;
 import io.sundr.model.TypeParamRefBuilder;
 import io.sundr.model.TypeRef;
@@ -48,7 +49,8 @@ public class TypeRefTypeVisitor extends AbstractTypeVisitor6<TypeRef, Integer> {
   }
 
   public TypeRef visitPrimitive(PrimitiveType t, Integer dimension) {
-    return new PrimitiveRefBuilder().withName(t.getKind().name().toLowerCase()).withDimensions(dimension).build();
+    return Interner.intern(new PrimitiveRefBuilder().withName(t.getKind().name().toLowerCase()).withDimensions(dimension)
+        .build());
   }
 
   public TypeRef visitNull(NullType t, Integer dimension) {
@@ -75,20 +77,20 @@ public class TypeRefTypeVisitor extends AbstractTypeVisitor6<TypeRef, Integer> {
     }
 
     String fqcn = element.toString();
-    return new ClassRefBuilder().withFullyQualifiedName(fqcn).withDimensions(dimension)
+    return Interner.intern(new ClassRefBuilder().withFullyQualifiedName(fqcn).withDimensions(dimension)
         .withArguments(arguments)
-        .build();
+        .build());
   }
 
   public TypeRef visitError(ErrorType t, Integer dimension) {
     TypeElement element = (TypeElement) t.asElement();
     String fqcn = element.toString();
-    return new ClassRefBuilder().withFullyQualifiedName(fqcn)
-        .build();
+    return Interner.intern(new ClassRefBuilder().withFullyQualifiedName(fqcn)
+        .build());
   }
 
   public TypeRef visitTypeVariable(TypeVariable t, Integer dimension) {
-    return new TypeParamRefBuilder().withName(t.asElement().getSimpleName().toString()).build();
+    return Interner.intern(new TypeParamRefBuilder().withName(t.asElement().getSimpleName().toString()).build());
   }
 
   public TypeRef visitWildcard(WildcardType t, Integer dimension) {
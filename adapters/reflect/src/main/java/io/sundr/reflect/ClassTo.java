@@ -77,7 +77,7 @@ public class ClassTo {
         return Kind.CLASS;
       }
     }
-  });
+  }).withWeakKeys();
 
   public static final Function<Type, TypeRef> TYPEREF = FunctionFactory.cache(new Function<Type, TypeRef>() {
     public TypeRef apply(Type item) {
@@ -150,7 +150,7 @@ public class ClassTo {
       }
       throw new IllegalArgumentException("Can't convert type:" + item + " to a TypeRef");
     }
-  });
+  }).withWeakKeys();
 
   public static final Function<Class<? extends Annotation>, AnnotationRef> ANNOTATIONTYPEREF = FunctionFactory
       .cache(item -> {
@@ -258,7 +258,7 @@ public class ClassTo {
       }
       return null;
     }
-  });
+  }).withWeakKeys();
 
   private static Set<Property> getProperties(Class item, Set<Class> references) {
     Set<Property> properties = new HashSet<Property>();
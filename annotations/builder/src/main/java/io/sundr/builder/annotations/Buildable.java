@@ -35,6 +35,16 @@ public @interface Buildable {
 
   boolean lazyMapInitEnabled() default true;
 
+  /**
+   * Indicates that the generated builder returns the instance it previously built, as long as nothing changed since.
+   * Only suitable for immutable types, as all callers of build() share the same instance. Nested builders don't need to
+   * opt in, as changes made to them through the fluent methods or visitors count as changes to the builder itself. Nested
+   * builders that are modified by other means, e.g. when reached through _visitables directly, are not noticed.
+   *
+   * @return true if the built instance is cached, false otherwise.
+   */
+  boolean buildCacheEnabled() default false;
+
   boolean generateBuilderPackage() default false;
 
   String builderPackage() default Constants.DEFAULT_BUILDER_PACKAGE;
@@ -47,6 +47,15 @@ public @interface Pojo {
    */
   boolean mutable() default false;
 
+  /**
+   * Indicates that the generated pojo will cache its hash code and compare hash codes before fields in equals.
+   * Its builder will also return the previously built instance, as long as nothing changed since.
+   * Only applies to pojos that are not mutable.
+   *
+   * @return true if the hash code is cached, false otherwise.
+   */
+  boolean cacheHashCode() default false;
+
   /**
    * The class name of the generated Pojo.
    * 
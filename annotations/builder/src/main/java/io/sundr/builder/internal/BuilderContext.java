@@ -34,6 +34,8 @@ import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -138,6 +140,12 @@ public class BuilderContext {
         .endArgument()
         .withReturnType(new VoidRef())
         .endMethod()
+        .addNewInnerType()
+        .withKind(Kind.INTERFACE)
+        .withPackageName("io.sundr.builder")
+        .withOuterTypeName("io.sundr.builder.Visitor")
+        .withName("ThreadSafe")
+        .endInnerType()
         .accept(new ReplacePackage("io.sundr.builder", builderPackage))
         .build();
 
@@ -165,16 +173,31 @@ public class BuilderContext {
         .withParameters(V)
         .withImplementsList(visitorInterface.toReference(V.toReference()))
 
+        .addNewProperty()
+        .withModifiers(modifiersToInt(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL))
+        .withTypeRef(new ClassRefBuilder().withFullyQualifiedName(ClassValue.class.getName())
+            .withArguments(Collections.LIST.toReference(CLASS.toReference())).build())
+        .withName("TYPE_ARGUMENTS")
+        .addToAttributes(Attributeable.INIT,
+            "new ClassValue<List<Class<?>>>() {" + "\n" +
+                "  @Override" + "\n" +
+                "  protected List<Class<?>> computeValue(Class<?> type) {" + "\n" +
+                "    return getTypeArguments(TypedVisitor.class, (Class<? extends TypedVisitor>) type);" + "\n" +
+                "  }" + "\n" +
+                "}")
+        .endProperty()
+
         .addNewMethod()
         .withModifiers(modifiersToInt(Modifier.PUBLIC))
         .withName("getType")
         .withReturnType(CLASS.toReference(V.toReference()))
         .withNewBlock()
-        .addNewStringStatementStatement("return (Class<V>) getTypeArguments(TypedVisitor.class, getClass()).get(0);")
+        .addNewStringStatementStatement("return (Class<V>) TYPE_ARGUMENTS.get(getClass()).get(0);")
         .endBlock()
         .endMethod()
 
         .addNewMethod()
+        .withModifiers(modifiersToInt(Modifier.PRIVATE, Modifier.STATIC))
         .withName("getClass")
         .withReturnType(CLASS.toReference(new WildcardRef()))
         .addNewArgument()
@@ -188,6 +211,7 @@ public class BuilderContext {
         .endMethod()
 
         .addNewMethod()
+        .withModifiers(modifiersToInt(Modifier.STATIC))
         .withParameters(T)
         .withName("getTypeArguments")
         .withReturnType(Collections.LIST.toReference(CLASS.toReference()))
@@ -491,8 +515,21 @@ public class BuilderContext {
         .withName("key")
         .endArgument()
         .withNewBlock()
-        .addNewStringStatementStatement("if (!containsKey(key)) {put(String.valueOf(key), new ArrayList());}")
-        .addNewStringStatementStatement("return super.get(key);")
+        .addNewStringStatementStatement("List<Visitable<?>> visitables = super.get(key);")
+        .addNewStringStatementStatement("return visitables != null ? visitables : java.util.Collections.emptyList();")
+        .endBlock()
+        .endMethod()
+
+        .addNewMethod()
+        .withModifiers(modifiersToInt(Modifier.PUBLIC))
+        .withName("slot")
+        .withReturnType(Collections.LIST.toReference(visitableInterface.toReference()))
+        .addNewArgument()
+        .withTypeRef(STRING_REF)
+        .withName("key")
+        .endArgument()
+        .withNewBlock()
+        .addNewStringStatementStatement("return computeIfAbsent(key, k -> new ArrayList<>());")
         .endBlock()
         .endMethod()
 
@@ -501,7 +538,9 @@ public class BuilderContext {
         .withName("aggregate")
         .withReturnType(Collections.LIST.toReference(visitableInterface.toReference()))
         .withNewBlock()
-        .addNewStringStatementStatement("return values().stream().flatMap(l -> l.stream()).collect(Collectors.toList());")
+        .addNewStringStatementStatement("List<Visitable<?>> result = new ArrayList<>();")
+        .addNewStringStatementStatement("values().forEach(result::addAll);")
+        .addNewStringStatementStatement("return result;")
         .endBlock()
         .endMethod()
 
@@ -524,7 +563,13 @@ public class BuilderContext {
             new WildcardRefBuilder().withBoundKind(BoundKind.SUPER).withBounds(visitableInterface.toReference()).build()))
         .endArgument()
         .withNewBlock()
-        .addNewStringStatementStatement("aggregate().forEach(action);")
+        .addNewStringStatementStatement(
+            "for (Object l : values().toArray()) {" + "\n" +
+                "  List<Visitable<?>> visitables = (List<Visitable<?>>) l;" + "\n" +
+                "  for (int i = 0; i < visitables.size(); i++) {" + "\n" +
+                "    action.accept(visitables.get(i));" + "\n" +
+                "  }" + "\n" +
+                "}")
         .endBlock()
         .endMethod()
 
@@ -561,6 +606,41 @@ public class BuilderContext {
         .addToAttributes(Attributeable.INIT, "visit")
         .endProperty()
 
+        .addNewProperty()
+        .withModifiers(modifiersToInt(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL))
+        .withTypeRef(new ClassRefBuilder().withFullyQualifiedName(ClassValue.class.getName())
+            .withArguments(new ClassRefBuilder().withFullyQualifiedName(ClassValue.class.getName())
+                .withArguments(io.sundr.model.utils.Types.BOOLEAN_REF).build())
+            .build())
+        .withName("VISIT_DISPATCH")
+        .addToAttributes(Attributeable.INIT,
+            "new ClassValue<ClassValue<Boolean>>() {" + "\n" +
+                "  @Override" + "\n" +
+                "  protected ClassValue<Boolean> computeValue(Class<?> visitorClass) {" + "\n" +
+                "    for (java.lang.reflect.Method method : visitorClass.getMethods()) {" + "\n" +
+                "      if (!method.getName().equals(VISIT) || method.getParameterTypes().length != 1) {" + "\n" +
+                "        continue;" + "\n" +
+                "      }" + "\n" +
+                "      Class<?> visitorType = method.getParameterTypes()[0];" + "\n" +
+                "      return new ClassValue<Boolean>() {" + "\n" +
+                "        @Override" + "\n" +
+                "        protected Boolean computeValue(Class<?> fluentClass) {" + "\n" +
+                "          return visitorType.isAssignableFrom(fluentClass);" + "\n" +
+                "        }" + "\n" +
+                "      };" + "\n" +
+                "    }" + "\n" +
+                "    return null;" + "\n" +
+                "  }" + "\n" +
+                "}")
+        .endProperty()
+
+        .addNewProperty()
+        .withModifiers(modifiersToInt(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL))
+        .withTypeRef(io.sundr.model.utils.Types.PRIMITIVE_INT_REF)
+        .withName("DEFAULT_PARALLELISM_THRESHOLD")
+        .addToAttributes(Attributeable.INIT, "16")
+        .endProperty()
+
         .addNewProperty()
         .withModifiers(modifiersToInt(Modifier.PUBLIC, Modifier.FINAL))
         .withTypeRef(visitableMapClass.toReference())
@@ -568,6 +648,12 @@ public class BuilderContext {
         .addToAttributes(Attributeable.INIT, "new VisitableMap()")
         .endProperty()
 
+        .addNewProperty()
+        .withModifiers(modifiersToInt(Modifier.PROTECTED))
+        .withTypeRef(io.sundr.model.utils.Types.PRIMITIVE_INT_REF)
+        .withName("modCount")
+        .endProperty()
+
         .addNewMethod()
         .withModifiers(modifiersToInt(Modifier.PUBLIC, Modifier.STATIC))
         .withName("builderOf")
@@ -633,6 +719,73 @@ public class BuilderContext {
         .addToAttributes(ALSO_IMPORT, Collections.ARRAY_LIST.toInternalReference())
         .endMethod()
 
+        .addNewMethod()
+        .withModifiers(modifiersToInt(Modifier.PUBLIC, Modifier.STATIC))
+        .withName("build")
+        .withParameters(T)
+        .withReturnType(Collections.LIST.toReference(T.toReference()))
+        .addNewArgument()
+        .withTypeRef(Collections.LIST.toReference(new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS)
+            .withBounds(builderInterface
+                .toReference(new WildcardRefBuilder().withBoundKind(BoundKind.EXTENDS).withBounds(T.toReference()).build()))
+            .build()))
+        .withName("list")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(Collections.LIST.toReference(T.toReference()))
+        .withName("previous")
+        .endArgument()
+        .withNewBlock()
+        .addNewStringStatementStatement(
+            "if (list == null) { " + "\n" +
+                "  return null; " + "\n" +
+                "} " + "\n" +
+                "int size = list.size(); " + "\n" +
+                "boolean reuse = previous != null && previous.size() == size; " + "\n" +
+                "List<T> result = reuse ? previous : new ArrayList<T>(size); " + "\n" +
+                "int index = 0; " + "\n" +
+                "for (Builder<? extends T> source : list) { " + "\n" +
+                "  T item = source.build(); " + "\n" +
+                "  if (reuse) { " + "\n" +
+                "    if (previous.get(index) == item) { " + "\n" +
+                "      index++; " + "\n" +
+                "      continue; " + "\n" +
+                "    } " + "\n" +
+                "    reuse = false; " + "\n" +
+                "    result = new ArrayList<T>(size); " + "\n" +
+                "    result.addAll(previous.subList(0, index)); " + "\n" +
+                "  } " + "\n" +
+                "  result.add(item); " + "\n" +
+                "  index++; " + "\n" +
+                "} " + "\n" +
+                "return result; " + "\n")
+        .endBlock()
+        .addToAttributes(ALSO_IMPORT, Collections.ARRAY_LIST.toInternalReference())
+        .endMethod()
+
+        .addNewMethod()
+        .withModifiers(modifiersToInt(Modifier.PUBLIC, Modifier.STATIC))
+        .withName("indexOf")
+        .withReturnType(io.sundr.model.utils.Types.PRIMITIVE_INT_REF)
+        .addNewArgument()
+        .withTypeRef(Collections.LIST.toReference(new WildcardRef()))
+        .withName("list")
+        .endArgument()
+        .addNewArgument()
+        .withTypeRef(io.sundr.model.utils.Types.OBJECT_REF)
+        .withName("item")
+        .endArgument()
+        .withNewBlock()
+        .addNewStringStatementStatement(
+            "for (int i = 0; i < list.size(); i++) { " + "\n" +
+                "  if (list.get(i) == item) { " + "\n" +
+                "    return i; " + "\n" +
+                "  } " + "\n" +
+                "} " + "\n" +
+                "return list.indexOf(item); " + "\n")
+        .endBlock()
+        .endMethod()
+
         .addNewMethod()
         .withModifiers(modifiersToInt(Modifier.PUBLIC, Modifier.STATIC))
         .withName("aggregate")
@@ -717,18 +870,8 @@ public class BuilderContext {
         .endArgument()
         .withNewBlock()
         .addNewStringStatementStatement(
-            "for (java.lang.reflect.Method method : visitor.getClass().getMethods()) {" + "\n" +
-                "  if (!method.getName().equals(VISIT) || method.getParameterTypes().length != 1) {" + "\n" +
-                "    continue;" + "\n" +
-                "  }" + "\n" +
-                "  Class visitorType = method.getParameterTypes()[0];" + "\n" +
-                "  if (visitorType.isAssignableFrom(fluent.getClass())) {" + "\n" +
-                "    return true;" + "\n" +
-                "  } else {" + "\n" +
-                "    return false;" + "\n" +
-                "  }" + "\n" +
-                "}" + "\n" +
-                "return false;")
+            "ClassValue<Boolean> compatible = VISIT_DISPATCH.get(visitor.getClass());" + "\n" +
+                "return compatible != null && compatible.get(fluent.getClass());")
         .endBlock()
         .endMethod()
 
@@ -743,7 +886,25 @@ public class BuilderContext {
         .withVarArgPreferred(true)
         .withNewBlock()
         .addNewStringStatementStatement(
-            "return isPathAwareVisitorArray(visitors) ? acceptPathAware(asPathAwareVisitorArray(visitors)) : acceptInternal(visitors);")
+            "return acceptInternal(nextPathAware(visitors));")
+        .endBlock()
+        .endMethod()
+
+        .addNewMethod()
+        .withModifiers(modifiersToInt(Modifier.PUBLIC))
+        .withName("acceptSequentially")
+        .withReturnType(F.toReference())
+        .addNewArgument()
+        .withName("visitors")
+        .withTypeRef(new ClassRefBuilder().withFullyQualifiedName(Visitor.class.getName()).withDimensions(1).build())
+        .endArgument()
+        .withVarArgPreferred(true)
+        .withNewBlock()
+        .addNewStringStatementStatement(
+            "for (Visitor visitor : visitors) {" + "\n" +
+                "  accept(visitor);" + "\n" +
+                "}" + "\n" +
+                "return (F) this;")
         .endBlock()
         .endMethod()
 
@@ -777,6 +938,14 @@ public class BuilderContext {
         .endBlock()
         .endMethod()
 
+        .addNewMethod()
+        .withModifiers(modifiersToInt(Modifier.PROTECTED))
+        .withName("materialize")
+        .withReturnType(new VoidRef())
+        .withNewBlock()
+        .endBlock()
+        .endMethod()
+
         .addNewMethod()
         .withModifiers(modifiersToInt(Modifier.PUBLIC))
         .withName("acceptInternal")
@@ -788,11 +957,10 @@ public class BuilderContext {
         .withVarArgPreferred(true)
         .withNewBlock()
         .addNewStringStatementStatement(
-            "for (Visitor visitor : visitors) {" + "\n" +
-                "  for (Visitable visitable : _visitables) {" + "\n" +
-                "    visitable.accept(visitor);" + "\n" +
-                "  }" + "\n" +
-                "" + "\n" +
+            "modCount++;" + "\n" +
+                "materialize();" + "\n" +
+                "_visitables.forEach(visitable -> visitable.accept(visitors));" + "\n" +
+                "for (Visitor visitor : visitors) {" + "\n" +
                 "  if (canVisit(visitor, this)) {" + "\n" +
                 "    visitor.visit(this);" + "\n" +
                 "  }" + "\n" +
@@ -802,23 +970,112 @@ public class BuilderContext {
         .endMethod()
 
         .addNewMethod()
-        .withModifiers(modifiersToInt(Modifier.PRIVATE))
-        .withName("acceptPathAware")
+        .withModifiers(modifiersToInt(Modifier.PUBLIC))
+        .withName("acceptParallel")
         .withReturnType(F.toReference())
         .addNewArgument()
-        .withTypeRef(new ClassRefBuilder(pathAwareVisitorClass.toReference()).withDimensions(1).build())
-        .withName("pathAwareTypedVisitors")
+        .withName("visitors")
+        .withTypeRef(new ClassRefBuilder(visitorInterface.toReference()).withDimensions(1).build())
+        .endArgument()
+        .withVarArgPreferred(true)
+        .withNewBlock()
+        .addNewStringStatementStatement(
+            "return acceptParallel(ForkJoinPool.commonPool(), DEFAULT_PARALLELISM_THRESHOLD, visitors);")
+        .endBlock()
+        .endMethod()
+
+        .addNewMethod()
+        .withModifiers(modifiersToInt(Modifier.PUBLIC))
+        .withName("acceptParallel")
+        .withReturnType(F.toReference())
+        .addNewArgument()
+        .withName("pool")
+        .withTypeRef(ClassRef.forName(ForkJoinPool.class.getName()))
+        .endArgument()
+        .addNewArgument()
+        .withName("threshold")
+        .withTypeRef(io.sundr.model.utils.Types.PRIMITIVE_INT_REF)
+        .endArgument()
+        .addNewArgument()
+        .withName("visitors")
+        .withTypeRef(new ClassRefBuilder(visitorInterface.toReference()).withDimensions(1).build())
+        .endArgument()
+        .withVarArgPreferred(true)
+        .withNewBlock()
+        .addNewStringStatementStatement(
+            "if (!areThreadSafe(visitors)) {" + "\n" +
+                "  return accept(visitors);" + "\n" +
+                "}" + "\n" +
+                "pool.invoke(ForkJoinTask.adapt(() -> acceptParallel(threshold, visitors)));" + "\n" +
+                "return (F) this;")
+        .endBlock()
+        .endMethod()
+
+        .addNewMethod()
+        .withModifiers(modifiersToInt(Modifier.PRIVATE))
+        .withName("acceptParallel")
+        .withReturnType(new VoidRef())
+        .addNewArgument()
+        .withName("threshold")
+        .withTypeRef(io.sundr.model.utils.Types.PRIMITIVE_INT_REF)
+        .endArgument()
+        .addNewArgument()
+        .withName("visitors")
+        .withTypeRef(new ClassRefBuilder(visitorInterface.toReference()).withDimensions(1).build())
+        .endArgument()
+        .withVarArgPreferred(true)
+        .withNewBlock()
+        .addNewStringStatementStatement(
+            "modCount++;" + "\n" +
+                "materialize();" + "\n" +
+                "List<Visitable<?>> visitables = _visitables.aggregate();" + "\n" +
+                "if (visitables.size() >= threshold) {" + "\n" +
+                "  ForkJoinTask.invokeAll(visitables.stream()" + "\n" +
+                "      .map(v -> ForkJoinTask.adapt(() -> acceptParallel(v, threshold, visitors)))" + "\n" +
+                "      .collect(Collectors.toList()));" + "\n" +
+                "} else {" + "\n" +
+                "  for (Visitable visitable : visitables) {" + "\n" +
+                "    acceptParallel(visitable, threshold, visitors);" + "\n" +
+                "  }" + "\n" +
+                "}" + "\n" +
+                "for (Visitor visitor : visitors) {" + "\n" +
+                "  if (canVisit(visitor, this)) {" + "\n" +
+                "    visitor.visit(this);" + "\n" +
+                "  }" + "\n" +
+                "}")
+        .endBlock()
+        .endMethod()
+
+        .addNewMethod()
+        .withModifiers(modifiersToInt(Modifier.PRIVATE, Modifier.STATIC))
+        .withName("acceptParallel")
+        .withReturnType(new VoidRef())
+        .addNewArgument()
+        .withName("visitable")
+        .withTypeRef(visitableInterface.toReference())
+        .endArgument()
+        .addNewArgument()
+        .withName("threshold")
+        .withTypeRef(io.sundr.model.utils.Types.PRIMITIVE_INT_REF)
+        .endArgument()
+        .addNewArgument()
+        .withName("visitors")
+        .withTypeRef(new ClassRefBuilder(visitorInterface.toReference()).withDimensions(1).build())
         .endArgument()
         .withVarArgPreferred(true)
         .withNewBlock()
         .addNewStringStatementStatement(
-            "return acceptInternal(Arrays.stream(pathAwareTypedVisitors).map(p -> p.next(this)).toArray(size -> new PathAwareTypedVisitor[size]));")
+            "if (visitable instanceof BaseFluent) {" + "\n" +
+                "  ((BaseFluent<?>) visitable).acceptParallel(threshold, visitors);" + "\n" +
+                "} else {" + "\n" +
+                "  visitable.accept(visitors);" + "\n" +
+                "}")
         .endBlock()
         .endMethod()
 
         .addNewMethod()
         .withModifiers(modifiersToInt(Modifier.PRIVATE, Modifier.STATIC))
-        .withName("isPathAwareVisitorArray")
+        .withName("areThreadSafe")
         .withReturnType(io.sundr.model.utils.Types.PRIMITIVE_BOOLEAN_REF)
         .addNewArgument()
         .withTypeRef(new ClassRefBuilder(visitorInterface.toReference()).withDimensions(1).build())
@@ -826,27 +1083,39 @@ public class BuilderContext {
         .endArgument()
         .withNewBlock()
         .addNewStringStatementStatement(
-            "return !Arrays.stream(visitors).filter(v -> !(v instanceof PathAwareTypedVisitor)).findAny().isPresent();")
+            "return Arrays.stream(visitors).allMatch(v -> v instanceof Visitor.ThreadSafe && !(v instanceof PathAwareTypedVisitor));")
         .endBlock()
         .endMethod()
 
         .addNewMethod()
-        .withModifiers(modifiersToInt(Modifier.PRIVATE, Modifier.STATIC))
-        .withName("asPathAwareVisitorArray")
-        .withReturnType(new ClassRefBuilder(pathAwareVisitorClass.toReference()).withDimensions(1).build())
+        .withModifiers(modifiersToInt(Modifier.PRIVATE))
+        .withName("nextPathAware")
+        .withReturnType(new ClassRefBuilder(visitorInterface.toReference()).withDimensions(1).build())
         .addNewArgument()
         .withTypeRef(new ClassRefBuilder(visitorInterface.toReference()).withDimensions(1).build())
         .withName("visitors")
         .endArgument()
+        .withVarArgPreferred(true)
         .withNewBlock()
         .addNewStringStatementStatement(
-            "return Arrays.stream(visitors).filter(v -> v instanceof PathAwareTypedVisitor).map(v -> (PathAwareTypedVisitor) v).toArray(size -> new PathAwareTypedVisitor[size]);")
+            "Visitor[] next = visitors;" + "\n" +
+                "for (int i = 0; i < visitors.length; i++) {" + "\n" +
+                "  if (visitors[i] instanceof PathAwareTypedVisitor) {" + "\n" +
+                "    if (next == visitors) {" + "\n" +
+                "      next = visitors.clone();" + "\n" +
+                "    }" + "\n" +
+                "    next[i] = ((PathAwareTypedVisitor) visitors[i]).next(this);" + "\n" +
+                "  }" + "\n" +
+                "}" + "\n" +
+                "return next;")
         .endBlock()
         .endMethod()
         .addToAttributes(ALSO_IMPORT, new LinkedHashSet<>(Arrays.asList(
             ClassRef.forName(Collectors.class.getName()),
             ClassRef.forName(Objects.class.getName()),
-            ClassRef.forName(Arrays.class.getName()))))
+            ClassRef.forName(Arrays.class.getName()),
+            ClassRef.forName(ForkJoinPool.class.getName()),
+            ClassRef.forName(ForkJoinTask.class.getName()))))
         .accept(new ReplacePackage("io.sundr.builder", builderPackage))
         .build();
 
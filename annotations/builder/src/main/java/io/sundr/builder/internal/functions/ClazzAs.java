@@ -21,13 +21,16 @@ import static io.sundr.builder.internal.utils.BuilderUtils.*;
 import static io.sundr.model.utils.Types.isAbstract;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.lang.model.element.Modifier;
 
@@ -40,6 +43,7 @@ import io.sundr.builder.internal.BuilderContext;
 import io.sundr.builder.internal.BuilderContextManager;
 import io.sundr.builder.internal.utils.BuilderUtils;
 import io.sundr.builder.internal.visitors.InitEnricher;
+import io.sundr.functions.Singularize;
 import io.sundr.model.AnnotationRef;
 import io.sundr.model.ClassRef;
 import io.sundr.model.ClassRefBuilder;
@@ -210,14 +214,9 @@ public class ClazzAs {
       //The generic letter is always the last
       final TypeParamDef genericType = fluentImplType.getParameters().get(fluentImplType.getParameters().size() - 1);
 
-      Method emptyConstructor = new MethodBuilder().withModifiers(Types.modifiersToInt(Modifier.PUBLIC)).build();
-
-      Method instanceConstructor = new MethodBuilder().withModifiers(Types.modifiersToInt(Modifier.PUBLIC)).addNewArgument()
-          .withTypeRef(item.toInternalReference()).withName("instance").and().withNewBlock()
-          .withStatements(toInstanceConstructorBody(item, item, "")).endBlock().build();
-
-      constructors.add(emptyConstructor);
-      constructors.add(instanceConstructor);
+      final List<Property> lazyProperties = new ArrayList<Property>();
+      //Fields that only hold copies or cached values, and are not part of equals and hashCode.
+      final List<Property> cacheFields = new ArrayList<Property>();
 
       Map<String, Property> itemProperties = item.getProperties().stream().collect(Collectors.toMap(Property::getName, p -> p));
       for (final Property property : item.getAllProperties()) {
@@ -254,6 +253,10 @@ public class ClazzAs {
         Set<Property> descendants = Descendants.PROPERTY_BUILDABLE_DESCENDANTS.apply(toAdd);
         toAdd = new PropertyBuilder(toAdd).addToAttributes(DESCENDANTS, descendants).accept(new InitEnricher()).build();
 
+        //Nested buildables copied from an instance are only turned into builders, when first needed.
+        boolean isLazy = !isInherited && !isArray && !isMap && !isOptional && (isBuildable || !descendants.isEmpty());
+        int firstMethod = methods.size();
+
         if (isArray) {
           Property asList = arrayAsList(toAdd);
           methods.add(ToMethod.WITH_ARRAY.apply(toAdd));
@@ -332,8 +335,36 @@ public class ClazzAs {
         } else {
           properties.add(buildableField(toAdd));
         }
+
+        if (isLazy) {
+          final Property lazyProperty = toAdd;
+          List<Method> propertyMethods = methods.subList(firstMethod, methods.size());
+          propertyMethods.replaceAll(m -> deferUntilNeeded(lazyProperty, m));
+          propertyMethods.add(toMaterializeMethod(lazyProperty));
+          lazyProperties.add(lazyProperty);
+          cacheFields.add(lazyField(lazyProperty));
+        }
+        if (isList) {
+          ToMethod.builtField(toAdd).ifPresent(built -> {
+            cacheFields.add(built);
+            cacheFields.add(ToMethod.builtModCountField(built));
+          });
+        }
       }
 
+      //Every method that returns the fluent modifies it, so let builders know that what they built is out of date.
+      final TypeRef fluentRef = genericType.toReference();
+      methods.replaceAll(m -> fluentRef.equals(m.getReturnType()) && m.getBlock() != null ? countModification(m) : m);
+
+      Method emptyConstructor = new MethodBuilder().withModifiers(Types.modifiersToInt(Modifier.PUBLIC)).build();
+
+      Method instanceConstructor = new MethodBuilder().withModifiers(Types.modifiersToInt(Modifier.PUBLIC)).addNewArgument()
+          .withTypeRef(item.toInternalReference()).withName("instance").and().withNewBlock()
+          .withStatements(toInstanceConstructorBody(item, item, "", lazyProperties)).endBlock().build();
+
+      constructors.add(emptyConstructor);
+      constructors.add(instanceConstructor);
+
       Method equals = new MethodBuilder().withModifiers(Types.modifiersToInt(Modifier.PUBLIC))
           .withReturnType(Types.PRIMITIVE_BOOLEAN_REF).addNewArgument().withName("o")
           .withTypeRef(Types.OBJECT.toReference()).endArgument().withName("equals").withNewBlock()
@@ -357,19 +388,57 @@ public class ClazzAs {
           // }))
           .build();
 
+      if (!lazyProperties.isEmpty()) {
+        methods.add(new MethodBuilder().withModifiers(Types.modifiersToInt(Modifier.PROTECTED))
+            .withReturnType(Types.VOID).withName("materialize").withNewBlock()
+            .addNewStringStatementStatement("super.materialize();")
+            .addAllToStatements(lazyProperties.stream()
+                .map(p -> new StringStatement("materialize" + p.getNameCapitalized() + "();"))
+                .collect(Collectors.toList()))
+            .endBlock()
+            .build());
+        //Compare the copied values when both have them, and the builders otherwise, as a copied value is never equal to the
+        //builders it turns into.
+        Map<String, Property> fields = properties.stream().collect(Collectors.toMap(Property::getName, p -> p, (a, b) -> a));
+        Set<String> lazyNames = lazyProperties.stream().map(Property::getName).collect(Collectors.toSet());
+        List<Statement> equalsStatements = new ArrayList<Statement>(BuilderUtils.toEquals(fluentImplType,
+            properties.stream().filter(p -> !lazyNames.contains(p.getName())).collect(Collectors.toList())));
+        Statement returnTrue = equalsStatements.remove(equalsStatements.size() - 1);
+        for (Property lazyProperty : lazyProperties) {
+          String lazy = lazyName(lazyProperty);
+          String materialized = "materialized" + lazyProperty.getNameCapitalized() + "()";
+          equalsStatements.add(new StringStatement("if (!(" + lazy + " != null && that." + lazy + " != null && java.util.Objects.equals("
+              + lazy + ", that." + lazy + ")) && !java.util.Objects.equals(" + materialized + ", that." + materialized
+              + ")) return false;"));
+          methods.add(toMaterializedMethod(fluentImplType, fields.get(lazyProperty.getName()), lazyProperty));
+          cacheFields.add(scratchField(fields.get(lazyProperty.getName()), lazyProperty));
+        }
+        equalsStatements.add(returnTrue);
+        equals = new MethodBuilder(equals).withNewBlock().withStatements(equalsStatements).endBlock().build();
+        hashCode = new MethodBuilder(hashCode).withNewBlock()
+            .addNewStringStatementStatement("return java.util.Objects.hash(" + Stream.concat(properties.stream()
+                .map(p -> lazyNames.contains(p.getName()) ? "materialized" + p.getNameCapitalized() + "()" : p.getName()),
+                Stream.of("super.hashCode()")).collect(Collectors.joining(",  ")) + ");")
+            .endBlock()
+            .build();
+      }
+
       methods.add(equals);
       methods.add(hashCode);
 
       return BuilderContextManager.getContext().getDefinitionRepository()
           .register(
               new TypeDefBuilder(fluentImplType).withComments("Generated").withAnnotations().withConstructors(constructors)
-                  .withProperties(properties).withInnerTypes(nestedClazzes).withMethods(methods).build());
+                  .withProperties(properties)
+                  .addAllToProperties(cacheFields)
+                  .withInnerTypes(nestedClazzes).withMethods(methods).build());
     }
   });
 
   public static final Function<RichTypeDef, TypeDef> BUILDER = FunctionFactory.wrap(new Function<RichTypeDef, TypeDef>() {
     public TypeDef apply(final RichTypeDef item) {
       final boolean validationEnabled = item.hasAttribute(VALIDATION_ENABLED) ? item.getAttribute(VALIDATION_ENABLED) : false;
+      final boolean buildCacheEnabled = isBuildCacheEnabled(item);
       final Modifier[] modifiers = item.isAbstract() ? new Modifier[] { Modifier.PUBLIC, Modifier.ABSTRACT }
           : new Modifier[] { Modifier.PUBLIC };
 
@@ -447,7 +516,7 @@ public class ClazzAs {
           .withName("instance").and().addNewArgument().withTypeRef(Types.BOOLEAN_REF)
           .withName("validationEnabled").and()
           .withNewBlock()
-          .addAllToStatements(toInstanceConstructorBody(item, item, "this"))
+          .addAllToStatements(toSuperInstanceConstructorBody())
           .addNewStringStatementStatement("this.validationEnabled = validationEnabled; ")
           .endBlock()
           .build();
@@ -510,7 +579,7 @@ public class ClazzAs {
       Method build = new MethodBuilder().withModifiers(Types.modifiersToInt(modifiers)).withReturnType(instanceRef)
           .withName("build")
           .withNewBlock()
-          .withStatements(toBuild(item, item))
+          .withStatements(toBuild(item, item, buildCacheEnabled))
           .endBlock()
           .build();
       methods.add(build);
@@ -533,6 +602,18 @@ public class ClazzAs {
       methods.add(equals);
       methods.add(hashCode);
 
+      //The instance built last, and the collections it was built from. These are not part of equals and hashCode.
+      if (buildCacheEnabled) {
+        fields.add(new PropertyBuilder().withModifiers(Types.modifiersToInt(Modifier.PRIVATE)).withTypeRef(instanceRef)
+            .withName("built").build());
+        if (toBuildArguments(item, new ArrayList<String>()).stream().anyMatch(ClazzAs::isModifiableInPlace)) {
+          fields.add(new PropertyBuilder().withModifiers(Types.modifiersToInt(Modifier.PRIVATE))
+              .withTypeRef(Types.OBJECT.toReference().withDimensions(1)).withName("builtArguments").build());
+        }
+        fields.add(new PropertyBuilder().withModifiers(Types.modifiersToInt(Modifier.PRIVATE))
+            .withTypeRef(Types.PRIMITIVE_INT_REF).withName("builtModCount").build());
+      }
+
       if (validationEnabled) {
         ClassRef validatorRef = new ClassRefBuilder().withFullyQualifiedName("javax.validation.Validator").build();
 
@@ -564,7 +645,7 @@ public class ClazzAs {
             .addNewArgument().withTypeRef(instanceRef).withName("instance").and().addNewArgument().withTypeRef(validatorRef)
             .withName("validator").and()
             .withNewBlock()
-            .withStatements(toInstanceConstructorBody(item, item, "this"))
+            .withStatements(toSuperInstanceConstructorBody())
             .addNewStringStatementStatement("this.validator = validator;")
             .addNewStringStatementStatement("this.validationEnabled = validator != null; ")
             .endBlock()
@@ -629,7 +710,14 @@ public class ClazzAs {
                   if (builder.getName() != null && builder.getName().equals("build")) {
                     builder.withModifiers(Types.modifiersToInt(modifiers));
                     builder.withReturnType(editable.toInternalReference());
-                    builder.withNewBlock().withStatements(toBuild(editable, editable)).endBlock();
+                    builder.withNewBlock().withStatements(toBuild(editable, editable, isBuildCacheEnabled(item)))
+                        .endBlock();
+                  }
+                }
+              }).accept(new TypedVisitor<PropertyBuilder>() {
+                public void visit(PropertyBuilder builder) {
+                  if ("built".equals(builder.getName())) {
+                    builder.withTypeRef(editable.toInternalReference());
                   }
                 }
               }).build();
@@ -745,6 +833,22 @@ public class ClazzAs {
   }
 
   private static List<Statement> toInstanceConstructorBody(TypeDef clazz, TypeDef instance, String fluent) {
+    return toInstanceConstructorBody(clazz, instance, fluent, Collections.emptyList());
+  }
+
+  /**
+   * Creates the statements that copy an instance into a fluent.
+   * The lazy properties are only kept as they are, and turned into builders when first needed.
+   *
+   * @param clazz the buildable class.
+   * @param instance the type of the instance to copy.
+   * @param fluent the name of the fluent to copy into, empty when copying into this.
+   * @param lazyProperties the properties of the fluent that are copied lazily.
+   * @return the list of statements.
+   */
+  private static List<Statement> toInstanceConstructorBody(TypeDef clazz, TypeDef instance, String fluent,
+      List<Property> lazyProperties) {
+    Set<String> lazy = lazyProperties.stream().map(Property::getName).collect(Collectors.toSet());
     Method constructor = findBuildableConstructor(clazz);
     List<Statement> statements = new ArrayList<Statement>();
     final String ref = fluent != null && !fluent.isEmpty() ? fluent : "this";
@@ -757,6 +861,10 @@ public class ClazzAs {
     for (Property property : constructor.getArguments()) {
       Optional<Method> getter = Getter.findOptional(instance, property);
       getter.ifPresent(g -> {
+        if (lazy.contains(property.getName())) {
+          statements.add(toLazyCopy(ref, property, g.getName()));
+          return;
+        }
         String cast = property.getTypeRef() instanceof TypeParamRef ? "(" + property.getTypeRef().toString() + ")" : "";
         statements.add(new StringStatement(new StringBuilder().append(ref).append(".with").append(property.getNameCapitalized())
             .append("(").append(cast).append("instance.").append(g.getName()).append("()); ").toString()));
@@ -772,7 +880,12 @@ public class ClazzAs {
     while (target != null && !Types.OBJECT.equals(target) && BuilderUtils.isBuildable(target)) {
       for (Property property : target.getProperties()) {
         if (!hasBuildableConstructorWithArgument(target, property) && Setter.has(target, property)) {
+          final boolean isLazy = target == clazz && lazy.contains(property.getName());
           Getter.findOptional(instance, property).map(Method::getName).ifPresent(getterName -> {
+            if (isLazy) {
+              statements.add(toLazyCopy(ref, property, getterName));
+              return;
+            }
             String withName = "with" + property.getNameCapitalized();
             statements.add(new StringStatement(new StringBuilder().append(ref).append(".").append(withName).append("(instance.")
                 .append(getterName).append("());\n").toString()));
@@ -790,23 +903,306 @@ public class ClazzAs {
     return statements;
   }
 
-  private static List<Statement> toBuild(final TypeDef clazz, final TypeDef instanceType) {
+  /**
+   * Copies an instance into a builder, through the instance constructor of the fluent the builder extends.
+   *
+   * @return the list of statements.
+   */
+  private static List<Statement> toSuperInstanceConstructorBody() {
+    List<Statement> statements = new ArrayList<Statement>();
+    statements.add(new StringStatement("super(instance);"));
+    statements.add(new StringStatement("this.fluent = this; "));
+    return statements;
+  }
+
+  private static Statement toLazyCopy(String ref, Property property, String getterName) {
+    String lazy = ref + "." + lazyName(property);
+    return new StringStatement(new StringBuilder()
+        .append(lazy).append(" = instance.").append(getterName).append("(); ")
+        .append("if (").append(lazy).append(" == null) { ")
+        .append(ref).append(".with").append(property.getNameCapitalized()).append("(").append(lazy).append("); }")
+        .toString());
+  }
+
+  private static String lazyName(Property property) {
+    return "lazy" + property.getNameCapitalized();
+  }
+
+  /**
+   * The field that holds the value of a lazy property, as copied from the instance.
+   */
+  private static Property lazyField(Property property) {
+    return new PropertyBuilder().withName(lazyName(property)).withTypeRef(property.getTypeRef())
+        .withModifiers(Types.modifiersToInt(Modifier.PRIVATE)).build();
+  }
+
+  private static String scratchName(Property property) {
+    return "scratch" + property.getNameCapitalized();
+  }
+
+  /**
+   * The field that holds the builders of the copied value of a lazy property, as compared by equals and hashCode.
+   */
+  private static Property scratchField(Property field, Property property) {
+    return new PropertyBuilder().withName(scratchName(property)).withTypeRef(field.getTypeRef())
+        .withModifiers(Types.modifiersToInt(Modifier.PRIVATE)).build();
+  }
+
+  private static boolean isBuildCacheEnabled(TypeDef item) {
+    return item.hasAttribute(BUILD_CACHE_ENABLED) ? item.getAttribute(BUILD_CACHE_ENABLED) : false;
+  }
+
+  private static Method countModification(Method method) {
+    return new MethodBuilder(method).withNewBlock()
+        .addNewStringStatementStatement("this.modCount++;")
+        .addAllToStatements(method.getBlock().getStatements())
+        .endBlock()
+        .build();
+  }
+
+  /**
+   * Checks if the getter of the specified property hands out the collection or map that the fluent holds, rather than a
+   * copy of it. Maps are always handed out as they are, and so are collections, unless they hold buildables.
+   */
+  private static boolean isModifiableInPlace(Property property) {
+    TypeRef type = property.getTypeRef();
+    if (Types.isMap(type)) {
+      return true;
+    }
+    if (!Types.isList(type) && !Types.isSet(type)) {
+      return false;
+    }
+    TypeRef unwrapped = TypeAs.UNWRAP_COLLECTION_OF.apply(type);
+    return !isBuildable(unwrapped) && Descendants.PROPERTY_BUILDABLE_DESCENDANTS.apply(property).isEmpty();
+  }
+
+  /**
+   * Returns the expression that copies the specified collection or map.
+   */
+  private static String copyOf(TypeRef type, String value) {
+    String copy;
+    if (Types.isList(type)) {
+      copy = "new java.util.ArrayList<Object>((java.util.Collection<?>) " + value + ")";
+    } else if (Types.isSet(type)) {
+      copy = "new java.util.LinkedHashSet<Object>((java.util.Collection<?>) " + value + ")";
+    } else {
+      copy = "new java.util.LinkedHashMap<Object, Object>((java.util.Map<?, ?>) " + value + ")";
+    }
+    return value + " != null ? " + copy + " : null";
+  }
+
+  /**
+   * The method that turns the copied value of a lazy property into builders.
+   */
+  private static Method toMaterializeMethod(Property property) {
+    String lazy = "this." + lazyName(property);
+    return new MethodBuilder().withModifiers(Types.modifiersToInt(Modifier.PRIVATE)).withReturnType(Types.VOID)
+        .withName("materialize" + property.getNameCapitalized())
+        .withNewBlock()
+        .addNewStringStatementStatement("if (" + lazy + " != null) { " + property.getTypeRef() + " value = " + lazy + "; "
+            + lazy + " = null; this." + scratchName(property) + " = null; with" + property.getNameCapitalized()
+            + "(value); }")
+        .endBlock()
+        .build();
+  }
+
+  /**
+   * The method that returns the value of a lazy property as builders, without turning the copied value into builders.
+   * The builders are created once on a scratch fluent, so that equals and hashCode don't modify the fluents they compare.
+   */
+  private static Method toMaterializedMethod(TypeDef fluentImplType, Property field, Property property) {
+    String lazy = "this." + lazyName(property);
+    String scratch = "this." + scratchName(property);
+    String name = property.getName();
+    return new MethodBuilder().withModifiers(Types.modifiersToInt(Modifier.PRIVATE)).withReturnType(field.getTypeRef())
+        .withName("materialized" + property.getNameCapitalized())
+        .withNewBlock()
+        .addNewStringStatementStatement("if (" + lazy + " == null) { return this." + name + "; }")
+        .addNewStringStatementStatement("if (" + scratch + " == null) { " + fluentImplType.getName() + " scratch = new "
+            + fluentImplType.getName() + "(); scratch.with" + property.getNameCapitalized() + "(" + lazy + "); " + scratch
+            + " = (" + field.getTypeRef() + ") scratch." + name + "; }")
+        .addNewStringStatementStatement("return " + scratch + ";")
+        .endBlock()
+        .build();
+  }
+
+  /**
+   * Adapts a method of a lazy property, so that it works with the copied value.
+   * Getters return the copied value as is, or a read-only view of it, and setters discard it. Methods that only read the
+   * property answer from the copied value, and methods that only delegate to other methods of the property are left as
+   * they are. Everything else turns the copied value into builders first.
+   */
+  private static Method deferUntilNeeded(Property property, Method method) {
+    String name = property.getNameCapitalized();
+    String suffix = Singularize.FUNCTION.apply(name);
+    String lazy = "this." + lazyName(property);
+    TypeRef typeRef = property.getTypeRef();
+    boolean isList = Types.isList(typeRef);
+    boolean isCollection = isList || Types.isSet(typeRef);
+    String methodName = method.getName();
+    int arity = method.getArguments().size();
+    boolean isGetter = arity == 0 && (methodName.equals(Getter.name(property)) || methodName.equals("build" + name));
+    boolean isSetter = methodName.equals("with" + name) && arity == 1
+        && method.getArguments().get(0).getTypeRef().equals(typeRef);
+
+    List<Statement> first = new ArrayList<Statement>();
+    if (isGetter) {
+      String copy = lazy;
+      if (isCollection) {
+        copy = !Types.isAbstract(typeRef) ? "new " + ((ClassRef) typeRef).getName() + "<>(" + lazy + ")"
+            : "java.util.Collections.unmodifiable" + (isList ? "List" : "Set") + "(" + lazy + ")";
+      }
+      first.add(new StringStatement("if (" + lazy + " != null) { return " + copy + "; }"));
+    } else if (isSetter) {
+      first.add(new StringStatement(lazy + " = null; this." + scratchName(property) + " = null;"));
+    } else if (methodName.equals("has" + name) && arity == 0) {
+      first.add(new StringStatement("if (" + lazy + " != null) { return " + (isCollection ? "!" + lazy + ".isEmpty()" : "true")
+          + "; }"));
+    } else if (isCollection && arity == 1
+        && (methodName.equals("hasMatching" + suffix) || methodName.equals("buildMatching" + suffix))) {
+      boolean has = methodName.startsWith("has");
+      first.add(new StringStatement("if (" + lazy + " != null) { for (" + TypeAs.UNWRAP_COLLECTION_OF.apply(typeRef)
+          + " item : " + lazy + ") { if (" + method.getArguments().get(0).getName() + ".test(" + builderOf(property, "item")
+          + ")) { return " + (has ? "true" : "item") + "; } } return " + (has ? "false" : "null") + "; }"));
+    } else if (isList && arity == 1 && methodName.equals("build" + suffix)) {
+      first.add(new StringStatement("if (" + lazy + " != null) { return " + lazy + ".get(index); }"));
+    } else if (isList && arity == 0 && methodName.equals("buildFirst" + suffix)) {
+      first.add(new StringStatement("if (" + lazy + " != null) { return " + lazy + ".get(0); }"));
+    } else if (isList && arity == 0 && methodName.equals("buildLast" + suffix)) {
+      first.add(new StringStatement("if (" + lazy + " != null) { return " + lazy + ".get(" + lazy + ".size() - 1); }"));
+    } else if (isList && arity == 1 && methodName.equals("edit" + suffix)) {
+      first.add(new StringStatement("if (" + lazy + " != null && index < " + lazy + ".size()) { return setNew" + suffix
+          + "Like(index, " + lazy + ".get(index)); }"));
+    } else if (isList && arity == 0 && methodName.equals("editFirst" + suffix)) {
+      first.add(new StringStatement("if (" + lazy + " != null && !" + lazy + ".isEmpty()) { return setNew" + suffix
+          + "Like(0, " + lazy + ".get(0)); }"));
+    } else if (isList && arity == 0 && methodName.equals("editLast" + suffix)) {
+      first.add(new StringStatement("if (" + lazy + " != null && !" + lazy + ".isEmpty()) { return setNew" + suffix
+          + "Like(" + lazy + ".size() - 1, " + lazy + ".get(" + lazy + ".size() - 1)); }"));
+    } else if (isList && arity == 1 && methodName.equals("editMatching" + suffix)) {
+      first.add(new StringStatement("if (" + lazy + " != null) { for (int i = 0; i < " + lazy + ".size(); i++) { if ("
+          + method.getArguments().get(0).getName() + ".test(" + builderOf(property, lazy + ".get(i)")
+          + ")) { return setNew" + suffix + "Like(i, " + lazy + ".get(i)); } } }"));
+    }
+    //Unless answered from the copied value, methods that use the builders need them to be there.
+    if (!isGetter && !isSetter && usesField(property, method)) {
+      first.add(new StringStatement("materialize" + name + "();"));
+    }
+
+    return new MethodBuilder(method).withNewBlock()
+        .addAllToStatements(first)
+        .addAllToStatements(method.getBlock().getStatements())
+        .endBlock()
+        .build();
+  }
+
+  /**
+   * Checks if the body of the specified method uses the field of the property, or its visitables, rather than only
+   * delegating to other methods.
+   */
+  private static boolean usesField(Property property, Method method) {
+    //Either the field itself or its key in the visitables, but not a package of the same name.
+    String name = Pattern.quote(property.getName());
+    Pattern field = Pattern.compile("(?<![\\w.])" + name + "\\b|\\bthis\\." + name + "\\b");
+    return method.getBlock().getStatements().stream()
+        .anyMatch(s -> !(s instanceof StringStatement) || field.matcher(s.toString()).find());
+  }
+
+  /**
+   * Returns the expression that creates a builder for an item of a lazy collection, as passed to predicates.
+   */
+  private static String builderOf(Property property, String item) {
+    TypeRef unwrapped = TypeAs.UNWRAP_COLLECTION_OF.apply(property.getTypeRef());
+    Set<Property> descendants = property.hasAttribute(DESCENDANTS) ? property.getAttribute(DESCENDANTS)
+        : Collections.emptySet();
+    if (isBuildable(unwrapped) && !isAbstract(unwrapped) && descendants.isEmpty()) {
+      return "new " + ((ClassRef) unwrapped).getFullyQualifiedName() + "Builder(" + item + ")";
+    }
+    return "builderOf(" + item + ")";
+  }
+
+  /**
+   * Creates the body of build().
+   * When cached, the instance is returned as is while the fluent has not been modified. Collections and maps that the
+   * fluent hands out as they are, may have been modified in place without the fluent knowing, so they are kept along with
+   * the instance and compared as well.
+   */
+  private static List<Statement> toBuild(final TypeDef clazz, final TypeDef instanceType, boolean cached) {
     Method constructor = findBuildableConstructor(clazz);
     List<Statement> statements = new ArrayList<Statement>();
+    List<String> setters = new ArrayList<String>();
+    List<Property> arguments = toBuildArguments(clazz, setters);
+    List<Property> compared = cached
+        ? arguments.stream().filter(ClazzAs::isModifiableInPlace).collect(Collectors.toList())
+        : Collections.emptyList();
+
+    int ctorArgs = constructor.getArguments().size();
+    Function<Integer, String> valueOf = new Function<Integer, String>() {
+      public String apply(Integer index) {
+        Property argument = arguments.get(index);
+        int i = compared.indexOf(argument);
+        return i >= 0 ? "(" + argument.getTypeRef() + ") arguments[" + i + "]" : "fluent." + Getter.name(argument) + "()";
+      }
+    };
+
+    List<String> builtArguments = new ArrayList<String>();
+    if (cached) {
+      StringBuilder unchanged = new StringBuilder("fluent == this && built != null && builtModCount == modCount");
+      for (int i = 0; i < compared.size(); i++) {
+        builtArguments.add(copyOf(compared.get(i).getTypeRef(), "arguments[" + i + "]"));
+        unchanged.append(" && java.util.Objects.equals(arguments[" + i + "], builtArguments[" + i + "])");
+      }
+      if (!compared.isEmpty()) {
+        statements.add(new StringStatement("Object[] arguments = new Object[] {" + Strings.join(compared,
+            new Function<Property, String>() {
+              public String apply(Property item) {
+                return "fluent." + Getter.name(item) + "()";
+              }
+            }, ", ") + "};"));
+      }
+      statements.add(new StringStatement("if (" + unchanged + ") { return built; }"));
+    }
 
-    statements.add(new StringStatement(new StringBuilder()
-        .append(instanceType.getName()).append(" buildable = new ").append(instanceType.getName()).append("(")
-        .append(Strings.join(constructor.getArguments(), new Function<Property, String>() {
-          public String apply(Property item) {
-            return "fluent." + Getter.name(item) + "()";
-          }
-        }, ","))
-        .append(");")
-        .toString()));
+    StringBuilder instantiation = new StringBuilder()
+        .append(instanceType.getName()).append(" buildable = new ").append(instanceType.getName()).append("(");
+    for (int i = 0; i < ctorArgs; i++) {
+      instantiation.append(i > 0 ? "," : "").append(valueOf.apply(i));
+    }
+    statements.add(new StringStatement(instantiation.append(");").toString()));
 
-    TypeDef target = clazz;
+    for (int i = ctorArgs; i < arguments.size(); i++) {
+      statements.add(new StringStatement("buildable." + setters.get(i - ctorArgs) + "(" + valueOf.apply(i) + ");"));
+    }
+
+    BuilderContext context = BuilderContextManager.getContext();
+    if (context.isExternalvalidatorSupported()) {
+      statements.add(new StringStatement(
+          "if (validationEnabled) {" + context.getBuilderPackage() + ".ValidationUtils.validate(buildable, validator);}"));
+    } else if (context.isValidationEnabled()) {
+      statements.add(new StringStatement(
+          "if (validationEnabled) {" + context.getBuilderPackage() + ".ValidationUtils.validate(buildable);}"));
+    }
+    if (cached) {
+      statements.add(new StringStatement("if (fluent == this) { this.built = buildable; " + (compared.isEmpty() ? ""
+          : "this.builtArguments = new Object[] {" + Strings.join(builtArguments, ", ") + "}; ")
+          + "this.builtModCount = modCount; }"));
+    }
+    statements.add(new StringStatement("return buildable;"));
+    return statements;
+  }
+
+  /**
+   * Finds the values that build() passes to the instance: the arguments of the buildable constructor, followed by the
+   * properties that are only set through setters.
+   *
+   * @param clazz the buildable class.
+   * @param setters the list to add the names of the setters to, one for each property after the constructor arguments.
+   * @return the list of properties.
+   */
+  private static List<Property> toBuildArguments(TypeDef clazz, List<String> setters) {
+    List<Property> arguments = new ArrayList<Property>(findBuildableConstructor(clazz).getArguments());
     List<TypeDef> parents = new ArrayList<TypeDef>();
-    Types.visitParents(target, parents);
+    Types.visitParents(clazz, parents);
     for (TypeDef c : parents) {
       if (!isBuildable(c)) {
         continue;
@@ -820,25 +1216,12 @@ public class ClazzAs {
           continue; // no setter found nothing to set
         }
         if (!hasBuildableConstructorWithArgument(c, property)) {
-          String getterName = Getter.name(property);
-          statements.add(new StringStatement(new StringBuilder()
-              .append("buildable.").append(setter.getName()).append("(fluent.").append(getterName).append("());")
-              .toString()));
-
+          arguments.add(property);
+          setters.add(setter.getName());
         }
       }
     }
-
-    BuilderContext context = BuilderContextManager.getContext();
-    if (context.isExternalvalidatorSupported()) {
-      statements.add(new StringStatement(
-          "if (validationEnabled) {" + context.getBuilderPackage() + ".ValidationUtils.validate(buildable, validator);}"));
-    } else if (context.isValidationEnabled()) {
-      statements.add(new StringStatement(
-          "if (validationEnabled) {" + context.getBuilderPackage() + ".ValidationUtils.validate(buildable);}"));
-    }
-    statements.add(new StringStatement("return buildable;"));
-    return statements;
+    return arguments;
   }
 
   private static Method superConstructorOf(Method constructor, TypeDef constructorType) {
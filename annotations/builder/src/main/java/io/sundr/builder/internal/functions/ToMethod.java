@@ -69,6 +69,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.Function;
@@ -285,10 +286,9 @@ class ToMethod {
         fieldName = descendantOf.getName();
       }
 
-      if (isBuildable(unwrapped)) {
+      if (isBuildable(unwrapped) || !descendants.isEmpty()) {
         if (IS_COLLECTION.apply(type)) {
-          statements.add(new StringStatement("if (this." + fieldName + " != null) { _visitables.get(\"" + fieldName
-              + "\").removeAll(this." + fieldName + ");}"));
+          statements.add(new StringStatement("_visitables.get(\"" + fieldName + "\").clear();"));
         } else if (IS_MAP.apply(type)) {
           // There is no such thing as buildable map yet.
         } else {
@@ -301,6 +301,16 @@ class ToMethod {
             + fieldName + " = " + property.getAttribute(INIT_FUNCTION).apply(Collections.singletonList(fieldName))
             + ";} return (" + returnType + ") this;"));
         return statements;
+      } else if ((IS_LIST.apply(type) || IS_SET.apply(type)) && isBuildable(unwrapped) && !isAbstract(unwrapped)
+          && descendants.isEmpty()) {
+        //Create the builders in place, rather than adding each item through addTo, which is meant for single items.
+        String builderClass = ((ClassRef) unwrapped).getFullyQualifiedName() + "Builder";
+        statements.add(new StringStatement("if (" + argumentName + " != null) {this." + fieldName + " = "
+            + property.getAttribute(INIT_FUNCTION).apply(Collections.emptyList()) + "; final List visitables = _visitables.slot(\""
+            + fieldName + "\"); for (" + unwrapped.toString() + " item : " + argumentName + "){" + builderClass
+            + " builder = new " + builderClass + "(item); visitables.add(builder); this." + fieldName
+            + ".add(builder);}} else { this." + fieldName + " = null;} return (" + returnType + ") this;"));
+        return statements;
       } else if (IS_LIST.apply(type) || IS_SET.apply(type)) {
         String addToMethodName = "addTo" + property.getNameCapitalized();
         statements.add(new StringStatement("if (" + argumentName + " != null) {this." + fieldName + " = "
@@ -315,7 +325,7 @@ class ToMethod {
         String builderClass = builder.toReference().getFullyQualifiedName();
         statements.add(new StringStatement(
             "if (" + argumentName + "!=null){ this." + fieldName + "= new " + builderClass + "(" + argumentName
-                + "); _visitables.get(\"" + fieldName + "\").add(this." + fieldName + ");} return (" + returnType + ") this;"));
+                + "); _visitables.slot(\"" + fieldName + "\").add(this." + fieldName + ");} return (" + returnType + ") this;"));
         return statements;
       }
 
@@ -327,7 +337,7 @@ class ToMethod {
           TypeDef builder = BUILDER.apply(GetDefinition.of((ClassRef) dunwraped));
           TypeRef builderRef = builder.toUnboundedReference();
           statements.add(new StringStatement("if (" + argumentName + " instanceof " + dunwraped + "){ this." + fieldName
-              + "= new " + builderRef + "((" + dunwraped + ")" + argumentName + "); _visitables.get(\"" + fieldName
+              + "= new " + builderRef + "((" + dunwraped + ")" + argumentName + "); _visitables.slot(\"" + fieldName
               + "\").add(this." + fieldName + ");}"));
 
           alsoImport.add((ClassRef) dunwraped);
@@ -381,10 +391,10 @@ class ToMethod {
 
     if (isBuildable(unwrapped) && !isAbstract(unwrapped)) {
       TypeDef builder = BUILDER.apply(GetDefinition.of((ClassRef) unwrapped));
-      prepareSource = builder.getName() + " b = new " + builder.getName() + "(" + fieldName + "); _visitables.get(\""
+      prepareSource = builder.getName() + " b = new " + builder.getName() + "(" + fieldName + "); _visitables.slot(\""
           + fieldName + "\").add(b);";
       prepareOptionalSource = builder.getName() + " b = new " + builder.getName() + "(" + fieldName
-          + ".get()); _visitables.get(\"" + fieldName + "\").add(b);";
+          + ".get()); _visitables.slot(\"" + fieldName + "\").add(b);";
       optionalSource = "Optional.of(b)";
       source = "b";
     }
@@ -479,7 +489,9 @@ class ToMethod {
       comments.add("This method has been deprecated, please use method " + builderName + " instead.");
       comments.add("@return The buildable object.");
       if (isList || isSet) {
-        if (isAbstractList || isAbstractSet) {
+        if (builtField(property).isPresent()) {
+          statements.add(toReturnBuilt(property, builtField(property).get()));
+        } else if (isAbstractList || isAbstractSet) {
           statements.add(
               new StringStatement("return " + property.getName() + " != null ? build(" + property.getName() + ") : null;"));
         } else {
@@ -501,7 +513,9 @@ class ToMethod {
       annotations.add(DEPRECATED_ANNOTATION);
       comments.add("This method has been deprecated, please use method " + builderName + " instead.");
       comments.add("@return The buildable object.");
-      if (isList || isSet) {
+      if (builtField(property).isPresent()) {
+        statements.add(toReturnBuilt(property, builtField(property).get()));
+      } else if (isList || isSet) {
         statements.add(new StringStatement("return build(" + property.getName() + ");"));
       } else {
         statements.add(
@@ -698,15 +712,15 @@ class ToMethod {
                 .add(new StringStatement(
                     "for (" + ((ClassRef) unwrapped).getFullyQualifiedName() + " item : items) {" + builderClass
                         + " builder = new "
-                        + builderClass + "(item);_visitables.get(\"" + propertyName + "\").add(builder);this." + propertyName
+                        + builderClass + "(item);_visitables.slot(\"" + propertyName + "\").add(builder);this." + propertyName
                         + ".add(builder);} return (" + returnType + ")this;"));
 
             addSingleItemAtIndex = new MethodBuilder(addSingleItemAtIndex).withParameters(parameters).editBlock()
                 .withStatements(
                     new StringStatement("if (this." + propertyName + " == null) {this." + propertyName + " = "
                         + property.getAttribute(LAZY_INIT) + ";}"),
-                    new StringStatement(builderClass + " builder = new " + builderClass + "(item);_visitables.get(\""
-                        + propertyName + "\").add(index >= 0 ? index : _visitables.get(\"" + propertyName
+                    new StringStatement(builderClass + " builder = new " + builderClass + "(item);_visitables.slot(\""
+                        + propertyName + "\").add(index >= 0 ? index : _visitables.slot(\"" + propertyName
                         + "\").size(), builder);this." + propertyName + ".add(index >= 0 ? index : " + propertyName
                         + ".size(), builder); return (" + returnType + ")this;"))
                 .endBlock().build();
@@ -716,8 +730,8 @@ class ToMethod {
                     new StringStatement("if (this." + propertyName + " == null) {this." + propertyName + " = "
                         + property.getAttribute(LAZY_INIT) + ";}"),
                     new StringStatement(builderClass + " builder = new " + builderClass + "(item);"),
-                    new StringStatement("if (index < 0 || index >= _visitables.get(\"" + propertyName
-                        + "\").size()) { _visitables.get(\"" + propertyName + "\").add(builder); } else { _visitables.get(\""
+                    new StringStatement("if (index < 0 || index >= _visitables.slot(\"" + propertyName
+                        + "\").size()) { _visitables.slot(\"" + propertyName + "\").add(builder); } else { _visitables.slot(\""
                         + propertyName + "\").set(index, builder);}"),
                     new StringStatement("if (index < 0 || index >= " + propertyName + ".size()) { " + propertyName
                         + ".add(builder); } else { " + propertyName + ".set(index, builder);}"),
@@ -752,7 +766,7 @@ class ToMethod {
                 .addToStatements(
                     new StringStatement("if (this." + propertyName + " == null) {this." + propertyName + " = "
                         + property.getAttribute(LAZY_INIT) + ";}"),
-                    new StringStatement("_visitables.get(\"" + propertyName + "\").add(builder);this." + propertyName
+                    new StringStatement("_visitables.slot(\"" + propertyName + "\").add(builder);this." + propertyName
                         + ".add(builder); return (" + returnType + ")this;"))
                 .endBlock().build());
 
@@ -761,7 +775,7 @@ class ToMethod {
                 .addToStatements(
                     new StringStatement("if (this." + propertyName + " == null) {this." + propertyName + " = "
                         + property.getAttribute(LAZY_INIT) + ";}"),
-                    new StringStatement("_visitables.get(\"" + propertyName + "\").add(index, builder);this." + propertyName
+                    new StringStatement("_visitables.slot(\"" + propertyName + "\").add(index, builder);this." + propertyName
                         + ".add(index, builder); return (" + returnType + ")this;"))
                 .endBlock().build());
 
@@ -805,7 +819,7 @@ class ToMethod {
 
         private Statement createAddToDescendantsFallback(String type, String name) {
           return new StringStatement(
-              "else {  VisitableBuilder<? extends " + type + ",?> builder = builderOf(item); _visitables.get(\"" + name
+              "else {  VisitableBuilder<? extends " + type + ",?> builder = builderOf(item); _visitables.slot(\"" + name
                   + "\").add(builder);this." + name + ".add(builder); }");
         }
       });
@@ -851,9 +865,16 @@ class ToMethod {
             //We need to do it more elegantly
             alsoImport.add(BUILDER.apply(GetDefinition.of(targetType)).toInternalReference());
             alsoImport.add(LIST.toInternalReference());
-            statements.add(new StringStatement("for (" + targetClass + " item : items) {" + builderClass + " builder = new "
-                + builderClass + "(item);_visitables.get(\"" + propertyName + "\").remove(builder);if (this." + propertyName
-                + " != null) {this." + propertyName + ".remove(builder);}} return (" + returnType + ")this;"));
+            if (IS_LIST.apply(property.getTypeRef())) {
+              statements.add(new StringStatement("for (" + targetClass + " item : items) {" + builderClass
+                  + " builder = new " + builderClass + "(item);if (this." + propertyName + " != null) {"
+                  + removeFromList(propertyName) + "}} return (" + returnType + ")this;"));
+            } else {
+              statements.add(new StringStatement("for (" + targetClass + " item : items) {" + builderClass
+                  + " builder = new " + builderClass + "(item);_visitables.get(\"" + propertyName
+                  + "\").remove(builder);if (this." + propertyName + " != null) {this." + propertyName
+                  + ".remove(builder);}} return (" + returnType + ")this;"));
+            }
           } else if (!descendants.isEmpty()) {
             final ClassRef targetType = (ClassRef) unwrapped;
             parameters.addAll(GetDefinition.of(targetType).getParameters());
@@ -865,7 +886,8 @@ class ToMethod {
                   return "if (item instanceof " + className + "){" + removeFromMethodName + "((" + className + ")item);}\n";
                 }, " else ")));
 
-            statements.add(createRemoveFromDescendantsFallback(targetType.getFullyQualifiedName(), property.getName()));
+            statements.add(createRemoveFromDescendantsFallback(targetType.getFullyQualifiedName(), property.getName(),
+                IS_LIST.apply(property.getTypeRef())));
             statements.add(new StringStatement("} return (" + returnType + ")this;"));
 
             methods.add(new MethodBuilder().withModifiers(Types.modifiersToInt(Modifier.PUBLIC)).withParameters(parameters)
@@ -873,8 +895,10 @@ class ToMethod {
                 .addToStatements(
                     new StringStatement("if (this." + propertyName + " == null) {this." + propertyName + " = "
                         + property.getAttribute(LAZY_INIT) + ";}"),
-                    new StringStatement("_visitables.get(\"" + propertyName + "\").remove(builder);this." + propertyName
-                        + ".remove(builder); return (" + returnType + ")this;"))
+                    new StringStatement((IS_LIST.apply(property.getTypeRef()) ? removeFromList(propertyName)
+                        : "_visitables.get(\"" + propertyName + "\").remove(builder);this." + propertyName
+                            + ".remove(builder);")
+                        + " return (" + returnType + ")this;"))
                 .endBlock().build());
           } else {
             statements.add(new StringStatement("for (" + unwrapped.toString() + " item : items) {if (this." + property.getName()
@@ -940,10 +964,22 @@ class ToMethod {
           return methods;
         }
 
-        private Statement createRemoveFromDescendantsFallback(String type, String name) {
+        private Statement createRemoveFromDescendantsFallback(String type, String name, boolean isList) {
           return new StringStatement(
-              "else {  VisitableBuilder<? extends " + type + ",?> builder = builderOf(item); _visitables.get(\"" + name
-                  + "\").remove(builder);this." + name + ".remove(builder); }");
+              "else {  VisitableBuilder<? extends " + type + ",?> builder = builderOf(item); "
+                  + (isList ? removeFromList(name)
+                      : "_visitables.get(\"" + name + "\").remove(builder);this." + name + ".remove(builder);")
+                  + " }");
+        }
+
+        /**
+         * Removes the builder from the list and then that very instance from the visitables.
+         * The builder is looked up by identity first, so that removing a builder that is part of the list doesn't compare the
+         * content of its siblings.
+         */
+        private String removeFromList(String name) {
+          return "int index = indexOf(this." + name + ", builder);if (index >= 0) {_visitables.get(\"" + name
+              + "\").remove(this." + name + ".remove(index));}";
         }
       });
 
@@ -1593,4 +1629,46 @@ class ToMethod {
         .endBlock()
         .build();
   });
+
+  /**
+   * Returns the built field of the property, building it again only if the fluent has been modified since.
+   * The field itself is only handed out as an unmodifiable view, so that neither callers nor built instances can modify it.
+   */
+  private static Statement toReturnBuilt(Property property, Property built) {
+    String field = "this." + built.getName();
+    return new StringStatement("if (" + field + "ModCount != this.modCount) { " + field + " = build(" + property.getName()
+        + ", " + field + "); " + field + "ModCount = this.modCount; } return " + field
+        + " != null ? java.util.Collections.unmodifiableList(" + field + ") : null;");
+  }
+
+  /**
+   * The field that holds the list last built by the getter of a list of buildables.
+   * The getter builds into it again for as long as the builders build to the same items.
+   *
+   * @param property the property.
+   * @return the field, or empty if the getter of the property does not reuse what it builds.
+   */
+  static Optional<Property> builtField(Property property) {
+    TypeRef typeRef = property.getTypeRef();
+    if (!isList(typeRef) || !isAbstract(typeRef) || property.hasAttribute(DESCENDANT_OF)) {
+      return Optional.empty();
+    }
+    TypeRef unwrapped = combine(UNWRAP_COLLECTION_OF, UNWRAP_ARRAY_OF, UNWRAP_OPTIONAL_OF).apply(typeRef);
+    if (!isBuildable(unwrapped) && Descendants.PROPERTY_BUILDABLE_DESCENDANTS.apply(property).isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.of(new PropertyBuilder().withName("built" + property.getNameCapitalized()).withTypeRef(typeRef)
+        .withModifiers(Types.modifiersToInt(Modifier.PRIVATE)).build());
+  }
+
+  /**
+   * The field that holds the modification count of the fluent, when the specified built field was last built.
+   *
+   * @param built the built field.
+   * @return the field.
+   */
+  static Property builtModCountField(Property built) {
+    return new PropertyBuilder().withName(built.getName() + "ModCount").withTypeRef(Types.PRIMITIVE_INT_REF)
+        .withModifiers(Types.modifiersToInt(Modifier.PRIVATE)).build();
+  }
 }
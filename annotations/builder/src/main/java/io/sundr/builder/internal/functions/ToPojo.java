@@ -19,6 +19,7 @@ package io.sundr.builder.internal.functions;
 import static io.sundr.builder.Constants.ADDITIONAL_BUILDABLES;
 import static io.sundr.builder.Constants.ADDITIONAL_TYPES;
 import static io.sundr.builder.Constants.ARRAYS;
+import static io.sundr.builder.Constants.BUILD_CACHE_ENABLED;
 import static io.sundr.builder.Constants.COLLECTORS;
 import static io.sundr.builder.Constants.TO_STRING_ARRAY_SNIPPET;
 import static io.sundr.builder.internal.functions.ClazzAs.BUILDER;
@@ -166,6 +167,7 @@ public class ToPojo implements Function<RichTypeDef, TypeDef> {
     boolean autobox = false;
     boolean initialize = false;
     boolean mutable = false;
+    boolean cacheHashCode = false;
 
     final List adapters = new ArrayList();
 
@@ -183,6 +185,9 @@ public class ToPojo implements Function<RichTypeDef, TypeDef> {
           if (params.containsKey("mutable")) {
             mutable = Boolean.parseBoolean(String.valueOf(r.getParameters().getOrDefault("mutable", false)));
           }
+          if (params.containsKey("cacheHashCode")) {
+            cacheHashCode = Boolean.parseBoolean(String.valueOf(r.getParameters().getOrDefault("cacheHashCode", false)));
+          }
           if (params.containsKey("autobox")) {
             autobox = Boolean.parseBoolean(String.valueOf(r.getParameters().getOrDefault("autobox", false)));
           }
@@ -626,13 +631,21 @@ public class ToPojo implements Function<RichTypeDef, TypeDef> {
         }
       }
 
+      List<Statement> equalsStatements = BuilderUtils.toEquals(generatedPojo, fields);
+      List<Statement> hashCodeStatements = BuilderUtils.toHashCode(fields);
+      if (cacheHashCode && !mutable) {
+        //Objects that hash differently can't be equal, so there is no need to compare their fields.
+        equalsStatements.add(2, new StringStatement("if (hashCode() != o.hashCode()) return false;"));
+        hashCodeStatements = BuilderUtils.toCachedHashCode(generatedPojo, fields, "cachedHashCode");
+      }
+
       Method equals = new MethodBuilder()
           .withModifiers(Types.modifiersToInt(Modifier.PUBLIC))
           .withReturnType(Types.PRIMITIVE_BOOLEAN_REF)
           .addNewArgument().withName("o").withTypeRef(Types.OBJECT.toReference()).endArgument()
           .withName("equals")
           .withNewBlock()
-          .withStatements(BuilderUtils.toEquals(generatedPojo, fields))
+          .withStatements(equalsStatements)
           .endBlock()
           .build();
 
@@ -641,7 +654,7 @@ public class ToPojo implements Function<RichTypeDef, TypeDef> {
           .withReturnType(Types.PRIMITIVE_INT_REF)
           .withName("hashCode")
           .withNewBlock()
-          .withStatements(BuilderUtils.toHashCode(fields))
+          .withStatements(hashCodeStatements)
           .endBlock()
           .build();
 
@@ -716,7 +729,17 @@ public class ToPojo implements Function<RichTypeDef, TypeDef> {
       }
     }
 
-    return DefinitionRepository.getRepository().register(new TypeDefBuilder(generatedPojo)
+    TypeDefBuilder pojo = new TypeDefBuilder(generatedPojo);
+    if (cacheHashCode && !mutable) {
+      pojo.addNewProperty()
+          .withModifiers(Types.modifiersToInt(Modifier.PRIVATE))
+          .withTypeRef(Types.PRIMITIVE_INT_REF)
+          .withName("cachedHashCode")
+          .endProperty()
+          .addToAttributes(BUILD_CACHE_ENABLED, true);
+    }
+
+    return DefinitionRepository.getRepository().register(pojo
         .withComments("Generated")
         .addAllToMethods(additionalMethods)
         .addToAttributes(ALSO_IMPORT, additionalImports)
@@ -203,42 +203,67 @@ public abstract class AbstractBuilderProcessor extends AbstractCodeGeneratingPro
         }).build();
   }
 
+  /**
+   * Generates the builders and the pojos of the specified buildables.
+   * Both share the resolved hierarchy of the buildables, so each parameterized ancestor is only resolved once.
+   *
+   * @param ctx The builder context.
+   * @param buildables The set of buildables.
+   */
+  public void generateBuildablesAndPojos(BuilderContext ctx, Set<TypeDef> buildables) {
+    TypeArguments.withResolvedCache(() -> {
+      generateBuildables(ctx, buildables);
+      generatePojos(ctx, buildables);
+    });
+  }
+
   public void generateBuildables(BuilderContext ctx, Set<TypeDef> buildables) {
+    TypeArguments.withResolvedCache(() -> doGenerateBuildables(ctx, buildables));
+  }
+
+  private void doGenerateBuildables(BuilderContext ctx, Set<TypeDef> buildables) {
     int total = ctx.getBuildableRepository().getBuildables().size();
     int count = 0;
+    List<TypeDef> types = new ArrayList<>();
     for (TypeDef typeDef : buildables) {
+      //Generated types are written in batches, so that they can be rendered in parallel, without holding on to all of them.
+      if (types.size() >= GENERATE_BATCH_SIZE) {
+        generateAll(types);
+        types.clear();
+      }
       RichTypeDef richTypeDef = TypeArguments.apply(typeDef);
       double percentage = 100d * (count++) / total;
       if (typeDef.isInterface() || typeDef.isAnnotation()) {
         continue;
       }
       System.err.printf("\033[2K%3d%% Generating: %s\r", Math.round(percentage), typeDef.getFullyQualifiedName());
-      generate(ClazzAs.FLUENT_INTERFACE.apply(richTypeDef));
-      generate(ClazzAs.FLUENT_IMPL.apply(richTypeDef));
+      types.add(ClazzAs.FLUENT_INTERFACE.apply(richTypeDef));
+      types.add(ClazzAs.FLUENT_IMPL.apply(richTypeDef));
       if (typeDef.isAbstract()) {
         continue;
       }
 
       if (!typeDef.isFinal() && typeDef.getAttributes().containsKey(EDITABLE_ENABLED)
           && (Boolean) typeDef.getAttributes().get(EDITABLE_ENABLED)) {
-        generate(ClazzAs.EDITABLE_BUILDER.apply(richTypeDef));
-        generate(ClazzAs.EDITABLE.apply(richTypeDef));
+        types.add(ClazzAs.EDITABLE_BUILDER.apply(richTypeDef));
+        types.add(ClazzAs.EDITABLE.apply(richTypeDef));
       } else {
-        generate(ClazzAs.BUILDER.apply(richTypeDef));
+        types.add(ClazzAs.BUILDER.apply(richTypeDef));
       }
 
       Buildable buildable = typeDef.getAttribute(BUILDABLE);
       ExternalBuildables externalBuildables = typeDef.getAttribute(EXTERNAL_BUILDABLE);
       if (buildable != null) {
         for (final Inline inline : buildable.inline()) {
-          generate(inlineableOf(ctx, typeDef, inline));
+          types.add(inlineableOf(ctx, typeDef, inline));
         }
       } else if (externalBuildables != null) {
         for (final Inline inline : externalBuildables.inline()) {
-          generate(inlineableOf(ctx, typeDef, inline));
+          types.add(inlineableOf(ctx, typeDef, inline));
         }
       }
     }
+    generateAll(types);
   }
 
   /**
@@ -248,6 +273,10 @@ public abstract class AbstractBuilderProcessor extends AbstractCodeGeneratingPro
    * @param buildables The set of buildables.
    */
   public void generatePojos(BuilderContext builderContext, Set<TypeDef> buildables) {
+    TypeArguments.withResolvedCache(() -> doGeneratePojos(builderContext, buildables));
+  }
+
+  private void doGeneratePojos(BuilderContext builderContext, Set<TypeDef> buildables) {
     Set<TypeDef> additonalBuildables = new HashSet<>();
     Set<TypeDef> additionalTypes = new HashSet<>();
     for (TypeDef typeDef : buildables) {
@@ -280,6 +309,9 @@ public abstract class AbstractBuilderProcessor extends AbstractCodeGeneratingPro
     generateBuildables(builderContext, additonalBuildables);
   }
 
+  //The number of generated types per batch. Each buildable contributes several types (fluent, builder, inlineables etc).
+  private static final int GENERATE_BATCH_SIZE = 256;
+
   private static final String EMPTY_FUNCTION_TEXT = loadResourceQuietly(EMPTY_FUNCTION_SNIPPET);
 
   private static final String BUILDER = "builder";
@@ -17,6 +17,7 @@
 package io.sundr.builder.internal.processor;
 
 import static io.sundr.builder.Constants.BUILDABLE;
+import static io.sundr.builder.Constants.BUILD_CACHE_ENABLED;
 import static io.sundr.builder.Constants.EDITABLE_ENABLED;
 import static io.sundr.builder.Constants.LAZY_COLLECTIONS_INIT_ENABLED;
 import static io.sundr.builder.Constants.LAZY_MAP_INIT_ENABLED;
@@ -76,6 +77,7 @@ public class BuildableProcessor extends AbstractBuilderProcessor {
             .addToAttributes(BUILDABLE, buildable)
             .addToAttributes(EDITABLE_ENABLED, buildable.editableEnabled())
             .addToAttributes(VALIDATION_ENABLED, buildable.validationEnabled())
+            .addToAttributes(BUILD_CACHE_ENABLED, buildable.buildCacheEnabled())
             .accept(new Visitor<PropertyBuilder>() {
               @Override
               public void visit(PropertyBuilder builder) {
@@ -93,6 +95,7 @@ public class BuildableProcessor extends AbstractBuilderProcessor {
               .addToAttributes(BUILDABLE, buildable)
               .addToAttributes(EDITABLE_ENABLED, buildable.editableEnabled())
               .addToAttributes(VALIDATION_ENABLED, buildable.validationEnabled())
+              .addToAttributes(BUILD_CACHE_ENABLED, buildable.buildCacheEnabled())
               .accept(new Visitor<PropertyBuilder>() {
                 @Override
                 public void visit(PropertyBuilder builder) {
@@ -113,8 +116,7 @@ public class BuildableProcessor extends AbstractBuilderProcessor {
     }
     generateLocalDependenciesIfNeeded();
     ctx.getDefinitionRepository().updateReferenceMap();
-    generateBuildables(ctx, buildables);
-    generatePojos(ctx, buildables);
+    generateBuildablesAndPojos(ctx, buildables);
     processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
         String.format("%-120s", "100%: Builder generation complete."));
     return false;
@@ -207,8 +207,7 @@ public class ExternalBuildableProcessor extends AbstractBuilderProcessor {
 
     generateLocalDependenciesIfNeeded();
     ctx.getDefinitionRepository().updateReferenceMap();
-    generateBuildables(ctx, buildables);
-    generatePojos(ctx, buildables);
+    generateBuildablesAndPojos(ctx, buildables);
     processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
         String.format("%-120s", "100%: Builder generation complete."));
     return true;
@@ -695,6 +695,31 @@ public class BuilderUtils {
     return statements;
   }
 
+  /**
+   * Creates a hashCode body that computes the hash code once and keeps it in the specified field.
+   * Only the super class hash code of actual super classes is included, as the identity hash code of {@link Object} would
+   * make equal objects hash differently.
+   *
+   * @param type the type.
+   * @param properties the properties to hash.
+   * @param field the name of the field that holds the hash code.
+   * @return the statements.
+   */
+  public static List<Statement> toCachedHashCode(TypeDef type, Collection<Property> properties, String field) {
+    Stream<String> values = properties.stream().map(Property::getName);
+    if (!type.getExtendsList().isEmpty() && !OBJECT_FULLY_QUALIFIED_NAME
+        .equals(type.getExtendsList().iterator().next().getFullyQualifiedName())) {
+      values = Stream.concat(values, Stream.of("super.hashCode()"));
+    }
+    List<Statement> statements = new ArrayList<>();
+    statements.add(new StringStatement("int result = " + field + ";"));
+    statements.add(new StringStatement("if (result == 0) {"
+        + " result = java.util.Objects.hash(" + values.collect(Collectors.joining(",  ")) + ");"
+        + " " + field + " = result; }"));
+    statements.add(new StringStatement("return result;"));
+    return statements;
+  }
+
   public static List<Statement> toEquals(TypeDef type, Collection<Property> properties) {
     List<Statement> statements = new ArrayList<>();
 
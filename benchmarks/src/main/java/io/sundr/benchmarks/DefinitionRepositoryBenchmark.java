@@ -0,0 +1,131 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.benchmarks;
+
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.sundr.model.TypeDef;
+import io.sundr.model.TypeDefBuilder;
+import io.sundr.model.repo.DefinitionRepository;
+
+/**
+ * Measures {@link DefinitionRepository} lookups from several threads at once.
+ * The {@code lookup} benchmarks only read, while the {@code readWrite} group mixes lookups with a thread that keeps
+ * registering definitions, as happens while builders are being generated. The {@code query} benchmarks go through the
+ * flag and package indexes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DefinitionRepositoryBenchmark {
+
+  private static final String FLAG = "benchmark";
+
+  @Param({ "1000" })
+  public int definitions;
+
+  private DefinitionRepository repository;
+  private String[] names;
+  private TypeDef[] types;
+
+  @Setup
+  public void setUp() {
+    repository = DefinitionRepository.createRepository();
+    names = new String[definitions];
+    types = new TypeDef[definitions];
+    for (int i = 0; i < definitions; i++) {
+      types[i] = new TypeDefBuilder()
+          .withPackageName("io.sundr.benchmarks.p" + (i % 10))
+          .withName("Type" + i)
+          .build();
+      names[i] = types[i].getFullyQualifiedName();
+      if (i % 100 == 0) {
+        types[i] = repository.register(types[i], FLAG);
+      } else {
+        repository.register(types[i]);
+      }
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public TypeDef lookupSingleThread() {
+    return lookup();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public TypeDef lookupFourThreads() {
+    return lookup();
+  }
+
+  @Benchmark
+  @Group("readWrite")
+  @GroupThreads(3)
+  public TypeDef read() {
+    return lookup();
+  }
+
+  @Benchmark
+  @Group("readWrite")
+  @GroupThreads(1)
+  public TypeDef write() {
+    return repository.register(types[ThreadLocalRandom.current().nextInt(definitions)]);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Object referenceMap() {
+    return repository.getReferenceMap();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Set<TypeDef> flagQuery() {
+    return repository.getDefinitions(FLAG);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Set<TypeDef> packageQuery() {
+    return repository.getDefinitionsByPackage("io.sundr.benchmarks.p" + ThreadLocalRandom.current().nextInt(10));
+  }
+
+  private TypeDef lookup() {
+    return repository.getDefinition(names[ThreadLocalRandom.current().nextInt(definitions)]);
+  }
+}
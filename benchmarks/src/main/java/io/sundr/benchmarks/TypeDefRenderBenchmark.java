@@ -0,0 +1,125 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.sundr.model.ClassRef;
+import io.sundr.model.StringStatement;
+import io.sundr.model.TypeDef;
+import io.sundr.model.TypeDefBuilder;
+import io.sundr.model.VoidRef;
+
+/**
+ * Measures rendering a large generated class, over 2000 lines with the default number of properties.
+ * The {@code render} benchmark renders the same type repeatedly, so its imports are only collected once, while
+ * {@code renderCopy} renders an identical copy each time, which has to collect them again.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeDefRenderBenchmark {
+
+  private static final ClassRef SELF = ClassRef.forName("io.sundr.benchmarks.GeneratedFluent");
+
+  @Param({ "200" })
+  public int properties;
+
+  private TypeDef type;
+
+  @Setup
+  public void setUp() {
+    TypeDefBuilder builder = new TypeDefBuilder()
+        .withPackageName(SELF.getPackageName())
+        .withName(SELF.getName());
+
+    for (int i = 0; i < properties; i++) {
+      String name = "property" + i;
+      String capitalized = "Property" + i;
+      ClassRef ref = ClassRef.forName("io.sundr.benchmarks.p" + (i % 20) + ".Type" + i);
+
+      builder.addNewProperty()
+          .withName(name)
+          .withTypeRef(ref)
+          .endProperty()
+          .addNewMethod()
+          .withName("get" + capitalized)
+          .withReturnType(ref)
+          .withNewBlock()
+          .withStatements(new StringStatement("return this." + name + ";"))
+          .endBlock()
+          .endMethod()
+          .addNewMethod()
+          .withName("set" + capitalized)
+          .withReturnType(new VoidRef())
+          .addNewArgument()
+          .withName(name)
+          .withTypeRef(ref)
+          .endArgument()
+          .withNewBlock()
+          .withStatements(new StringStatement("this." + name + " = " + name + ";"))
+          .endBlock()
+          .endMethod()
+          .addNewMethod()
+          .withName("with" + capitalized)
+          .withReturnType(SELF)
+          .addNewArgument()
+          .withName(name)
+          .withTypeRef(ref)
+          .endArgument()
+          .withNewBlock()
+          .withStatements(new StringStatement("this." + name + " = " + name + ";"), new StringStatement("return this;"))
+          .endBlock()
+          .endMethod();
+    }
+    type = builder.build();
+  }
+
+  @Benchmark
+  public String render() throws IOException {
+    StringBuilder sb = new StringBuilder();
+    type.render(sb);
+    return sb.toString();
+  }
+
+  @Benchmark
+  public String renderCopy() throws IOException {
+    TypeDef copy = new TypeDef(type.getKind(), type.getPackageName(), type.getName(), type.getComments(),
+        type.getAnnotations(), type.getExtendsList(), type.getImplementsList(), type.getParameters(), type.getProperties(),
+        type.getConstructors(), type.getMethods(), type.getOuterTypeName(), type.getInnerTypes(), type.getModifiers(),
+        type.getAttributes());
+    StringBuilder sb = new StringBuilder();
+    copy.render(sb);
+    return sb.toString();
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ *      Copyright 2019 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.sundr.builder.BaseFluent;
+import io.sundr.builder.TypedVisitor;
+import io.sundr.builder.Visitable;
+import io.sundr.builder.Visitor;
+import io.sundr.model.ClassRef;
+import io.sundr.model.MethodBuilder;
+import io.sundr.model.PropertyBuilder;
+import io.sundr.model.TypeDefBuilder;
+
+/**
+ * Measures the cost of visiting a builder tree.
+ * The {@code reflectiveLookup} benchmark replays the per node visit method lookup that was used before visitor dispatch was
+ * cached, so that it can be compared against {@code accept}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VisitorBenchmark {
+
+  private static final ClassRef STRING_REF = ClassRef.forName(String.class.getName());
+
+  @Param({ "100", "1000" })
+  public int methods;
+
+  private TypeDefBuilder builder;
+
+  private final Visitor<MethodBuilder> methodVisitor = new TypedVisitor<MethodBuilder>() {
+    @Override
+    public void visit(MethodBuilder element) {
+      element.getName();
+    }
+  };
+
+  private final Visitor<PropertyBuilder> propertyVisitor = new TypedVisitor<PropertyBuilder>() {
+    @Override
+    public void visit(PropertyBuilder element) {
+      element.getName();
+    }
+  };
+
+  @Setup
+  public void setUp() {
+    builder = new TypeDefBuilder()
+        .withPackageName("io.sundr.benchmarks")
+        .withName("Generated");
+
+    for (int i = 0; i < methods; i++) {
+      builder.addNewMethod()
+          .withName("method" + i)
+          .withReturnType(STRING_REF)
+          .addNewArgument()
+          .withName("first")
+          .withTypeRef(STRING_REF)
+          .endArgument()
+          .addNewArgument()
+          .withName("second")
+          .withTypeRef(STRING_REF)
+          .endArgument()
+          .endMethod();
+    }
+  }
+
+  @Benchmark
+  public void accept(Blackhole blackhole) {
+    blackhole.consume(builder.accept(methodVisitor, propertyVisitor));
+  }
+
+  @Benchmark
+  public void reflectiveLookup(Blackhole blackhole) {
+    walk(builder, blackhole);
+  }
+
+  private void walk(Visitable<?> visitable, Blackhole blackhole) {
+    if (visitable instanceof BaseFluent) {
+      for (Visitable child : ((BaseFluent<?>) visitable)._visitables) {
+        walk(child, blackhole);
+      }
+    }
+    blackhole.consume(hasCompatibleVisitMethod(methodVisitor, visitable));
+    blackhole.consume(hasCompatibleVisitMethod(propertyVisitor, visitable));
+  }
+
+  private static boolean hasCompatibleVisitMethod(Object visitor, Object fluent) {
+    for (Method method : visitor.getClass().getMethods()) {
+      if (!method.getName().equals("visit") || method.getParameterTypes().length != 1) {
+        continue;
+      }
+      return method.getParameterTypes()[0].isAssignableFrom(fluent.getClass());
+    }
+    return false;
+  }
+}
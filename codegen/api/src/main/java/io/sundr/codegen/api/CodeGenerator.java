@@ -17,24 +17,39 @@
 
 package io.sundr.codegen.api;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
+import io.sundr.SundrException;
 import io.sundr.utils.Predicates;
 
 public class CodeGenerator<T> {
 
+  private static final int MAXIMUM_PENDING = 256;
+
   private final Class<T> type;
-  private final Function<T, Writer> output;
+  private final Output<T> output;
   private final Function<T, String> identifier;
-  private final Function<T, String> renderer;
+  private final Renderer<T> renderer;
   private final Predicate<T> skip;
   private final Consumer<T> onSkip;
+  private final GenerationManifest manifest;
+  private final Function<T, String> fingerprint;
+  private final Executor executor;
 
   private final Consumer<T> ignore = t -> {
   };
@@ -43,33 +58,39 @@ public class CodeGenerator<T> {
   public static class Builder<T> {
 
     private final Class<T> type;
-    private final Function<T, Writer> output;
+    private final Output<T> output;
     private final Function<T, String> identifier;
-    private final Function<T, String> renderer;
+    private final Renderer<T> renderer;
     private final Predicate<T> skip;
     private final Consumer<T> onSkip;
+    private final GenerationManifest manifest;
+    private final Function<T, String> fingerprint;
+    private final Executor executor;
 
     private Builder(Class<T> type) {
-      this(type, null, null, null, null, null);
+      this(type, null, null, null, null, null, null, null, null);
     }
 
-    private Builder(Class<T> type, Function<T, Writer> output, Function<T, String> identifier, Function<T, String> renderer,
+    private Builder(Class<T> type, Output<T> output, Function<T, String> identifier, Renderer<T> renderer,
         Predicate<T> skip,
-        Consumer<T> onSkip) {
+        Consumer<T> onSkip, GenerationManifest manifest, Function<T, String> fingerprint, Executor executor) {
       this.type = type;
       this.output = output;
       this.identifier = identifier;
       this.renderer = renderer;
       this.skip = skip;
       this.onSkip = onSkip;
+      this.manifest = manifest;
+      this.fingerprint = fingerprint;
+      this.executor = executor;
     }
 
     public Builder<T> withOutput(Output<T> output) {
-      return withOutput(output.getFunction());
+      return new Builder<>(type, output, identifier, renderer, skip, onSkip, manifest, fingerprint, executor);
     }
 
     public Builder<T> withOutput(Function<T, Writer> output) {
-      return new Builder<>(type, output, identifier, renderer, skip, onSkip);
+      return withOutput(() -> output);
     }
 
     public Builder<T> withIdentifier(Identifier<T> identifier) {
@@ -77,23 +98,68 @@ public class CodeGenerator<T> {
     }
 
     public Builder<T> withIdentifier(Function<T, String> identifier) {
-      return new Builder<>(type, output, identifier, renderer, skip, onSkip);
+      return new Builder<>(type, output, identifier, renderer, skip, onSkip, manifest, fingerprint, executor);
     }
 
     public Builder<T> withRenderer(Renderer<T> renderer) {
-      return withRenderer(renderer.getFunction());
+      return new Builder<>(type, output, identifier, renderer, skip, onSkip, manifest, fingerprint, executor);
     }
 
     public Builder<T> withRenderer(Function<T, String> renderer) {
-      return new Builder<>(type, output, identifier, renderer, skip, onSkip);
+      return withRenderer(new Renderer<T>() {
+        @Override
+        public Class<T> getType() {
+          return type;
+        }
+
+        @Override
+        public Function<T, String> getFunction() {
+          return renderer;
+        }
+      });
     }
 
     public Builder<T> skipping(Predicate<T> skip) {
-      return new Builder<>(type, output, identifier, renderer, skip, onSkip);
+      return new Builder<>(type, output, identifier, renderer, skip, onSkip, manifest, fingerprint, executor);
+    }
+
+    /**
+     * Only writes items whose content changed since the previous build, as recorded in the specified manifest.
+     * Unchanged items are not written again, as long as the output reports that they exist, so that their timestamp is
+     * preserved.
+     *
+     * @param manifest the manifest file, ideally in the same directory as the generated files.
+     * @return the builder.
+     */
+    public Builder<T> incremental(File manifest) {
+      return new Builder<>(type, output, identifier, renderer, skip, onSkip, GenerationManifest.load(manifest), fingerprint,
+          executor);
+    }
+
+    /**
+     * In incremental mode, items are not even rendered when the fingerprint of their model is unchanged.
+     * The fingerprint should cover everything the rendered content depends on.
+     *
+     * @param fingerprint the function that fingerprints items, or returns null if an item can't be fingerprinted.
+     * @return the builder.
+     */
+    public Builder<T> withFingerprint(Function<T, String> fingerprint) {
+      return new Builder<>(type, output, identifier, renderer, skip, onSkip, manifest, fingerprint, executor);
+    }
+
+    /**
+     * Renders the items passed to {@link CodeGenerator#generateAll(Collection)} on the specified executor.
+     * Renderers need to be thread safe, outputs are still only used by the calling thread.
+     *
+     * @param executor the executor, or null to render on the calling thread.
+     * @return the builder.
+     */
+    public Builder<T> withExecutor(Executor executor) {
+      return new Builder<>(type, output, identifier, renderer, skip, onSkip, manifest, fingerprint, executor);
     }
 
     public CodeGenerator<T> build() {
-      return new CodeGenerator<>(type, output, identifier, renderer, skip, onSkip);
+      return new CodeGenerator<>(type, output, identifier, renderer, skip, onSkip, manifest, fingerprint, executor);
     }
 
     public boolean generate(T... items) {
@@ -101,17 +167,21 @@ public class CodeGenerator<T> {
     }
   }
 
-  private CodeGenerator(Class<T> type, Function<T, Writer> output, Function<T, String> identifier, Function<T, String> renderer,
-      Predicate<T> skip, Consumer<T> onSkip) {
+  private CodeGenerator(Class<T> type, Output<T> output, Function<T, String> identifier, Renderer<T> renderer,
+      Predicate<T> skip, Consumer<T> onSkip, GenerationManifest manifest, Function<T, String> fingerprint,
+      Executor executor) {
     this.type = type;
-    this.output = output != null ? output : new SystemOutput<T>().getFunction();
+    this.output = output != null ? output : new SystemOutput<T>();
     this.identifier = identifier != null ? identifier
         : Identifiers.findIdentifier(type).map(Identifier::getFunction).orElse(o -> String.valueOf(o.hashCode()));
     this.renderer = renderer != null ? renderer
-        : Renderers.findRenderer(type).map(Renderer::getFunction)
+        : Renderers.findRenderer(type)
             .orElseThrow(() -> new IllegalStateException("Renderer should not be null."));
     this.skip = skip != null ? skip : Predicates.distinct(t -> this.identifier.apply(t));
     this.onSkip = onSkip != null ? onSkip : ignore;
+    this.manifest = manifest;
+    this.fingerprint = fingerprint;
+    this.executor = executor;
   }
 
   public static <T> Builder<T> newGenerator(Class<T> type) {
@@ -128,7 +198,25 @@ public class CodeGenerator<T> {
     //Function like skip, onSkip, writer etc may need to access the specified Identifier.
     //So, let's wrap all code that may need the identifier into a lambda and ensure that the Identifiers is accessible to the lambda
     //using Indentifiers.getIdentifier().
-    return Identifiers.withIdentifier(identifier).call(() -> {
+    return Identifiers.withIdentifier(identifier).call(() -> generate(Arrays.asList(items), null, false));
+  }
+
+  /**
+   * Generate all the specified items, rendering them on the executor of this generator, if one has been specified.
+   * Outputs are only created and written by the calling thread, in the order of the items.
+   * In incremental mode, the manifest forgets the items that were not passed to this or an earlier call of this generator.
+   *
+   * @param items the items to generate
+   * @return true if generation was succesful, false otherwise
+   */
+  public boolean generateAll(Collection<T> items) {
+    return Identifiers.withIdentifier(identifier).call(() -> generate(items, executor, true));
+  }
+
+  private boolean generate(Collection<T> items, Executor executor, boolean prune) {
+    Deque<Pending> pending = new ArrayDeque<>();
+    Set<String> scheduled = new HashSet<>();
+    try {
       for (T item : items) {
         String id = identifier.apply(item);
         if (skip.test(item)) {
@@ -136,18 +224,160 @@ public class CodeGenerator<T> {
           continue;
         }
         //Only generate each file once ...
-        if (generated.contains(id)) {
+        if (generated.contains(id) || !scheduled.add(id)) {
           continue;
         }
-        try (Writer writer = output.apply(item)) {
-          writer.write(renderer.apply(item));
+        boolean exists = (manifest != null || executor != null) && output.exists(item);
+        String print = manifest != null && fingerprint != null ? fingerprint.apply(item) : null;
+        if (print != null && manifest.isUpToDate(id, print) && exists) {
+          manifest.retain(id);
           generated.add(id);
-        } catch (IOException e) {
+          continue;
+        }
+        Content content = new Content(item);
+        //Existing outputs are usually skipped, so they are only rendered ahead when incremental mode needs to hash them.
+        if (executor != null && (!exists || manifest != null)) {
+          content.renderOn(executor);
+        }
+        pending.add(new Pending(item, id, print, exists, content));
+        //Without an executor, each item is written right away. Otherwise, a bounded number of items is rendered ahead.
+        while (pending.size() > (executor != null ? MAXIMUM_PENDING : 0)) {
+          if (!write(pending.poll())) {
+            return false;
+          }
+        }
+      }
+      while (!pending.isEmpty()) {
+        if (!write(pending.poll())) {
           return false;
         }
       }
-      return true;
-    });
+    } finally {
+      //If generation stops early, don't keep rendering the items that won't be written.
+      for (Pending next : pending) {
+        next.content.cancel();
+      }
+    }
+    if (manifest != null) {
+      if (prune) {
+        manifest.prune();
+      }
+      manifest.save();
+    }
+    return true;
+  }
 
+  private boolean write(Pending next) {
+    T item = next.item;
+    String id = next.id;
+    Content content = next.content;
+    String hash = null;
+    //Only existing outputs can be left alone, so there's no need to render the item to compare it otherwise.
+    if (manifest != null && next.exists) {
+      hash = GenerationManifest.hash(content.get());
+      if (manifest.hasContent(id, hash)) {
+        //Same bytes as last time, don't touch the file.
+        manifest.update(id, hash, next.print);
+        generated.add(id);
+        return true;
+      }
+    }
+    try (Writer writer = output.create(item, content)) {
+      if (writer == Output.SKIP) {
+        generated.add(id);
+        if (manifest != null) {
+          skipped(next, hash);
+        }
+        onSkip.accept(item);
+        return true;
+      }
+      //Unless the content is already available, render straight into the writer, rather than into an intermediate string.
+      //In incremental mode, the content is needed anyway to hash it.
+      if (content.isAvailable() || manifest != null) {
+        writer.write(content.get());
+      } else {
+        renderer.render(item, writer);
+      }
+      generated.add(id);
+    } catch (IOException e) {
+      return false;
+    }
+    if (manifest != null) {
+      manifest.update(id, hash != null ? hash : GenerationManifest.hash(content.get()), next.print);
+    }
+    return true;
+  }
+
+  /**
+   * Records an item that the output skipped, so that the manifest doesn't forget it.
+   * If the item had to be rendered anyway, it's recorded as generated, so that it's not rendered again while its model
+   * doesn't change. Otherwise, its previous entry is kept as is.
+   */
+  private void skipped(Pending next, String hash) {
+    if (hash != null || next.content.isAvailable()) {
+      manifest.update(next.id, hash != null ? hash : GenerationManifest.hash(next.content.get()), next.print);
+    } else {
+      manifest.retain(next.id);
+    }
+  }
+
+  /**
+   * An item waiting to be written.
+   */
+  private final class Pending {
+
+    private final T item;
+    private final String id;
+    private final String print;
+    private final boolean exists;
+    private final Content content;
+
+    private Pending(T item, String id, String print, boolean exists, Content content) {
+      this.item = item;
+      this.id = id;
+      this.print = print;
+      this.exists = exists;
+      this.content = content;
+    }
+  }
+
+  /**
+   * Renders the item on demand, at most once, unless it's being rendered in the background.
+   */
+  private final class Content implements Supplier<String> {
+
+    private final T item;
+    private CompletableFuture<String> future;
+    private String rendered;
+
+    private Content(T item) {
+      this.item = item;
+    }
+
+    private void renderOn(Executor executor) {
+      future = CompletableFuture.supplyAsync(() -> renderer.render(item), executor);
+    }
+
+    private void cancel() {
+      if (future != null) {
+        future.cancel(false);
+      }
+    }
+
+    private boolean isAvailable() {
+      return rendered != null || future != null;
+    }
+
+    @Override
+    public String get() {
+      if (rendered == null) {
+        try {
+          rendered = future != null ? future.join() : renderer.render(item);
+        } catch (CompletionException e) {
+          throw SundrException.launderThrowable(e.getCause());
+        }
+      }
+      return rendered;
+    }
   }
 }
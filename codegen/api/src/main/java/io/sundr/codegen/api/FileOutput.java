@@ -33,6 +33,11 @@ public class FileOutput<T> implements Output<T> {
     this.file = file;
   }
 
+  @Override
+  public boolean exists(T item) {
+    return file.exists();
+  }
+
   @Override
   public Function<T, Writer> getFunction() {
     return t -> {
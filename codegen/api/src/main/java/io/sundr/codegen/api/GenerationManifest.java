@@ -0,0 +1,178 @@
+/**
+ * Copyright 2015 The original authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+**/
+
+package io.sundr.codegen.api;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import io.sundr.SundrException;
+
+/**
+ * Remembers what was generated by previous builds, so that unchanged items are neither rendered nor written again.
+ * Each line of the manifest holds the identifier of an item, the hash of its rendered content and, optionally, the
+ * fingerprint of the model it was rendered from. The manifest is meant to live next to the generated files, so that
+ * it's removed along with them.
+ */
+public class GenerationManifest {
+
+  private static final char SEPARATOR = '\t';
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  private final File file;
+  private final Map<String, String[]> entries = new TreeMap<>();
+  //The items generated, or found to be up to date, since the manifest was loaded.
+  private final Set<String> current = new HashSet<>();
+  private boolean modified;
+
+  private GenerationManifest(File file) {
+    this.file = file;
+  }
+
+  /**
+   * Loads the manifest from the specified file. A missing file is an empty manifest.
+   *
+   * @param file the manifest file.
+   * @return the manifest.
+   */
+  public static GenerationManifest load(File file) {
+    GenerationManifest manifest = new GenerationManifest(file);
+    if (!file.exists()) {
+      return manifest;
+    }
+    try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        int first = line.indexOf(SEPARATOR);
+        int second = first < 0 ? -1 : line.indexOf(SEPARATOR, first + 1);
+        if (second < 0) {
+          //Ignore malformed lines, the items will just be generated again.
+          continue;
+        }
+        String fingerprint = line.substring(second + 1);
+        manifest.entries.put(line.substring(0, first),
+            new String[] { line.substring(first + 1, second), fingerprint.isEmpty() ? null : fingerprint });
+      }
+    } catch (IOException e) {
+      throw SundrException.launderThrowable(e);
+    }
+    return manifest;
+  }
+
+  /**
+   * @param id the identifier of the item.
+   * @param fingerprint the fingerprint of the model of the item.
+   * @return true if the item was last generated from a model with the same fingerprint.
+   */
+  public synchronized boolean isUpToDate(String id, String fingerprint) {
+    String[] entry = entries.get(id);
+    return fingerprint != null && entry != null && fingerprint.equals(entry[1]);
+  }
+
+  /**
+   * @param id the identifier of the item.
+   * @param hash the hash of the rendered item.
+   * @return true if the item was last generated with the same content.
+   */
+  public synchronized boolean hasContent(String id, String hash) {
+    String[] entry = entries.get(id);
+    return entry != null && entry[0].equals(hash);
+  }
+
+  /**
+   * Records the generation of an item.
+   *
+   * @param id the identifier of the item.
+   * @param hash the hash of the rendered item.
+   * @param fingerprint the fingerprint of the model of the item, or null if there is none.
+   */
+  public synchronized void update(String id, String hash, String fingerprint) {
+    current.add(id);
+    String[] previous = entries.put(id, new String[] { hash, fingerprint });
+    modified = modified || previous == null || !previous[0].equals(hash)
+        || (fingerprint != null ? !fingerprint.equals(previous[1]) : previous[1] != null);
+  }
+
+  /**
+   * Records that an item is still generated, without any change.
+   *
+   * @param id the identifier of the item.
+   */
+  public synchronized void retain(String id) {
+    current.add(id);
+  }
+
+  /**
+   * Drops the items that have been neither updated nor retained since the manifest was loaded.
+   */
+  public synchronized void prune() {
+    modified = entries.keySet().retainAll(current) || modified;
+  }
+
+  /**
+   * Writes the manifest, if it has been modified since it was loaded or last saved.
+   */
+  public synchronized void save() {
+    if (!modified) {
+      return;
+    }
+    File parent = file.getAbsoluteFile().getParentFile();
+    if (parent != null && !parent.exists() && !parent.mkdirs()) {
+      throw new SundrException("Failed to create directory: " + parent.getAbsolutePath());
+    }
+    try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+      for (Map.Entry<String, String[]> entry : entries.entrySet()) {
+        writer.append(entry.getKey()).append(SEPARATOR).append(entry.getValue()[0]).append(SEPARATOR);
+        if (entry.getValue()[1] != null) {
+          writer.append(entry.getValue()[1]);
+        }
+        writer.newLine();
+      }
+      modified = false;
+    } catch (IOException e) {
+      throw SundrException.launderThrowable(e);
+    }
+  }
+
+  /**
+   * @param content the rendered item.
+   * @return the SHA-256 hash of the content, as a hexadecimal string.
+   */
+  public static String hash(String content) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+      char[] hex = new char[digest.length * 2];
+      for (int i = 0; i < digest.length; i++) {
+        hex[2 * i] = HEX[(digest[i] >> 4) & 0xF];
+        hex[2 * i + 1] = HEX[digest[i] & 0xF];
+      }
+      return new String(hex);
+    } catch (NoSuchAlgorithmException e) {
+      throw SundrException.launderThrowable(e);
+    }
+  }
+}
@@ -18,19 +18,18 @@
 package io.sundr.codegen.api;
 
 import java.util.Optional;
-import java.util.ServiceLoader;
 import java.util.concurrent.Callable;
 import java.util.function.Function;
-import java.util.stream.StreamSupport;
 
 import io.sundr.SundrException;
+import io.sundr.utils.Services;
 
 public class Identifiers {
 
   private static Identifier SCOPE;
 
   public static <T> Optional<Identifier<T>> findIdentifier(Class<T> type) {
-    return StreamSupport.stream(ServiceLoader.load(Identifier.class, Identifier.class.getClassLoader()).spliterator(), false)
+    return Services.load(Identifier.class).stream()
         .filter(r -> r.getType().isAssignableFrom(type))
         .map(r -> (Identifier<T>) r)
         .findFirst();
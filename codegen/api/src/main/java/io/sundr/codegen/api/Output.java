@@ -17,15 +17,59 @@
 
 package io.sundr.codegen.api;
 
+import java.io.IOException;
 import java.io.Writer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 @FunctionalInterface
 public interface Output<T> {
 
+  /**
+   * Returned instead of a {@link Writer}, when the item doesn't need to be written, e.g. because the file already exists.
+   * The {@link CodeGenerator} doesn't render skipped items, and anything written to it is discarded.
+   */
+  Writer SKIP = new Writer() {
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+    }
+
+    @Override
+    public void flush() throws IOException {
+    }
+
+    @Override
+    public void close() throws IOException {
+    }
+  };
+
   Function<T, Writer> getFunction();
 
   default Writer create(T item) {
     return getFunction().apply(item);
   }
+
+  /**
+   * Tells whether the output of the specified item already exists, e.g. because a previous build wrote it.
+   * Incremental generation only leaves an unchanged item alone when its output still exists. Outputs that can't tell
+   * without rendering the item report that it doesn't exist, so that it's written again.
+   *
+   * @param item the item.
+   * @return true if the output of the item exists.
+   */
+  default boolean exists(T item) {
+    return false;
+  }
+
+  /**
+   * Creates the {@link Writer} of the specified item, for outputs that need the rendered item to know where it goes.
+   * The content is rendered at most once, in which case it is written as is, instead of being rendered again.
+   *
+   * @param item the item to write.
+   * @param content supplies the rendered item.
+   * @return the {@link Writer}, or {@link #SKIP} if the item doesn't need to be written.
+   */
+  default Writer create(T item, Supplier<String> content) {
+    return create(item);
+  }
 }
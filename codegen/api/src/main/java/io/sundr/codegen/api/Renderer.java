@@ -17,6 +17,7 @@
 
 package io.sundr.codegen.api;
 
+import java.io.IOException;
 import java.util.function.Function;
 
 /**
@@ -42,4 +43,15 @@ public interface Renderer<T> {
   default String render(T item) {
     return getFunction().apply(item);
   }
+
+  /**
+   * Renders the item directly into the specified {@link Appendable}, e.g. the {@link java.io.Writer} of the generated file.
+   *
+   * @param item the item to render
+   * @param out the {@link Appendable} to render into.
+   * @throws IOException if appending fails.
+   */
+  default void render(T item, Appendable out) throws IOException {
+    out.append(render(item));
+  }
 }
@@ -18,13 +18,13 @@
 package io.sundr.codegen.api;
 
 import java.util.Optional;
-import java.util.ServiceLoader;
-import java.util.stream.StreamSupport;
+
+import io.sundr.utils.Services;
 
 public class Renderers {
 
   public static <T> Optional<Renderer<T>> findRenderer(Class<T> type) {
-    return StreamSupport.stream(ServiceLoader.load(Renderer.class, Renderer.class.getClassLoader()).spliterator(), false)
+    return Services.load(Renderer.class).stream()
         .filter(r -> r.getType().isAssignableFrom(type))
         .map(r -> (Renderer<T>) r)
         .findFirst();
@@ -17,6 +17,7 @@
 
 package io.sundr.codegen.api;
 
+import java.io.IOException;
 import java.util.function.Function;
 
 import io.sundr.model.TypeDef;
@@ -32,4 +33,9 @@ public class TypeDefRenderer implements Renderer<TypeDef> {
   public Function<TypeDef, String> getFunction() {
     return TypeDef::render;
   }
+
+  @Override
+  public void render(TypeDef item, Appendable out) throws IOException {
+    item.render(out);
+  }
 }
@@ -0,0 +1,382 @@
+/**
+ * Copyright 2015 The original authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+**/
+
+package io.sundr.codegen.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CodeGeneratorTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final Map<String, String> versions = new HashMap<>();
+  private final List<String> rendered = new ArrayList<>();
+  private final MemoryOutput output = new MemoryOutput();
+
+  @Test
+  public void shouldNotRenderItemsWithUnchangedFingerprint() throws Exception {
+    File manifest = new File(folder.getRoot(), "generated.txt");
+    versions.put("a", "1");
+    versions.put("b", "1");
+    assertTrue(incremental(manifest).withFingerprint(versions::get).build().generateAll(Arrays.asList("a", "b")));
+    assertEquals(Arrays.asList("a", "b"), rendered);
+    assertEquals(Arrays.asList("a", "b"), output.written);
+
+    rendered.clear();
+    output.written.clear();
+    versions.put("b", "2");
+    assertTrue(incremental(manifest).withFingerprint(versions::get).build().generateAll(Arrays.asList("a", "b")));
+    assertEquals(Arrays.asList("b"), rendered);
+    assertEquals(Arrays.asList("b"), output.written);
+    assertEquals("b:2", output.files.get("b").toString());
+  }
+
+  @Test
+  public void shouldNotWriteItemsWithUnchangedContent() throws Exception {
+    File manifest = new File(folder.getRoot(), "generated.txt");
+    versions.put("a", "1");
+    versions.put("b", "1");
+    assertTrue(incremental(manifest).build().generateAll(Arrays.asList("a", "b")));
+
+    rendered.clear();
+    output.written.clear();
+    versions.put("a", "2");
+    assertTrue(incremental(manifest).build().generateAll(Arrays.asList("a", "b")));
+    assertEquals(Arrays.asList("a", "b"), rendered);
+    assertEquals(Arrays.asList("a"), output.written);
+  }
+
+  @Test
+  public void shouldWriteUnchangedItemsWhoseOutputIsMissing() throws Exception {
+    File manifest = new File(folder.getRoot(), "generated.txt");
+    versions.put("a", "1");
+    versions.put("b", "1");
+    assertTrue(incremental(manifest).withFingerprint(versions::get).build().generateAll(Arrays.asList("a", "b")));
+
+    output.written.clear();
+    output.files.remove("a");
+    assertTrue(incremental(manifest).withFingerprint(versions::get).build().generateAll(Arrays.asList("a", "b")));
+    assertEquals(Arrays.asList("a"), output.written);
+
+    output.written.clear();
+    output.files.remove("b");
+    assertTrue(incremental(manifest).build().generateAll(Arrays.asList("a", "b")));
+    assertEquals(Arrays.asList("b"), output.written);
+  }
+
+  @Test
+  public void shouldForgetItemsThatAreNoLongerGenerated() throws Exception {
+    File manifest = new File(folder.getRoot(), "generated.txt");
+    versions.put("a", "1");
+    versions.put("b", "1");
+    assertTrue(incremental(manifest).withFingerprint(versions::get).build().generateAll(Arrays.asList("a", "b")));
+    assertEquals(2, Files.readAllLines(manifest.toPath(), StandardCharsets.UTF_8).size());
+
+    CodeGenerator<String> generator = incremental(manifest).withFingerprint(versions::get).build();
+    assertTrue(generator.generateAll(Arrays.asList("a")));
+    List<String> lines = Files.readAllLines(manifest.toPath(), StandardCharsets.UTF_8);
+    assertEquals(1, lines.size());
+    assertTrue(lines.get(0).startsWith("a\t"));
+  }
+
+  @Test
+  public void shouldRememberItemsThatTheOutputSkips() throws Exception {
+    File manifest = new File(folder.getRoot(), "generated.txt");
+    versions.put("a", "1");
+    versions.put("b", "1");
+    //Written by a previous build that didn't record it.
+    output.files.put("a", new StringWriter());
+    Output<String> skippingExisting = new Output<String>() {
+      @Override
+      public Function<String, Writer> getFunction() {
+        return item -> output.exists(item) ? SKIP : output.create(item);
+      }
+
+      @Override
+      public boolean exists(String item) {
+        return output.exists(item);
+      }
+    };
+    assertTrue(incremental(manifest).withOutput(skippingExisting).withFingerprint(versions::get).build()
+        .generateAll(Arrays.asList("a", "b")));
+    assertEquals(Arrays.asList("b"), output.written);
+    assertEquals(2, Files.readAllLines(manifest.toPath(), StandardCharsets.UTF_8).size());
+
+    rendered.clear();
+    output.written.clear();
+    assertTrue(incremental(manifest).withOutput(skippingExisting).withFingerprint(versions::get).build()
+        .generateAll(Arrays.asList("a", "b")));
+    assertTrue(rendered.isEmpty());
+    assertTrue(output.written.isEmpty());
+    assertEquals(2, Files.readAllLines(manifest.toPath(), StandardCharsets.UTF_8).size());
+  }
+
+  @Test
+  public void shouldNotRenderMissingItemsTwiceWhenIncremental() throws Exception {
+    File manifest = new File(folder.getRoot(), "generated.txt");
+    versions.put("a", "1");
+    assertTrue(incremental(manifest).build().generateAll(Arrays.asList("a")));
+    assertEquals(Arrays.asList("a"), rendered);
+    assertEquals("a:1", output.files.get("a").toString());
+  }
+
+  @Test
+  public void shouldWriteInOrderFromTheCallingThreadWhenRenderingOnExecutor() throws Exception {
+    List<String> items = IntStream.range(0, 20).mapToObj(String::valueOf).collect(Collectors.toList());
+    Set<Thread> renderers = Collections.synchronizedSet(new HashSet<>());
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      assertTrue(CodeGenerator.newGenerator(String.class)
+          .withIdentifier(Function.identity())
+          .withRenderer(item -> {
+            renderers.add(Thread.currentThread());
+            try {
+              //Render the first items last.
+              Thread.sleep(20 - Integer.parseInt(item));
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            return item;
+          })
+          .withOutput(output)
+          .skipping(item -> false)
+          .withExecutor(executor)
+          .build()
+          .generateAll(items));
+    } finally {
+      executor.shutdown();
+      executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+    assertEquals(items, output.written);
+    assertEquals(Collections.singleton(Thread.currentThread()), output.threads);
+    assertFalse(renderers.contains(Thread.currentThread()));
+    for (String item : items) {
+      assertEquals(item, output.files.get(item).toString());
+    }
+  }
+
+  @Test
+  public void shouldNotRenderExistingOutputsOnExecutor() throws Exception {
+    versions.put("a", "1");
+    versions.put("b", "1");
+    output.files.put("a", new StringWriter());
+    Output<String> skippingExisting = new Output<String>() {
+      @Override
+      public Function<String, Writer> getFunction() {
+        return item -> output.exists(item) ? SKIP : output.create(item);
+      }
+
+      @Override
+      public boolean exists(String item) {
+        return output.exists(item);
+      }
+    };
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      assertTrue(generator().withOutput(skippingExisting).withExecutor(executor).build()
+          .generateAll(Arrays.asList("a", "b")));
+    } finally {
+      executor.shutdown();
+      executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+    assertEquals(Arrays.asList("b"), rendered);
+    assertEquals(Arrays.asList("b"), output.written);
+  }
+
+  @Test
+  public void shouldCancelPendingRendersWhenWritingFails() throws Exception {
+    List<String> items = IntStream.range(0, 10).mapToObj(String::valueOf).collect(Collectors.toList());
+    List<String> renderedOnExecutor = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch release = new CountDownLatch(1);
+    Output<String> failing = () -> item -> new Writer() {
+      @Override
+      public void write(char[] cbuf, int off, int len) throws IOException {
+        throw new IOException("Disk full");
+      }
+
+      @Override
+      public void flush() throws IOException {
+      }
+
+      @Override
+      public void close() throws IOException {
+      }
+    };
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      assertFalse(CodeGenerator.newGenerator(String.class)
+          .withIdentifier(Function.identity())
+          .withRenderer(item -> {
+            renderedOnExecutor.add(item);
+            if (!item.equals("0")) {
+              try {
+                release.await(10, TimeUnit.SECONDS);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+            }
+            return item;
+          })
+          .withOutput(failing)
+          .skipping(item -> false)
+          .withExecutor(executor)
+          .build()
+          .generateAll(items));
+    } finally {
+      release.countDown();
+      executor.shutdown();
+      executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+    //Only the render that was already running when writing failed, may have run after the first one.
+    assertTrue(renderedOnExecutor.size() <= 2);
+    assertEquals("0", renderedOnExecutor.get(0));
+  }
+
+  @Test
+  public void shouldRenderOnceForOutputsThatNeedTheContent() throws Exception {
+    versions.put("a", "1");
+    List<String> created = new ArrayList<>();
+    Output<String> byContent = new Output<String>() {
+      @Override
+      public Function<String, Writer> getFunction() {
+        return output.getFunction();
+      }
+
+      @Override
+      public Writer create(String item, Supplier<String> content) {
+        created.add(content.get());
+        return create(item);
+      }
+    };
+    assertTrue(generator().withOutput(byContent).generate("a"));
+    assertEquals(Arrays.asList("a:1"), created);
+    assertEquals(Arrays.asList("a"), rendered);
+    assertEquals("a:1", output.files.get("a").toString());
+  }
+
+  @Test
+  public void shouldNotRenderExistingFiles() throws Exception {
+    versions.put("a", "1");
+    versions.put("b", "1");
+    CodeGenerator<String> generator = generator()
+        .withOutput(existing("a"))
+        .build();
+    assertTrue(generator.generate("a", "b"));
+    assertEquals(Arrays.asList("b"), rendered);
+    assertEquals(Arrays.asList("b"), output.written);
+  }
+
+  @Test
+  public void shouldMarkSkippedItemsAsGenerated() throws Exception {
+    List<String> created = new ArrayList<>();
+    Output<String> skipping = new Output<String>() {
+      @Override
+      public Function<String, Writer> getFunction() {
+        return item -> {
+          created.add(item);
+          return SKIP;
+        };
+      }
+    };
+    CodeGenerator<String> generator = generator().withOutput(skipping).build();
+    assertTrue(generator.generate("a"));
+    assertTrue(generator.generate("a"));
+    assertEquals(Arrays.asList("a"), created);
+    assertTrue(rendered.isEmpty());
+  }
+
+  /**
+   * An output that skips the specified items, as if their files already existed.
+   */
+  private Output<String> existing(String... items) {
+    Set<String> existing = new HashSet<>(Arrays.asList(items));
+    return () -> item -> existing.contains(item) ? Output.SKIP : output.create(item);
+  }
+
+  private CodeGenerator.Builder<String> incremental(File manifest) {
+    return generator().incremental(manifest);
+  }
+
+  private CodeGenerator.Builder<String> generator() {
+    return CodeGenerator.newGenerator(String.class)
+        .withIdentifier(Function.identity())
+        .withRenderer(item -> {
+          rendered.add(item);
+          return item + ":" + versions.get(item);
+        })
+        .withOutput(output)
+        .skipping(item -> false);
+  }
+
+  /**
+   * Keeps the written items in memory.
+   */
+  private static class MemoryOutput implements Output<String> {
+
+    private final Map<String, StringWriter> files = new LinkedHashMap<>();
+    private final List<String> written = new ArrayList<>();
+    private final Set<Thread> threads = Collections.synchronizedSet(new HashSet<>());
+
+    @Override
+    public Function<String, Writer> getFunction() {
+      return item -> {
+        threads.add(Thread.currentThread());
+        StringWriter writer = new StringWriter();
+        files.put(item, writer);
+        written.add(item);
+        return writer;
+      };
+    }
+
+    @Override
+    public boolean exists(String item) {
+      threads.add(Thread.currentThread());
+      return files.containsKey(item);
+    }
+  }
+}
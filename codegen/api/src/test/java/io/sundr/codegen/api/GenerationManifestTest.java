@@ -0,0 +1,110 @@
+/**
+ * Copyright 2015 The original authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+**/
+
+package io.sundr.codegen.api;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class GenerationManifestTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldLoadWhatWasSaved() throws Exception {
+    File file = new File(folder.getRoot(), "manifest/generated.txt");
+    GenerationManifest manifest = GenerationManifest.load(file);
+    manifest.update("b", "hash-b", null);
+    manifest.update("a", "hash-a", "print-a");
+    manifest.save();
+
+    GenerationManifest loaded = GenerationManifest.load(file);
+    assertTrue(loaded.hasContent("a", "hash-a"));
+    assertTrue(loaded.isUpToDate("a", "print-a"));
+    assertTrue(loaded.hasContent("b", "hash-b"));
+    assertFalse(loaded.isUpToDate("b", null));
+    assertEquals(Arrays.asList("a\thash-a\tprint-a", "b\thash-b\t"), lines(file));
+  }
+
+  @Test
+  public void shouldIgnoreMalformedLines() throws Exception {
+    File file = folder.newFile("generated.txt");
+    Files.write(file.toPath(), Arrays.asList("a\thash-a\tprint-a", "garbage", "b\thash-b", "", "c\thash-c\t"),
+        StandardCharsets.UTF_8);
+
+    GenerationManifest manifest = GenerationManifest.load(file);
+    assertTrue(manifest.isUpToDate("a", "print-a"));
+    assertFalse(manifest.hasContent("b", "hash-b"));
+    assertFalse(manifest.hasContent("garbage", ""));
+    assertTrue(manifest.hasContent("c", "hash-c"));
+  }
+
+  @Test
+  public void shouldOnlySaveWhenModified() throws Exception {
+    File file = new File(folder.getRoot(), "generated.txt");
+    GenerationManifest manifest = GenerationManifest.load(file);
+    manifest.save();
+    assertFalse(file.exists());
+
+    manifest.update("a", "hash-a", "print-a");
+    manifest.save();
+    assertTrue(file.delete());
+    manifest.update("a", "hash-a", "print-a");
+    manifest.save();
+    assertFalse(file.exists());
+  }
+
+  @Test
+  public void shouldPruneItemsThatAreNoLongerGenerated() throws Exception {
+    File file = new File(folder.getRoot(), "generated.txt");
+    GenerationManifest manifest = GenerationManifest.load(file);
+    manifest.update("a", "hash-a", null);
+    manifest.update("b", "hash-b", null);
+    manifest.update("c", "hash-c", null);
+    manifest.save();
+
+    manifest = GenerationManifest.load(file);
+    manifest.update("a", "hash-a", null);
+    manifest.retain("c");
+    manifest.prune();
+    manifest.save();
+    assertEquals(Arrays.asList("a\thash-a\t", "c\thash-c\t"), lines(file));
+  }
+
+  @Test
+  public void shouldHashContent() throws Exception {
+    assertEquals("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855", GenerationManifest.hash(""));
+    assertEquals(GenerationManifest.hash("class A {}"), GenerationManifest.hash("class A {}"));
+    assertFalse(GenerationManifest.hash("class A {}").equals(GenerationManifest.hash("class B {}")));
+  }
+
+  private static List<String> lines(File file) throws Exception {
+    return Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+  }
+}
@@ -19,11 +19,11 @@ package io.sundr.codegen.apt;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.file.Paths;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.annotation.processing.Filer;
 import javax.tools.FileObject;
@@ -41,7 +41,6 @@ public class GenericAptOutput<T> implements Output<T> {
   private final Renderer<T> renderer;
   private final String moduleAndPackage;
   private final String relativePath;
-  private final static StringWriter DEV_NULL = new StringWriter();
 
   public GenericAptOutput(Filer filer, Renderer<T> renderer, String relativePath) {
     this(filer, renderer, "", relativePath);
@@ -56,26 +55,29 @@ public class GenericAptOutput<T> implements Output<T> {
 
   @Override
   public Function<T, Writer> getFunction() {
-    return type -> {
-      try {
-        String rendered = renderer.render(type);
-        Optional<String> name = Types.parseName(rendered);
-        if ((name.isPresent())) {
-          String pkg = Types.parsePackage(rendered).orElse(moduleAndPackage);
-          String fqcn = Strings.isNullOrEmpty(pkg) ? name.get() : pkg + "." + name.get();
-          FileObject fileObject = filer.getResource(StandardLocation.SOURCE_OUTPUT, pkg, name.get() + ".java");
-          File file = Paths.get(fileObject.toUri()).toFile();
-          //If file exists just send output to /dev/null
-          return file.exists() ? DEV_NULL : filer.createSourceFile(fqcn).openWriter();
-        } else if (Strings.isNotNullOrEmpty(relativePath)) {
-          return filer.createResource(StandardLocation.CLASS_OUTPUT, moduleAndPackage, relativePath).openWriter();
-        } else {
-          throw new SundrException(
-              "Cannot generate resource. No output path specified and generated code does not correspond to a java class (so that output path can be inferred).");
-        }
-      } catch (IOException e) {
-        throw SundrException.launderThrowable(e);
+    return type -> create(type, () -> renderer.render(type));
+  }
+
+  @Override
+  public Writer create(T type, Supplier<String> content) {
+    try {
+      String rendered = content.get();
+      Optional<String> name = Types.parseName(rendered);
+      if ((name.isPresent())) {
+        String pkg = Types.parsePackage(rendered).orElse(moduleAndPackage);
+        String fqcn = Strings.isNullOrEmpty(pkg) ? name.get() : pkg + "." + name.get();
+        FileObject fileObject = filer.getResource(StandardLocation.SOURCE_OUTPUT, pkg, name.get() + ".java");
+        File file = Paths.get(fileObject.toUri()).toFile();
+        //If file exists there's nothing to write
+        return file.exists() ? SKIP : filer.createSourceFile(fqcn).openWriter();
+      } else if (Strings.isNotNullOrEmpty(relativePath)) {
+        return filer.createResource(StandardLocation.CLASS_OUTPUT, moduleAndPackage, relativePath).openWriter();
+      } else {
+        throw new SundrException(
+            "Cannot generate resource. No output path specified and generated code does not correspond to a java class (so that output path can be inferred).");
       }
-    };
+    } catch (IOException e) {
+      throw SundrException.launderThrowable(e);
+    }
   }
 }
@@ -19,10 +19,10 @@ package io.sundr.codegen.apt;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.file.Paths;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.annotation.processing.Filer;
 import javax.tools.FileObject;
@@ -40,7 +40,6 @@ public class TypeDefAptOutput implements Output<TypeDef> {
 
   private final Filer filer;
   private final Renderer<TypeDef> renderer;
-  private final static StringWriter DEV_NULL = new StringWriter();
 
   public TypeDefAptOutput(Filer filer) {
     this(filer, new TypeDefRenderer());
@@ -53,21 +52,50 @@ public class TypeDefAptOutput implements Output<TypeDef> {
 
   @Override
   public Function<TypeDef, Writer> getFunction() {
-    return type -> {
-      try {
-        String rendered = renderer.render(type);
-        String pkg = Types.parsePackage(rendered).orElse("");
-        String name = Types.parseName(rendered)
-            .orElseThrow(() -> new IllegalStateException("Cannot extract fully qualified name from generated code."));
-        String fqcn = Strings.isNullOrEmpty(pkg) ? name : pkg + "." + name;
+    return type -> create(type, () -> renderer.render(type));
+  }
+
+  @Override
+  public boolean exists(TypeDef type) {
+    if (!isRenderedAsIs(type)) {
+      return false;
+    }
+    try {
+      String pkg = Strings.isNullOrEmpty(type.getPackageName()) ? "" : type.getPackageName();
+      FileObject fileObject = filer.getResource(StandardLocation.SOURCE_OUTPUT, pkg, type.getName() + ".java");
+      return Paths.get(fileObject.toUri()).toFile().exists();
+    } catch (IOException e) {
+      return false;
+    }
+  }
 
-        FileObject fileObject = filer.getResource(StandardLocation.SOURCE_OUTPUT, pkg, name + ".java");
-        File file = Paths.get(fileObject.toUri()).toFile();
-        //If file exists just send output to /dev/null
-        return file.exists() ? DEV_NULL : filer.createSourceFile(fqcn).openWriter();
-      } catch (IOException e) {
-        throw SundrException.launderThrowable(e);
+  @Override
+  public Writer create(TypeDef type, Supplier<String> content) {
+    try {
+      String pkg;
+      String name;
+      if (isRenderedAsIs(type)) {
+        //The model is rendered as is, so there's no need to render it to find out the package and name.
+        pkg = Strings.isNullOrEmpty(type.getPackageName()) ? "" : type.getPackageName();
+        name = type.getName();
+      } else {
+        String rendered = content.get();
+        pkg = Types.parsePackage(rendered).orElse("");
+        name = Types.parseName(rendered)
+            .orElseThrow(() -> new IllegalStateException("Cannot extract fully qualified name from generated code."));
       }
-    };
+      String fqcn = Strings.isNullOrEmpty(pkg) ? name : pkg + "." + name;
+
+      FileObject fileObject = filer.getResource(StandardLocation.SOURCE_OUTPUT, pkg, name + ".java");
+      File file = Paths.get(fileObject.toUri()).toFile();
+      //If file exists there's nothing to write
+      return file.exists() ? SKIP : filer.createSourceFile(fqcn).openWriter();
+    } catch (IOException e) {
+      throw SundrException.launderThrowable(e);
+    }
+  }
+
+  private boolean isRenderedAsIs(TypeDef type) {
+    return renderer.getClass() == TypeDefRenderer.class && type.getOuterTypeName() == null;
   }
 }
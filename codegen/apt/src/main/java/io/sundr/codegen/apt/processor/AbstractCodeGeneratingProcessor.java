@@ -16,35 +16,83 @@
 
 package io.sundr.codegen.apt.processor;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicReference;
 
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.ProcessingEnvironment;
+import javax.tools.Diagnostic;
 
+import io.sundr.FunctionFactory;
 import io.sundr.adapter.api.AdapterContext;
 import io.sundr.adapter.apt.AptContext;
 import io.sundr.codegen.api.CodeGenerator;
 import io.sundr.codegen.apt.TypeDefAptOutput;
+import io.sundr.model.Interner;
 import io.sundr.model.TypeDef;
 import io.sundr.model.repo.DefinitionRepository;
 
 public abstract class AbstractCodeGeneratingProcessor extends AbstractProcessor {
 
+  /**
+   * Enables interning of type references, e.g. -Asundrio.intern=true, which saves memory on large models.
+   */
+  public static final String INTERN_OPTION = "sundrio.intern";
+  public static final String PARALLELISM_OPTION = "sundrio.parallelism";
+
   private final AtomicReference<AptContext> context = new AtomicReference<>();
   protected CodeGenerator generator;
+  private int parallelism = 1;
+  //The pool that renders the types of the current generateAll call, if any.
+  private ForkJoinPool pool;
 
   @Override
   public synchronized void init(ProcessingEnvironment processingEnv) {
     super.init(processingEnv);
+    //Long running compilers reuse the same class loader, so don't carry cached results over from previous compilations.
+    FunctionFactory.clearAll();
+    Interner.setEnabled(Boolean.parseBoolean(processingEnv.getOptions().get(INTERN_OPTION)));
     context.set(AptContext.create(processingEnv.getElementUtils(), processingEnv.getTypeUtils(),
         DefinitionRepository.createRepository()));
 
+    //Rendering only reads the model, so it can be spread over several threads, while files are still written by this one.
+    parallelism = parseParallelism(processingEnv.getOptions().get(PARALLELISM_OPTION));
     generator = CodeGenerator.newGenerator(TypeDef.class)
         .withOutput(new TypeDefAptOutput(processingEnv.getFiler()))
         .skipping(AbstractCodeGeneratingProcessor::classExists)
+        .withExecutor(parallelism > 1 ? command -> pool.execute(command) : null)
         .build();
   }
 
+  private int parseParallelism(String value) {
+    if (value == null) {
+      return 1;
+    }
+    try {
+      int threads = Integer.parseInt(value.trim());
+      if (threads > 0) {
+        return threads;
+      }
+    } catch (NumberFormatException e) {
+      //Reported below
+    }
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+        "Invalid value: [" + value + "] for option: [" + PARALLELISM_OPTION
+            + "], expected a positive number. Types will be rendered sequentially.");
+    return 1;
+  }
+
+  @Override
+  public Set<String> getSupportedOptions() {
+    Set<String> options = new HashSet<>(super.getSupportedOptions());
+    options.add(INTERN_OPTION);
+    options.add(PARALLELISM_OPTION);
+    return options;
+  }
+
   public void generate(TypeDef type) {
     if (generator == null) {
       throw new IllegalStateException("CodeGenerator instance shoud not be null.");
@@ -52,6 +100,29 @@ public abstract class AbstractCodeGeneratingProcessor extends AbstractProcessor
     generator.generate(type);
   }
 
+  /**
+   * Generates all the specified types, rendering them in parallel, if the {@value #PARALLELISM_OPTION} option is set.
+   * The threads only live as long as the call.
+   *
+   * @param types the types to generate.
+   */
+  public void generateAll(Collection<TypeDef> types) {
+    if (generator == null) {
+      throw new IllegalStateException("CodeGenerator instance shoud not be null.");
+    }
+    if (parallelism <= 1) {
+      generator.generateAll(types);
+      return;
+    }
+    pool = new ForkJoinPool(parallelism);
+    try {
+      generator.generateAll(types);
+    } finally {
+      pool.shutdown();
+      pool = null;
+    }
+  }
+
   public AptContext getAptContext() {
     return context.get();
   }
@@ -19,9 +19,9 @@ package io.sundr.codegen.template;
 
 import java.net.URL;
 import java.util.Optional;
-import java.util.ServiceLoader;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
+
+import io.sundr.utils.Services;
 
 public class TemplateRenderers {
 
@@ -30,7 +30,6 @@ public class TemplateRenderers {
   }
 
   private static Stream<TemplateRendererFactory> stream() {
-    return StreamSupport.stream(
-        ServiceLoader.load(TemplateRendererFactory.class, TemplateRendererFactory.class.getClassLoader()).spliterator(), false);
+    return Services.load(TemplateRendererFactory.class).stream();
   }
 }
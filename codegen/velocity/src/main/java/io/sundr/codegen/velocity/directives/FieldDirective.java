@@ -55,7 +55,7 @@ public class FieldDirective extends Directive {
 
   private void writeField(Writer writer, Property field, String block) throws IOException {
     if (field != null) {
-      writer.append(field.render(DefinitionScope.get()));
+      field.render(DefinitionScope.get(), writer);
 
       if (field.getAttribute(INIT) != null) {
         writer.append(" = ").append(getDefaultValue(field));
@@ -16,95 +16,411 @@
 
 package io.sundr;
 
-import java.util.Collections;
+import java.lang.ref.WeakReference;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Stack;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+/**
+ * Wraps a function with an optional cache and protection against deep recursion.
+ * Functions are applied concurrently: there is no lock around the computation, so two threads may compute the same item
+ * at the same time, in which case the result cached first wins. Recursion levels and nesting depth are tracked per thread.
+ * Caches are unbounded unless a maximum size or weak keys are requested, and can all be reset at once using
+ * {@link #clearAll()}, e.g. when a new compilation starts in a long running process.
+ */
 public class FunctionFactory<X, Y> implements Function<X, Y> {
 
-  private final Map<X, Y> cache;
+  private static final ThreadLocal<int[]> NESTING_DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+  private static final Queue<WeakReference<Cache<?, ?>>> CACHES = new ConcurrentLinkedQueue<>();
+
+  private final Cache<X, Y> cache;
   private final Function<X, Y> function;
   private final Function<X, Y> fallback;
   private final Predicate<X> fallbackPredicate;
   private final int maximumRecursionLevel;
   private final int maximumNestingDepth;
 
-  private final Stack<X> ownStack;
-  private static final Stack globalStack = new Stack();
+  private final ThreadLocal<Map<X, Computation<Y>>> computations;
 
+  /**
+   * @deprecated Use {@link #cache(Function)} or {@link #wrap(Function)} instead. The cache is used as is, so it needs to
+   *             be thread safe. Recursion is tracked per thread, so the stack is ignored.
+   */
+  @Deprecated
   public FunctionFactory(Map<X, Y> cache, Function<X, Y> function, Function<X, Y> fallback, Predicate<X> fallbackPredicate,
       int maximumRecursionLevel, int maximumNestingDepth, Stack<X> ownStack) {
+    this(cache != null ? new MapCache<X, Y>(cache) : null, function, fallback, fallbackPredicate,
+        maximumRecursionLevel, maximumNestingDepth, newComputations());
+  }
+
+  private FunctionFactory(Cache<X, Y> cache, Function<X, Y> function, Function<X, Y> fallback, Predicate<X> fallbackPredicate,
+      int maximumRecursionLevel, int maximumNestingDepth, ThreadLocal<Map<X, Computation<Y>>> computations) {
     this.cache = cache;
     this.function = function;
     this.fallback = fallback;
     this.fallbackPredicate = fallbackPredicate;
     this.maximumRecursionLevel = maximumRecursionLevel;
     this.maximumNestingDepth = maximumNestingDepth;
-    this.ownStack = ownStack;
+    this.computations = computations;
   }
 
   public Y apply(X item) {
-    Y result;
-    synchronized (function) {
-      ownStack.push(item);
-      globalStack.push(item);
-      try {
-        result = cache != null ? cache.get(item) : null;
-        if (result == null) {
-          int recursionLevel = ownStack != null ? Collections.frequency(ownStack, item) : 0;
-          int nestingDepth = globalStack.size();
-          boolean recursionLevelExceeded = recursionLevel > maximumRecursionLevel && maximumRecursionLevel > 0;
-          boolean nestringDeptExceeded = nestingDepth > maximumNestingDepth && maximumNestingDepth > 0;
-          boolean predicateMatched = fallbackPredicate != null && fallbackPredicate.test(item);
-          if ((recursionLevelExceeded || nestringDeptExceeded || predicateMatched) && fallback != null) {
-            result = fallback.apply(item);
-          } else {
-            result = function.apply(item);
-            cacheIfEnabled(item, result);
-          }
+    Y result = cache != null && item != null ? cache.get(item) : null;
+    if (result != null) {
+      return result;
+    }
+
+    Map<X, Computation<Y>> current = computations.get();
+    Computation<Y> computation = current.computeIfAbsent(item, k -> new Computation<>());
+    if (computation.nested != null) {
+      return computation.nested;
+    }
+    int[] nestingDepth = NESTING_DEPTH.get();
+    computation.level++;
+    nestingDepth[0]++;
+    try {
+      boolean recursionLevelExceeded = computation.level > maximumRecursionLevel && maximumRecursionLevel > 0;
+      boolean nestringDeptExceeded = nestingDepth[0] > maximumNestingDepth && maximumNestingDepth > 0;
+      boolean predicateMatched = fallbackPredicate != null && fallbackPredicate.test(item);
+      if ((recursionLevelExceeded || nestringDeptExceeded || predicateMatched) && fallback != null) {
+        result = fallback.apply(item);
+      } else {
+        result = function.apply(item);
+        if (computation.level == 1) {
+          result = cacheIfEnabled(item, result);
+        } else if (cache != null) {
+          //Nested computations of an item may have been cut short by the fallback, so their result is only reused
+          //by the thread computing the outermost one, until that one is cached.
+          computation.nested = result;
         }
-      } finally {
-        ownStack.pop();
-        globalStack.pop();
       }
-      return result;
+    } finally {
+      nestingDepth[0]--;
+      if (--computation.level == 0) {
+        current.remove(item);
+      }
     }
+    return result;
   }
 
-  private void cacheIfEnabled(X item, Y result) {
+  private Y cacheIfEnabled(X item, Y result) {
+    if (cache != null && item != null && result != null) {
+      return cache.putIfAbsent(item, result);
+    }
+    return result;
+  }
+
+  /**
+   * Removes all cached results.
+   */
+  public void clear() {
     if (cache != null) {
-      cache.put(item, result);
+      cache.clear();
     }
   }
 
+  /**
+   * @return the number of times a result was found in the cache.
+   */
+  public long getHitCount() {
+    return cache != null ? cache.hits.sum() : 0;
+  }
+
+  /**
+   * @return the number of times a result had to be computed, because it was not found in the cache.
+   */
+  public long getMissCount() {
+    return cache != null ? cache.misses.sum() : 0;
+  }
+
+  /**
+   * @return the number of results removed from the cache, in order to stay within the maximum size.
+   */
+  public long getEvictionCount() {
+    return cache != null ? cache.evictions.sum() : 0;
+  }
+
+  /**
+   * Removes the cached results of all functions.
+   */
+  public static void clearAll() {
+    for (Iterator<WeakReference<Cache<?, ?>>> iterator = CACHES.iterator(); iterator.hasNext();) {
+      Cache<?, ?> cache = iterator.next().get();
+      if (cache != null) {
+        cache.clear();
+      } else {
+        iterator.remove();
+      }
+    }
+  }
+
+  private static <X, Y> ThreadLocal<Map<X, Computation<Y>>> newComputations() {
+    return ThreadLocal.withInitial(HashMap::new);
+  }
+
   public static <X, Y> FunctionFactory<X, Y> cache(Function<X, Y> function) {
-    return new FunctionFactory<X, Y>(new HashMap<X, Y>(), function, null, null, 0, 0, new Stack<X>());
+    Cache<X, Y> cache = new MapCache<X, Y>(new ConcurrentHashMap<X, Y>());
+    return new FunctionFactory<X, Y>(cache, function, null, null, 0, 0, newComputations());
   }
 
   public static <X, Y> FunctionFactory<X, Y> wrap(Function<X, Y> function) {
-    return new FunctionFactory<X, Y>(null, function, null, null, 0, 0, new Stack<X>());
+    return new FunctionFactory<X, Y>(null, function, null, null, 0, 0, newComputations());
   }
 
   public FunctionFactory<X, Y> withFallback(Function<X, Y> fallback) {
     return new FunctionFactory<X, Y>(cache, function, fallback, fallbackPredicate, maximumRecursionLevel, maximumNestingDepth,
-        ownStack);
+        computations);
   }
 
   public FunctionFactory<X, Y> withMaximumRecursionLevel(int maximumRecursionLevel) {
     return new FunctionFactory<X, Y>(cache, function, fallback, fallbackPredicate, maximumRecursionLevel, maximumNestingDepth,
-        ownStack);
+        computations);
   }
 
   public FunctionFactory<X, Y> withMaximumNestingDepth(int maximumNestingDepth) {
     return new FunctionFactory<X, Y>(cache, function, fallback, fallbackPredicate, maximumRecursionLevel, maximumNestingDepth,
-        ownStack);
+        computations);
   }
 
   public FunctionFactory<X, Y> withFallbackPredicate(Predicate<X> fallbackPredicate) {
     return new FunctionFactory<X, Y>(cache, function, fallback, fallbackPredicate, maximumRecursionLevel, maximumNestingDepth,
-        ownStack);
+        computations);
+  }
+
+  /**
+   * Caches at most the specified number of results, evicting the least recently used ones first.
+   * Lookups don't lock: they are recorded and replayed on the eviction order by the next thread that caches a result.
+   * This replaces weak keys, if previously requested.
+   *
+   * @param maximumSize the maximum number of cached results, which must be positive.
+   * @return a function that shares everything but the cache with this one.
+   * @throws IllegalArgumentException if the maximum size is not positive.
+   */
+  public FunctionFactory<X, Y> withMaximumSize(int maximumSize) {
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("Maximum size should be positive, but was: " + maximumSize + ".");
+    }
+    return new FunctionFactory<X, Y>(new BoundedCache<X, Y>(maximumSize), function, fallback, fallbackPredicate,
+        maximumRecursionLevel, maximumNestingDepth, computations);
+  }
+
+  /**
+   * Only holds weak references to the items, so that the cache does not keep them from being garbage collected.
+   * The items are spread over several maps, each with its own lock.
+   * This replaces the maximum size, if previously requested.
+   *
+   * @return a function that shares everything but the cache with this one.
+   */
+  public FunctionFactory<X, Y> withWeakKeys() {
+    return new FunctionFactory<X, Y>(new WeakCache<X, Y>(), function, fallback, fallbackPredicate,
+        maximumRecursionLevel, maximumNestingDepth, computations);
+  }
+
+  /**
+   * The state of the computations of an item by the current thread.
+   */
+  private static final class Computation<Y> {
+
+    private int level;
+    private Y nested;
+  }
+
+  /**
+   * The cached results along with their statistics.
+   * Every cache is registered, so that {@link #clearAll()} can reach it.
+   */
+  private abstract static class Cache<X, Y> {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    protected final LongAdder evictions = new LongAdder();
+
+    private Cache() {
+      CACHES.add(new WeakReference<Cache<?, ?>>(this));
+    }
+
+    private Y get(X item) {
+      Y result = lookup(item);
+      if (result != null) {
+        hits.increment();
+      } else {
+        misses.increment();
+      }
+      return result;
+    }
+
+    protected abstract Y lookup(X item);
+
+    /**
+     * @return the result already cached for the item, if any, or else the specified one.
+     */
+    protected abstract Y putIfAbsent(X item, Y result);
+
+    protected abstract void clear();
+  }
+
+  private static final class MapCache<X, Y> extends Cache<X, Y> {
+
+    private final Map<X, Y> map;
+
+    private MapCache(Map<X, Y> map) {
+      this.map = map;
+    }
+
+    @Override
+    protected Y lookup(X item) {
+      return map.get(item);
+    }
+
+    @Override
+    protected Y putIfAbsent(X item, Y result) {
+      Y existing = map.putIfAbsent(item, result);
+      return existing != null ? existing : result;
+    }
+
+    @Override
+    protected void clear() {
+      map.clear();
+    }
+  }
+
+  /**
+   * Keeps the results in a concurrent map, and the eviction order in a separate access ordered map guarded by a lock.
+   * Lookups only queue the items they found, so they never wait for the lock.
+   */
+  private static final class BoundedCache<X, Y> extends Cache<X, Y> {
+
+    //The number of queued lookups, past which lookups replay them too, if the lock is available.
+    private static final int MAXIMUM_PENDING_LOOKUPS = 64;
+
+    private final int maximumSize;
+    private final Map<X, Y> map = new ConcurrentHashMap<>();
+    private final LinkedHashMap<X, Boolean> order = new LinkedHashMap<>(16, 0.75f, true);
+    private final Queue<X> lookups = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingLookups = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private BoundedCache(int maximumSize) {
+      this.maximumSize = maximumSize;
+    }
+
+    @Override
+    protected Y lookup(X item) {
+      Y result = map.get(item);
+      if (result != null) {
+        lookups.add(item);
+        if (pendingLookups.incrementAndGet() > MAXIMUM_PENDING_LOOKUPS && lock.tryLock()) {
+          try {
+            replayLookups();
+          } finally {
+            lock.unlock();
+          }
+        }
+      }
+      return result;
+    }
+
+    @Override
+    protected Y putIfAbsent(X item, Y result) {
+      Y existing = map.putIfAbsent(item, result);
+      if (existing != null) {
+        return existing;
+      }
+      lock.lock();
+      try {
+        replayLookups();
+        order.put(item, Boolean.TRUE);
+        for (Iterator<X> iterator = order.keySet().iterator(); order.size() > maximumSize && iterator.hasNext();) {
+          map.remove(iterator.next());
+          iterator.remove();
+          evictions.increment();
+        }
+      } finally {
+        lock.unlock();
+      }
+      return result;
+    }
+
+    @Override
+    protected void clear() {
+      lock.lock();
+      try {
+        map.clear();
+        order.clear();
+        lookups.clear();
+        pendingLookups.set(0);
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void replayLookups() {
+      X item;
+      while ((item = lookups.poll()) != null) {
+        pendingLookups.decrementAndGet();
+        //Moves the item to the end of the eviction order, unless it has been evicted in the meantime.
+        order.get(item);
+      }
+    }
+  }
+
+  /**
+   * Spreads the items over several weak maps, so that threads only contend for the lock of a single one.
+   */
+  private static final class WeakCache<X, Y> extends Cache<X, Y> {
+
+    private static final int SEGMENTS = 16;
+
+    private final Map<X, Y>[] segments;
+
+    @SuppressWarnings("unchecked")
+    private WeakCache() {
+      segments = new Map[SEGMENTS];
+      for (int i = 0; i < SEGMENTS; i++) {
+        segments[i] = new WeakHashMap<>();
+      }
+    }
+
+    private Map<X, Y> segmentOf(X item) {
+      int hash = item.hashCode();
+      return segments[(hash ^ (hash >>> 16)) & (SEGMENTS - 1)];
+    }
+
+    @Override
+    protected Y lookup(X item) {
+      Map<X, Y> segment = segmentOf(item);
+      synchronized (segment) {
+        return segment.get(item);
+      }
+    }
+
+    @Override
+    protected Y putIfAbsent(X item, Y result) {
+      Map<X, Y> segment = segmentOf(item);
+      synchronized (segment) {
+        Y existing = segment.putIfAbsent(item, result);
+        return existing != null ? existing : result;
+      }
+    }
+
+    @Override
+    protected void clear() {
+      for (Map<X, Y> segment : segments) {
+        synchronized (segment) {
+          segment.clear();
+        }
+      }
+    }
   }
 }
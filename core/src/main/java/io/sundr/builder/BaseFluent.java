@@ -23,14 +23,32 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class BaseFluent<F extends Fluent<F>> implements Fluent<F>, Visitable<F> {
 
   private static final String VISIT = "visit";
+  private static final int DEFAULT_PARALLELISM_THRESHOLD = 16;
+
+  private static final ClassValue<VisitDispatch> VISIT_DISPATCH = new ClassValue<VisitDispatch>() {
+    @Override
+    protected VisitDispatch computeValue(Class<?> visitorClass) {
+      return new VisitDispatch(getVisitMethodType(visitorClass));
+    }
+  };
 
   public final VisitableMap _visitables = new VisitableMap();
 
+  /**
+   * The number of modifications made through the fluent methods, or by visitors.
+   * Builders compare it against the value they last built at, to tell whether anything changed since. Visiting a fluent
+   * counts as a modification, as visitors may have modified its nested builders.
+   */
+  protected int modCount;
+
   public static <T> VisitableBuilder<T, ?> builderOf(T item) {
     if (item instanceof Editable) {
       Object editor = ((Editable) item).edit();
@@ -55,6 +73,59 @@ public class BaseFluent<F extends Fluent<F>> implements Fluent<F>, Visitable<F>
     return set == null ? null : new ArrayList<T>(set.stream().map(Builder::build).collect(Collectors.toList()));
   }
 
+  /**
+   * Builds the specified builders, reusing the previously built list if every builder builds to the item it already holds.
+   * The result may be the previous list itself, so it's meant to be kept internally and only handed out as a copy.
+   *
+   * @param list the builders.
+   * @param previous the list returned by the previous call, or null.
+   * @param <T> the type of the built items.
+   * @return the built list.
+   */
+  public static <T> List<T> build(List<? extends Builder<? extends T>> list, List<T> previous) {
+    return list == null ? null : reuse(list, Builder::build, previous);
+  }
+
+  private static <S, T> List<T> reuse(List<? extends S> list, Function<S, ? extends T> function, List<T> previous) {
+    int size = list.size();
+    boolean reuse = previous != null && previous.size() == size;
+    List<T> result = reuse ? previous : new ArrayList<T>(size);
+    int index = 0;
+    for (S source : list) {
+      T item = function.apply(source);
+      if (reuse) {
+        if (previous.get(index) == item) {
+          index++;
+          continue;
+        }
+        reuse = false;
+        result = new ArrayList<T>(size);
+        result.addAll(previous.subList(0, index));
+      }
+      result.add(item);
+      index++;
+    }
+    return result;
+  }
+
+  /**
+   * Finds the specified item, looking it up by identity before falling back to equality.
+   * Builders are usually looked up using an instance from the list itself, and comparing them for equality walks their
+   * whole content.
+   *
+   * @param list the list.
+   * @param item the item to find.
+   * @return the index of the item, or -1 if the list does not contain it.
+   */
+  public static int indexOf(List<?> list, Object item) {
+    for (int i = 0; i < list.size(); i++) {
+      if (list.get(i) == item) {
+        return i;
+      }
+    }
+    return list.indexOf(item);
+  }
+
   public static <T> List<T> aggregate(List<? extends T>... lists) {
     return new ArrayList(Arrays.stream(lists).filter(Objects::nonNull).collect(Collectors.toList()));
   }
@@ -84,6 +155,7 @@ public class BaseFluent<F extends Fluent<F>> implements Fluent<F>, Visitable<F>
 
   /**
    * Checks if the specified visitor has a visit method compatible with the specified fluent.
+   * The outcome only depends on the visitor and fluent classes, so it is resolved once per pair and cached.
    * 
    * @param visitor
    * @param fluent
@@ -92,22 +164,75 @@ public class BaseFluent<F extends Fluent<F>> implements Fluent<F>, Visitable<F>
    * @return
    */
   private static <V, F> Boolean hasCompatibleVisitMethod(V visitor, F fluent) {
-    for (Method method : visitor.getClass().getMethods()) {
+    return VISIT_DISPATCH.get(visitor.getClass()).canVisit(fluent.getClass());
+  }
+
+  /**
+   * Finds the type accepted by the visit method of the specified visitor class.
+   *
+   * @param visitorClass the visitor class.
+   * @return the parameter type of the first single argument visit method, or null if none is found.
+   */
+  private static Class<?> getVisitMethodType(Class<?> visitorClass) {
+    for (Method method : visitorClass.getMethods()) {
       if (!method.getName().equals(VISIT) || method.getParameterTypes().length != 1) {
         continue;
       }
-      Class visitorType = method.getParameterTypes()[0];
-      if (visitorType.isAssignableFrom(fluent.getClass())) {
-        return true;
-      } else {
-        return false;
-      }
+      return method.getParameterTypes()[0];
+    }
+    return null;
+  }
+
+  /**
+   * Holds the compatibility of a single visitor class against each fluent class it has been applied to.
+   * The results are kept by the fluent classes, through a {@link ClassValue}, so that visitor classes don't hold on to
+   * fluent classes from other class loaders.
+   */
+  private static final class VisitDispatch {
+
+    private final ClassValue<Boolean> compatible;
+
+    private VisitDispatch(Class<?> visitType) {
+      this.compatible = visitType == null ? null : new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> fluentClass) {
+          return visitType.isAssignableFrom(fluentClass);
+        }
+      };
+    }
+
+    private Boolean canVisit(Class<?> fluentClass) {
+      return compatible != null && compatible.get(fluentClass);
     }
-    return false;
   }
 
+  /**
+   * Visits this fluent and its nested visitables with all the specified visitors, in a single traversal.
+   * Each visitor sees the nested visitables of a fluent before the fluent itself, and on each fluent the visitors are
+   * applied in the order they are specified. As the traversal is shared, a visitor doesn't see the result of the whole
+   * pass of the visitors that precede it: when it visits a fluent, they have visited that fluent and its nested
+   * visitables, but not the rest of the tree. Use {@link #acceptSequentially(Visitor...)} for visitors that depend on
+   * each other's complete results.
+   *
+   * @param visitors the visitors.
+   * @return this fluent.
+   */
   public F accept(Visitor... visitors) {
-    return isPathAwareVisitorArray(visitors) ? acceptPathAware(asPathAwareVisitorArray(visitors)) : acceptInternal(visitors);
+    return acceptInternal(nextPathAware(visitors));
+  }
+
+  /**
+   * Visits this fluent and its nested visitables with each of the specified visitors in turn, traversing the whole tree
+   * once per visitor, so that each visitor sees the result of the complete pass of the visitors that precede it.
+   *
+   * @param visitors the visitors.
+   * @return this fluent.
+   */
+  public F acceptSequentially(Visitor... visitors) {
+    for (Visitor visitor : visitors) {
+      accept(visitor);
+    }
+    return (F) this;
   }
 
   @Override
@@ -125,31 +250,115 @@ public class BaseFluent<F extends Fluent<F>> implements Fluent<F>, Visitable<F>
     });
   }
 
+  /**
+   * Creates the nested builders that have been deferred, so that they can be found in {@link #_visitables}.
+   * Fluents created from an existing instance only create the builders of its nested buildables once they are modified,
+   * and override this method to create the rest before they are visited.
+   */
+  protected void materialize() {
+  }
+
+  /**
+   * Visits the nested visitables and then this fluent, in a single pass for all visitors, see {@link #accept(Visitor...)}.
+   * Visitables that a visitor adds to a fluent that it visits, are not visited by the rest of the visitors of the same
+   * pass.
+   * 
+   * @param visitors the visitors.
+   * @return this fluent.
+   */
   private F acceptInternal(Visitor... visitors) {
+    modCount++;
+    materialize();
+    for (Visitable visitable : _visitables) {
+      visitable.accept(visitors);
+    }
+
     for (Visitor visitor : visitors) {
-      for (Visitable visitable : _visitables) {
-        visitable.accept(visitor);
+      if (canVisit(visitor, this)) {
+        visitor.visit(this);
       }
+    }
+    return (F) this;
+  }
 
+  /**
+   * Visits this fluent and its nested visitables, forking sub-trees onto the common {@link ForkJoinPool}.
+   * 
+   * @param visitors the visitors, which should all implement {@link Visitor.ThreadSafe}.
+   * @return this fluent.
+   */
+  public F acceptParallel(Visitor... visitors) {
+    return acceptParallel(ForkJoinPool.commonPool(), DEFAULT_PARALLELISM_THRESHOLD, visitors);
+  }
+
+  /**
+   * Visits this fluent and its nested visitables, forking sub-trees onto the specified {@link ForkJoinPool}.
+   * Nested visitables are visited in parallel only when a node holds at least threshold of them. Each node is still
+   * visited after all of its nested visitables. If any of the visitors is not {@link Visitor.ThreadSafe}, this falls back
+   * to {@link #accept(Visitor...)}.
+   * 
+   * @param pool the pool to use.
+   * @param threshold the minimum number of nested visitables a node needs, for them to be visited in parallel.
+   * @param visitors the visitors.
+   * @return this fluent.
+   */
+  public F acceptParallel(ForkJoinPool pool, int threshold, Visitor... visitors) {
+    if (!areThreadSafe(visitors)) {
+      return accept(visitors);
+    }
+    pool.invoke(ForkJoinTask.adapt(() -> acceptParallel(threshold, visitors)));
+    return (F) this;
+  }
+
+  private void acceptParallel(int threshold, Visitor... visitors) {
+    modCount++;
+    materialize();
+    List<Visitable> visitables = _visitables.aggregate();
+    if (visitables.size() >= threshold) {
+      ForkJoinTask.invokeAll(visitables.stream()
+          .map(v -> ForkJoinTask.adapt(() -> acceptParallel(v, threshold, visitors)))
+          .collect(Collectors.toList()));
+    } else {
+      for (Visitable visitable : visitables) {
+        acceptParallel(visitable, threshold, visitors);
+      }
+    }
+
+    for (Visitor visitor : visitors) {
       if (canVisit(visitor, this)) {
         visitor.visit(this);
       }
     }
-    return (F) this;
   }
 
-  private F acceptPathAware(PathAwareTypedVisitor... pathAwareTypedVisitors) {
-    return acceptInternal(
-        Arrays.stream(pathAwareTypedVisitors).map(p -> p.next(this)).toArray(size -> new PathAwareTypedVisitor[size]));
+  private static void acceptParallel(Visitable visitable, int threshold, Visitor... visitors) {
+    if (visitable instanceof BaseFluent) {
+      ((BaseFluent<?>) visitable).acceptParallel(threshold, visitors);
+    } else {
+      visitable.accept(visitors);
+    }
   }
 
-  private static boolean isPathAwareVisitorArray(Visitor... visitors) {
-    return !Arrays.stream(visitors).filter(v -> !(v instanceof PathAwareTypedVisitor)).findAny().isPresent();
+  private static boolean areThreadSafe(Visitor... visitors) {
+    return Arrays.stream(visitors).allMatch(v -> v instanceof Visitor.ThreadSafe && !(v instanceof PathAwareTypedVisitor));
   }
 
-  private static PathAwareTypedVisitor[] asPathAwareVisitorArray(Visitor... visitors) {
-    return Arrays.stream(visitors).filter(v -> v instanceof PathAwareTypedVisitor)
-        .map(v -> (PathAwareTypedVisitor) v)
-        .toArray(size -> new PathAwareTypedVisitor[size]);
+  /**
+   * Advances the path aware visitors to this fluent, whether or not they are mixed with other visitors.
+   *
+   * @param visitors the visitors.
+   * @return the visitors to apply to this fluent and its nested visitables.
+   */
+  private Visitor[] nextPathAware(Visitor... visitors) {
+    Visitor[] next = visitors;
+    for (int i = 0; i < visitors.length; i++) {
+      if (visitors[i] instanceof PathAwareTypedVisitor) {
+        if (next == visitors) {
+          next = visitors.clone();
+        }
+        next[i] = ((PathAwareTypedVisitor) visitors[i]).next(this);
+      }
+    }
+    return next;
   }
 }
@@ -16,52 +16,81 @@
 
 package io.sundr.builder;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 public class PathAwareTypedVisitor<V, P> extends TypedVisitor<V> {
 
-  private List<Object> path;
+  private static final ClassValue<List<Class>> PARENT_TYPE_ARGUMENTS = new ClassValue<List<Class>>() {
+    @Override
+    protected List<Class> computeValue(Class<?> type) {
+      return getTypeArguments(PathAwareTypedVisitor.class, (Class<? extends PathAwareTypedVisitor>) type);
+    }
+  };
+
+  //The visitor that is being applied on the current thread, which knows the path its delegate should report.
+  private static final ThreadLocal<PathAwareTypedVisitor<?, ?>> VISITING = new ThreadLocal<>();
+
+  private final Path path;
   private final PathAwareTypedVisitor<V, P> delegate;
   private final Class<P> parentType;
 
   public PathAwareTypedVisitor() {
-    this.path = new ArrayList<Object>();
+    this.path = Path.EMPTY;
     this.delegate = this;
-    this.parentType = (Class<P>) getTypeArguments(PathAwareTypedVisitor.class, getClass()).get(1);
+    this.parentType = (Class<P>) PARENT_TYPE_ARGUMENTS.get(getClass()).get(1);
   }
 
   public PathAwareTypedVisitor(List<Object> path) {
-    this.path = path;
+    this.path = Path.of(path);
     this.delegate = this;
-    this.parentType = (Class<P>) getTypeArguments(PathAwareTypedVisitor.class, getClass()).get(1);
+    this.parentType = (Class<P>) PARENT_TYPE_ARGUMENTS.get(getClass()).get(1);
   }
 
   public PathAwareTypedVisitor(List<Object> path, PathAwareTypedVisitor<V, P> delegate) {
+    this(Path.of(path), delegate);
+  }
+
+  private PathAwareTypedVisitor(Path path, PathAwareTypedVisitor<V, P> delegate) {
     this.path = path;
     this.delegate = delegate;
-    this.parentType = (Class<P>) getTypeArguments(PathAwareTypedVisitor.class, delegate.getClass()).get(1);
+    this.parentType = (Class<P>) PARENT_TYPE_ARGUMENTS.get(delegate.getClass()).get(1);
   }
 
+  /**
+   * Creates a visitor for the specified item, that extends the path of the current one.
+   * The path is shared with the current visitor, so this doesn't copy anything.
+   * 
+   * @param item the item to append to the path.
+   * @return a new visitor that delegates to the original one.
+   */
   public PathAwareTypedVisitor<V, P> next(Object item) {
-    List<Object> path = new ArrayList<Object>(this.path);
-    path.add(item);
-    return new PathAwareTypedVisitor<V, P>(path, this);
+    return new PathAwareTypedVisitor<V, P>(new Path(path, item), delegate);
   }
 
   @Override
   public void visit(V element) {
-    delegate.path = path;
-    delegate.visit(element);
+    PathAwareTypedVisitor<?, ?> previous = VISITING.get();
+    VISITING.set(this);
+    try {
+      delegate.visit(element);
+    } finally {
+      if (previous != null) {
+        VISITING.set(previous);
+      } else {
+        VISITING.remove();
+      }
+    }
   }
 
   public P getParent() {
-    return path.size() - 2 >= 0 ? (P) path.get(path.size() - 2) : null;
+    Path path = currentPath();
+    return path.parent != null && path.parent.size > 0 ? (P) path.parent.item : null;
   }
 
   public List<Object> getPath() {
-    return Collections.unmodifiableList(path);
+    return Collections.unmodifiableList(currentPath().toList());
   }
 
   @Override
@@ -73,7 +102,50 @@ public class PathAwareTypedVisitor<V, P> extends TypedVisitor<V> {
     return parentType != null ? parentType : delegate.getParentType();
   }
 
+  /**
+   * While a visitor created by {@link #next(Object)} is applied, its delegate reports the path of that visitor.
+   * The path is only shared through the visiting thread, so the delegate itself is never modified.
+   */
+  private Path currentPath() {
+    PathAwareTypedVisitor<?, ?> visiting = VISITING.get();
+    return visiting != null && visiting != this && visiting.delegate == this ? visiting.path : path;
+  }
+
   Class getActualParentType() {
-    return path.size() - 2 >= 0 ? path.get(path.size() - 2).getClass() : Void.class;
+    return path.parent != null && path.parent.size > 0 ? path.parent.item.getClass() : Void.class;
+  }
+
+  /**
+   * An immutable path, where each element only links to the path of its parent.
+   */
+  private static final class Path {
+
+    private static final Path EMPTY = new Path(null, null);
+
+    private final Path parent;
+    private final Object item;
+    private final int size;
+
+    private Path(Path parent, Object item) {
+      this.parent = parent;
+      this.item = item;
+      this.size = parent != null ? parent.size + 1 : 0;
+    }
+
+    private static Path of(List<Object> items) {
+      Path path = EMPTY;
+      for (Object item : items) {
+        path = new Path(path, item);
+      }
+      return path;
+    }
+
+    private List<Object> toList() {
+      Object[] items = new Object[size];
+      for (Path p = this; p.size > 0; p = p.parent) {
+        items[p.size - 1] = p.item;
+      }
+      return Arrays.asList(items);
+    }
   }
 }
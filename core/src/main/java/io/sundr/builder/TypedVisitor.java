@@ -28,8 +28,15 @@ import java.util.Map;
 
 public abstract class TypedVisitor<V> implements Visitor<V> {
 
+  private static final ClassValue<List<Class>> TYPE_ARGUMENTS = new ClassValue<List<Class>>() {
+    @Override
+    protected List<Class> computeValue(Class<?> type) {
+      return getTypeArguments(TypedVisitor.class, (Class<? extends TypedVisitor>) type);
+    }
+  };
+
   public Class<V> getType() {
-    return (Class<V>) getTypeArguments(TypedVisitor.class, getClass()).get(0);
+    return (Class<V>) TYPE_ARGUMENTS.get(getClass()).get(0);
   }
 
   /**
@@ -16,41 +16,352 @@
 
 package io.sundr.builder;
 
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.Set;
 import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
-public class VisitableMap extends HashMap<String, List<Visitable>> implements Iterable<Visitable> {
+/**
+ * Holds the nested {@link Visitable} instances of a fluent, grouped by property.
+ * Each property is assigned a slot by {@link #slot(String)}, in insertion order, while looking up a property that has no
+ * slot returns an empty list, without modifying the map. Iterating over the visitables walks the slots in place, and
+ * fails with a {@link ConcurrentModificationException} if visitables are added or removed in the meantime.
+ */
+public class VisitableMap extends AbstractMap<String, List<Visitable>> implements Iterable<Visitable> {
+
+  private static final int INITIAL_CAPACITY = 4;
+
+  private Slot[] slots = new Slot[INITIAL_CAPACITY];
+  private int count;
+  //The number of structural modifications of the map and its slots, checked by the iterators.
+  private int modCount;
 
+  /**
+   * Gets the visitables of the specified property.
+   *
+   * @param key the property.
+   * @return the visitables of the property, or an immutable empty list if none has been added yet.
+   */
   @Override
   public List<Visitable> get(Object key) {
-    if (!containsKey(key)) {
-      put(String.valueOf(key), new ArrayList());
+    Slot slot = find(key);
+    return slot != null ? slot : Collections.emptyList();
+  }
+
+  /**
+   * Gets the visitables of the specified property, to modify them.
+   *
+   * @param key the property.
+   * @return the modifiable visitables of the property, which are assigned a slot if they don't have one yet.
+   */
+  public List<Visitable> slot(String key) {
+    Slot slot = find(key);
+    if (slot == null) {
+      slot = new Slot(key);
+      attach(slot);
+    }
+    return slot;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return find(key) != null;
+  }
+
+  @Override
+  public List<Visitable> put(String key, List<Visitable> value) {
+    Slot slot = find(key);
+    List<Visitable> previous = slot != null ? new ArrayList<>(slot) : null;
+    if (slot == null) {
+      slot = new Slot(key);
+      attach(slot);
     }
-    return super.get(key);
+    slot.clearItems();
+    if (value != null) {
+      slot.addAll(value);
+    }
+    return previous;
+  }
+
+  @Override
+  public List<Visitable> remove(Object key) {
+    for (int i = 0; i < count; i++) {
+      if (slots[i].key.equals(key)) {
+        Slot slot = slots[i];
+        System.arraycopy(slots, i + 1, slots, i, count - i - 1);
+        slots[--count] = null;
+        modCount++;
+        return slot;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(slots, 0, count, null);
+    count = 0;
+    modCount++;
+  }
+
+  @Override
+  public int size() {
+    return count;
+  }
+
+  @Override
+  public Set<Entry<String, List<Visitable>>> entrySet() {
+    return new AbstractSet<Entry<String, List<Visitable>>>() {
+      @Override
+      public Iterator<Entry<String, List<Visitable>>> iterator() {
+        return new Iterator<Entry<String, List<Visitable>>>() {
+          private int index;
+
+          @Override
+          public boolean hasNext() {
+            return index < count;
+          }
+
+          @Override
+          public Entry<String, List<Visitable>> next() {
+            if (index >= count) {
+              throw new NoSuchElementException();
+            }
+            Slot slot = slots[index++];
+            return new SimpleImmutableEntry<>(slot.key, slot);
+          }
+
+          @Override
+          public void remove() {
+            VisitableMap.this.remove(slots[--index].key);
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return count;
+      }
+    };
   }
 
   public List<Visitable> aggregate() {
-    return values().stream().flatMap(l -> l.stream()).collect(Collectors.toList());
+    List<Visitable> result = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      result.addAll(slots[i]);
+    }
+    return result;
   }
 
   @Override
   public Iterator<Visitable> iterator() {
-    return aggregate().iterator();
+    return new Iterator<Visitable>() {
+      private final int expectedModCount = modCount;
+      private int slot;
+      private int item;
+
+      @Override
+      public boolean hasNext() {
+        checkForComodification(expectedModCount);
+        while (slot < count) {
+          if (item < slots[slot].size) {
+            return true;
+          }
+          slot++;
+          item = 0;
+        }
+        return false;
+      }
+
+      @Override
+      public Visitable next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return slots[slot].items[item++];
+      }
+    };
   }
 
   @Override
   public void forEach(Consumer<? super Visitable> action) {
-    aggregate().forEach(action);
+    int expectedModCount = modCount;
+    for (int i = 0; i < count; i++) {
+      Slot slot = slots[i];
+      for (int j = 0; j < slot.size; j++) {
+        action.accept(slot.items[j]);
+        checkForComodification(expectedModCount);
+      }
+    }
   }
 
   @Override
   public Spliterator<Visitable> spliterator() {
-    return aggregate().spliterator();
+    return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL);
   }
 
+  private Slot find(Object key) {
+    for (int i = 0; i < count; i++) {
+      Slot slot = slots[i];
+      if (slot.key == key || slot.key.equals(key)) {
+        return slot;
+      }
+    }
+    return null;
+  }
+
+  private void attach(Slot slot) {
+    if (count == slots.length) {
+      slots = Arrays.copyOf(slots, count * 2);
+    }
+    slots[count++] = slot;
+    modCount++;
+  }
+
+  private void checkForComodification(int expectedModCount) {
+    if (modCount != expectedModCount) {
+      throw new ConcurrentModificationException();
+    }
+  }
+
+  /**
+   * The visitables of a single property.
+   */
+  private final class Slot extends AbstractList<Visitable> implements RandomAccess {
+
+    private final String key;
+    private Visitable[] items;
+    private int size;
+
+    private Slot(String key) {
+      this.key = key;
+    }
+
+    @Override
+    public Visitable get(int index) {
+      checkIndex(index, size);
+      return items[index];
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public Visitable set(int index, Visitable element) {
+      checkIndex(index, size);
+      Visitable previous = items[index];
+      items[index] = element;
+      return previous;
+    }
+
+    @Override
+    public void add(int index, Visitable element) {
+      checkIndex(index, size + 1);
+      if (items == null) {
+        items = new Visitable[INITIAL_CAPACITY];
+      } else if (size == items.length) {
+        items = Arrays.copyOf(items, size * 2);
+      }
+      System.arraycopy(items, index, items, index + 1, size - index);
+      items[index] = element;
+      size++;
+      modified();
+    }
+
+    @Override
+    public Visitable remove(int index) {
+      checkIndex(index, size);
+      Visitable previous = items[index];
+      System.arraycopy(items, index + 1, items, index, size - index - 1);
+      items[--size] = null;
+      modified();
+      return previous;
+    }
+
+    /**
+     * Removes the specified visitable, looking it up by identity before falling back to equality.
+     * Builders are usually removed using the same instance that was added, and comparing them for equality walks their
+     * whole content.
+     */
+    @Override
+    public boolean remove(Object o) {
+      for (int i = 0; i < size; i++) {
+        if (items[i] == o) {
+          remove(i);
+          return true;
+        }
+      }
+      for (int i = 0; i < size; i++) {
+        if (o != null && o.equals(items[i])) {
+          remove(i);
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+      Set<Object> remaining = Collections.newSetFromMap(new IdentityHashMap<>());
+      remaining.addAll(c);
+      Set<Object> found = Collections.newSetFromMap(new IdentityHashMap<>());
+      int kept = 0;
+      for (int i = 0; i < size; i++) {
+        Visitable item = items[i];
+        if (remaining.contains(item)) {
+          found.add(item);
+        } else {
+          items[kept++] = item;
+        }
+      }
+      boolean modified = kept < size;
+      if (modified) {
+        Arrays.fill(items, kept, size, null);
+        size = kept;
+        modified();
+      }
+      remaining.removeAll(found);
+      // Whatever was not found by identity, is removed by equality.
+      return remaining.isEmpty() ? modified : super.removeAll(new ArrayList<>(remaining)) || modified;
+    }
+
+    @Override
+    public void clear() {
+      clearItems();
+    }
+
+    private void clearItems() {
+      if (size > 0) {
+        Arrays.fill(items, 0, size, null);
+        size = 0;
+        modified();
+      }
+    }
+
+    private void modified() {
+      modCount++;
+      VisitableMap.this.modCount++;
+    }
+
+    private void checkIndex(int index, int bound) {
+      if (index < 0 || index >= bound) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+      }
+    }
+  }
 }
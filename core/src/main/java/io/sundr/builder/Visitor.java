@@ -21,4 +21,13 @@ public interface Visitor<T> {
 
   void visit(T element);
 
+  /**
+   * Marks a visitor that can safely visit different elements concurrently.
+   * Such visitors should only read or modify the element they visit.
+   * 
+   * @see BaseFluent#acceptParallel(Visitor...)
+   */
+  interface ThreadSafe {
+  }
+
 }
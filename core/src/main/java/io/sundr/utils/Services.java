@@ -0,0 +1,58 @@
+/**
+ * Copyright 2015 The original authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+**/
+
+package io.sundr.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+
+public final class Services {
+
+  /**
+   * The providers of each service, loaded with the class loader of the service.
+   * Values are held by the service class itself, so they go away along with its class loader.
+   */
+  private static final ClassValue<List<?>> PROVIDERS = new ClassValue<List<?>>() {
+    @Override
+    protected List<?> computeValue(Class<?> type) {
+      List<Object> providers = new ArrayList<>();
+      for (Object provider : ServiceLoader.load(type, type.getClassLoader())) {
+        providers.add(provider);
+      }
+      return Collections.unmodifiableList(providers);
+    }
+  };
+
+  private Services() {
+    //Utility class
+  }
+
+  /**
+   * Get the providers of the specified service, as found by {@link ServiceLoader} using the class loader of the service.
+   * The classpath is only scanned the first time, later calls share the same provider instances.
+   *
+   * @param type the service type.
+   * @param <S> the service type.
+   * @return an unmodifiable list with the providers, in the order they were found.
+   */
+  @SuppressWarnings("unchecked")
+  public static <S> List<S> load(Class<S> type) {
+    return (List<S>) PROVIDERS.get(type);
+  }
+}
@@ -16,6 +16,17 @@
 
 package io.sundr;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.junit.Assert;
@@ -42,4 +53,143 @@ public class FunctionFactoryTest {
     result = TEST_FUNCTION.apply("");
     Assert.assertEquals(expectedResult, result);
   }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testNestedResultsAreReusedUntilTheOutermostIsCached() {
+    Map<String, Integer> computed = new HashMap<>();
+    Function<String, String>[] self = new Function[1];
+    //Each computation of "a" depends twice on the next level of "a", which gets cut short at level 3.
+    FunctionFactory<String, String> function = FunctionFactory.cache((String item) -> {
+      computed.merge(item, 1, Integer::sum);
+      return "(" + self[0].apply(item) + self[0].apply(item) + ")";
+    }).withFallback(item -> "x").withMaximumRecursionLevel(2);
+    self[0] = function;
+
+    Assert.assertEquals("((xx)(xx))", function.apply("a"));
+    //The second dependency of the outermost computation reused the nested result, rather than computing it again.
+    Assert.assertEquals(Integer.valueOf(2), computed.get("a"));
+    Assert.assertEquals("((xx)(xx))", function.apply("a"));
+    Assert.assertEquals(Integer.valueOf(2), computed.get("a"));
+    Assert.assertEquals(1, function.getHitCount());
+  }
+
+  @Test
+  @SuppressWarnings("deprecation")
+  public void testDeprecatedConstructor() {
+    Map<String, Object> cache = new ConcurrentHashMap<>();
+    FunctionFactory<String, Object> function = new FunctionFactory<String, Object>(cache, (String item) -> new Object(), null,
+        null, 0, 0, new Stack<String>());
+    Object result = function.apply("item");
+    Assert.assertSame(result, cache.get("item"));
+    Assert.assertSame(result, function.apply("item"));
+  }
+
+  @Test
+  public void testConcurrentComputationsShareCachedResult() throws Exception {
+    CountDownLatch entered = new CountDownLatch(2);
+    Function<String, Object> function = FunctionFactory.cache(new Function<String, Object>() {
+      public Object apply(String item) {
+        entered.countDown();
+        try {
+          //Both threads need to be computing at the same time, to get past this point.
+          Assert.assertTrue(entered.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+          throw new IllegalStateException(e);
+        }
+        return new Object();
+      }
+    });
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<Object> first = executor.submit(() -> function.apply("item"));
+      Future<Object> second = executor.submit(() -> function.apply("item"));
+      Assert.assertSame(first.get(), second.get());
+      Assert.assertSame(first.get(), function.apply("item"));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testBoundedCacheEvictsLeastRecentlyUsed() {
+    FunctionFactory<Integer, Object> function = FunctionFactory.cache((Integer i) -> new Object()).withMaximumSize(2);
+    Object first = function.apply(1);
+    function.apply(2);
+    Assert.assertSame(first, function.apply(1));
+    function.apply(3);
+
+    Assert.assertSame(first, function.apply(1));
+    Assert.assertEquals(1, function.getEvictionCount());
+    Assert.assertEquals(2, function.getHitCount());
+    Assert.assertEquals(3, function.getMissCount());
+
+    function.apply(2);
+    Assert.assertEquals(4, function.getMissCount());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBoundedCacheRejectsNonPositiveSize() {
+    FunctionFactory.cache((Integer i) -> new Object()).withMaximumSize(0);
+  }
+
+  @Test
+  public void testBoundedCacheUnderConcurrentAccess() throws Exception {
+    FunctionFactory<Integer, String> function = FunctionFactory.cache((Integer i) -> String.valueOf(i)).withMaximumSize(100);
+    assertConsistentUnderConcurrentAccess(function);
+    Assert.assertTrue(function.getEvictionCount() > 0);
+    //Everything that was cached, but is no longer, has been evicted.
+    long cached = 0;
+    for (int i = 0; i < 1000; i++) {
+      long hits = function.getHitCount();
+      function.apply(i);
+      cached += function.getHitCount() - hits;
+    }
+    Assert.assertTrue(cached <= 100);
+  }
+
+  @Test
+  public void testWeakCacheUnderConcurrentAccess() throws Exception {
+    FunctionFactory<Integer, String> function = FunctionFactory.cache((Integer i) -> String.valueOf(i)).withWeakKeys();
+    assertConsistentUnderConcurrentAccess(function);
+    Assert.assertEquals(0, function.getEvictionCount());
+  }
+
+  private static void assertConsistentUnderConcurrentAccess(FunctionFactory<Integer, String> function) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        int offset = t;
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < 10000; i++) {
+            Integer item = (i * 7 + offset) % 1000;
+            Assert.assertEquals(String.valueOf(item), function.apply(item));
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    Assert.assertEquals(40000, function.getHitCount() + function.getMissCount());
+  }
+
+  @Test
+  public void testClearAll() {
+    FunctionFactory<Integer, Object> function = FunctionFactory.cache((Integer i) -> new Object());
+    FunctionFactory<Integer, Object> weak = FunctionFactory.cache((Integer i) -> new Object()).withWeakKeys();
+    Integer key = 1000;
+    Object cached = function.apply(key);
+    Object weaklyCached = weak.apply(key);
+    Assert.assertSame(cached, function.apply(key));
+    Assert.assertSame(weaklyCached, weak.apply(key));
+
+    FunctionFactory.clearAll();
+    Assert.assertNotSame(cached, function.apply(key));
+    Assert.assertNotSame(weaklyCached, weak.apply(key));
+  }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2016 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.builder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class BaseFluentTest {
+
+  @Test
+  public void shouldVisitInParallelAfterNestedVisitables() throws Exception {
+    Node root = tree("root", 3, 4);
+    OrderRecorder recorder = new OrderRecorder();
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      root.acceptParallel(pool, 2, recorder);
+    } finally {
+      pool.shutdown();
+    }
+
+    assertEquals(count(root), recorder.order.size());
+    assertChildrenFirst(root, recorder.order);
+  }
+
+  @Test
+  public void shouldVisitSequentiallyWhenVisitorsAreNotThreadSafe() throws Exception {
+    Node root = tree("root", 2, 3);
+    Set<Thread> threads = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    List<String> visited = new ArrayList<>();
+    root.acceptParallel(ForkJoinPool.commonPool(), 1, new TypedVisitor<Node>() {
+      @Override
+      public void visit(Node element) {
+        threads.add(Thread.currentThread());
+        visited.add(element.name);
+      }
+    });
+
+    assertEquals(Collections.singleton(Thread.currentThread()), threads);
+    assertEquals(count(root), visited.size());
+    assertEquals("root", visited.get(visited.size() - 1));
+  }
+
+  @Test
+  public void shouldLetVisitorsSeeTheCompletePassOfThePrecedingOnesWhenSequential() throws Exception {
+    Node root = tree("root", 1, 2);
+    Set<Node> marked = new HashSet<>();
+    Visitor<Node> marker = marked::add;
+    List<String> sawRootMarked = new ArrayList<>();
+    Visitor<Node> checker = element -> sawRootMarked.add(element.name + ":" + marked.contains(root));
+
+    root.accept(marker, checker);
+    assertEquals(Arrays.asList("root.0:false", "root.1:false", "root:true"), sawRootMarked);
+
+    marked.clear();
+    sawRootMarked.clear();
+    root.acceptSequentially(marker, checker);
+    assertEquals(Arrays.asList("root.0:true", "root.1:true", "root:true"), sawRootMarked);
+  }
+
+  private static Node tree(String name, int depth, int width) {
+    Node node = new Node(name);
+    if (depth > 0) {
+      for (int i = 0; i < width; i++) {
+        node._visitables.slot("children").add(tree(name + "." + i, depth - 1, width));
+      }
+    }
+    return node;
+  }
+
+  private static int count(Node node) {
+    int count = 1;
+    for (Visitable child : node._visitables.get("children")) {
+      count += count((Node) child);
+    }
+    return count;
+  }
+
+  private static void assertChildrenFirst(Node node, Map<Node, Integer> order) {
+    for (Visitable child : node._visitables.get("children")) {
+      assertTrue(order.get(child) < order.get(node));
+      assertChildrenFirst((Node) child, order);
+    }
+  }
+
+  public static class Node extends BaseFluent<Node> {
+    private final String name;
+
+    public Node(String name) {
+      this.name = name;
+    }
+  }
+
+  public static class OrderRecorder implements Visitor<Node>, Visitor.ThreadSafe {
+    private final AtomicInteger counter = new AtomicInteger();
+    private final Map<Node, Integer> order = new ConcurrentHashMap<>();
+
+    @Override
+    public void visit(Node element) {
+      order.put(element, counter.getAndIncrement());
+    }
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2016 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.builder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class PathAwareTypedVisitorTest {
+
+  @Test
+  public void shouldExtendPathWithoutModifyingIt() throws Exception {
+    PathAwareTypedVisitor<String, String> visitor = new Recorder();
+    PathAwareTypedVisitor<String, String> a = visitor.next("a");
+    PathAwareTypedVisitor<String, String> b = a.next("b");
+    PathAwareTypedVisitor<String, String> c = a.next("c");
+
+    assertTrue(visitor.getPath().isEmpty());
+    assertEquals(Arrays.asList("a"), a.getPath());
+    assertEquals(Arrays.asList("a", "b"), b.getPath());
+    assertEquals(Arrays.asList("a", "c"), c.getPath());
+    assertNull(a.getParent());
+    assertEquals("a", c.getParent());
+    assertEquals(String.class, c.getActualParentType());
+    assertEquals(Void.class, a.getActualParentType());
+  }
+
+  @Test
+  public void shouldReportPathOfVisitorBeingApplied() throws Exception {
+    Recorder visitor = new Recorder();
+    PathAwareTypedVisitor<String, String> a = visitor.next("a");
+    PathAwareTypedVisitor<String, String> b = a.next("b");
+
+    b.visit("b");
+    a.visit("a");
+    assertEquals(Arrays.asList(Arrays.asList("a", "b"), Arrays.asList("a")), visitor.paths);
+    assertEquals(Arrays.asList("a", null), visitor.parents);
+    assertTrue(visitor.getPath().isEmpty());
+  }
+
+  @Test
+  public void shouldRestorePathAfterNestedVisit() throws Exception {
+    List<List<Object>> paths = new ArrayList<>();
+    PathAwareTypedVisitor<String, String>[] inner = new PathAwareTypedVisitor[1];
+    PathAwareTypedVisitor<String, String> visitor = new PathAwareTypedVisitor<String, String>() {
+      @Override
+      public void visit(String element) {
+        if (element.equals("outer")) {
+          inner[0].visit("inner");
+        }
+        paths.add(getPath());
+      }
+    };
+    inner[0] = visitor.next("x").next("y");
+    visitor.next("a").visit("outer");
+    assertEquals(Arrays.asList(Arrays.asList("x", "y"), Arrays.asList("a")), paths);
+  }
+
+  @Test
+  public void shouldKeepPathsOfConcurrentVisitsApart() throws Exception {
+    Recorder visitor = new Recorder();
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (String name : Arrays.asList("left", "right")) {
+        PathAwareTypedVisitor<String, String> next = visitor.next("root").next(name);
+        results.add(executor.submit(() -> {
+          for (int i = 0; i < 10000; i++) {
+            next.visit(name);
+          }
+          return true;
+        }));
+      }
+      for (Future<Boolean> result : results) {
+        assertTrue(result.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertEquals(0, visitor.mismatches.get());
+  }
+
+  private static class Recorder extends PathAwareTypedVisitor<String, String> {
+    private final List<List<Object>> paths = new ArrayList<>();
+    private final List<String> parents = new ArrayList<>();
+    private final AtomicInteger mismatches = new AtomicInteger();
+
+    @Override
+    public void visit(String element) {
+      List<Object> path = getPath();
+      if (!element.equals(path.get(path.size() - 1))) {
+        mismatches.incrementAndGet();
+      }
+      synchronized (this) {
+        if (paths.size() < 10) {
+          paths.add(path);
+          parents.add(getParent());
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2016 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.builder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+
+import org.junit.Test;
+
+public class VisitableMapTest {
+
+  @Test
+  public void shouldNotAttachSlotsOnReadMiss() throws Exception {
+    VisitableMap map = new VisitableMap();
+    List<Visitable> items = map.get("items");
+    assertTrue(items.isEmpty());
+    assertFalse(map.containsKey("items"));
+    assertEquals(0, map.size());
+    try {
+      items.add(new Item("a"));
+      fail("Expected the missed read to return an immutable list");
+    } catch (UnsupportedOperationException e) {
+      //expected
+    }
+
+    List<Visitable> slot = map.slot("items");
+    assertSame(slot, map.slot("items"));
+    assertSame(slot, map.get("items"));
+    slot.add(new Item("a"));
+    assertEquals(1, map.get("items").size());
+    assertEquals(1, map.size());
+  }
+
+  @Test
+  public void shouldIterateInInsertionOrder() throws Exception {
+    VisitableMap map = new VisitableMap();
+    Item a = new Item("a");
+    Item b = new Item("b");
+    Item c = new Item("c");
+    map.slot("second").add(b);
+    map.slot("first").add(a);
+    map.slot("second").add(0, c);
+
+    List<Visitable> visited = new ArrayList<>();
+    for (Visitable v : map) {
+      visited.add(v);
+    }
+    assertEquals(Arrays.asList(c, b, a), visited);
+    assertEquals(visited, map.aggregate());
+    assertTrue(map.containsKey("first"));
+    assertEquals(2, map.size());
+  }
+
+  @Test
+  public void shouldRemoveItems() throws Exception {
+    VisitableMap map = new VisitableMap();
+    Item a = new Item("a");
+    Item b = new Item("b");
+    map.slot("items").add(a);
+    map.slot("items").add(b);
+    map.get("items").remove(a);
+    assertEquals(Arrays.asList(b), map.aggregate());
+
+    map.remove("items");
+    assertFalse(map.iterator().hasNext());
+  }
+
+  @Test
+  public void shouldRemoveByIdentityFirst() throws Exception {
+    VisitableMap map = new VisitableMap();
+    Item first = new Item("a");
+    Item second = new Item("a");
+    Item third = new Item("b");
+    map.slot("items").addAll(Arrays.asList(first, second, third));
+
+    map.get("items").remove(second);
+    assertSame(first, map.get("items").get(0));
+    assertEquals(2, map.get("items").size());
+
+    map.get("items").removeAll(Arrays.asList(third, new Item("a")));
+    assertTrue(map.get("items").isEmpty());
+  }
+
+  @Test
+  public void shouldIterateInPlace() throws Exception {
+    VisitableMap map = new VisitableMap();
+    Item a = new Item("a");
+    Item b = new Item("b");
+    Item c = new Item("c");
+    map.slot("first").addAll(Arrays.asList(a, b));
+
+    List<Visitable> visited = new ArrayList<>();
+    for (Visitable v : map) {
+      visited.add(v);
+      if (v == a) {
+        map.slot("first").set(1, c);
+      }
+    }
+    assertEquals(Arrays.asList(a, c), visited);
+  }
+
+  @Test
+  public void shouldFailWhenModifiedWhileIterating() throws Exception {
+    VisitableMap map = new VisitableMap();
+    Item a = new Item("a");
+    Item b = new Item("b");
+    map.slot("first").addAll(Arrays.asList(a, b));
+
+    try {
+      for (Visitable v : map) {
+        map.slot("first").remove(b);
+      }
+      fail("Expected the iterator to notice the removal");
+    } catch (ConcurrentModificationException e) {
+      //expected
+    }
+
+    try {
+      map.forEach(v -> map.slot("second").add(b));
+      fail("Expected forEach to notice the addition");
+    } catch (ConcurrentModificationException e) {
+      //expected
+    }
+    assertEquals(Arrays.asList(a, b), map.aggregate());
+  }
+
+  private static class Item implements Visitable<Item> {
+    private final String name;
+
+    private Item(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public Item accept(Visitor... visitor) {
+      return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Item && ((Item) o).name.equals(name);
+    }
+
+    @Override
+    public int hashCode() {
+      return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+}
@@ -0,0 +1,63 @@
+/**
+ * Copyright 2015 The original authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+**/
+
+package io.sundr.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+public class ServicesTest {
+
+  public interface Unprovided {
+  }
+
+  public interface Greeting {
+    String greet(String name);
+  }
+
+  public static class GreetingProvider implements Greeting {
+    @Override
+    public String greet(String name) {
+      return "Hello " + name;
+    }
+  }
+
+  @Test
+  public void shouldLoadProvidersOnce() throws Exception {
+    List<Unprovided> providers = Services.load(Unprovided.class);
+    assertTrue(providers.isEmpty());
+    assertSame(providers, Services.load(Unprovided.class));
+  }
+
+  @Test
+  public void shouldShareProviderInstances() throws Exception {
+    List<Greeting> providers = Services.load(Greeting.class);
+    assertEquals(1, providers.size());
+    assertEquals("Hello sundrio", providers.get(0).greet("sundrio"));
+    assertSame(providers.get(0), Services.load(Greeting.class).get(0));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void shouldNotModifyProviders() throws Exception {
+    Services.load(Greeting.class).clear();
+  }
+}
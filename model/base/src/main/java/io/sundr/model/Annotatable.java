@@ -17,8 +17,9 @@
 
 package io.sundr.model;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public interface Annotatable extends Node {
 
@@ -32,11 +33,29 @@ public interface Annotatable extends Node {
    */
   default String renderAnnotations(String indent) {
     StringBuilder sb = new StringBuilder();
-    if (getAnnotations() != null && !getAnnotations().isEmpty()) {
-      sb.append(
-          getAnnotations().stream().map(Renderable::render).map(line -> indent + line + NEWLINE).collect(Collectors.joining()));
-      sb.append(indent); //This one is to make sure that lines with annotations are aligned with the rest
+    try {
+      renderAnnotations(indent, sb);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
     }
     return sb.toString();
   }
+
+  /**
+   * Render the annotations into the specified {@link Appendable}.
+   *
+   * @param indent the indentation to use for rendering the annotations
+   * @param out the {@link Appendable} to render into.
+   * @throws IOException if appending fails.
+   */
+  default void renderAnnotations(String indent, Appendable out) throws IOException {
+    if (getAnnotations() != null && !getAnnotations().isEmpty()) {
+      for (AnnotationRef annotation : getAnnotations()) {
+        out.append(indent);
+        annotation.render(out);
+        out.append(NEWLINE);
+      }
+      out.append(indent); //This one is to make sure that lines with annotations are aligned with the rest
+    }
+  }
 }
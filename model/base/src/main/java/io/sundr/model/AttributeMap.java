@@ -0,0 +1,158 @@
+/*
+ * Copyright 2016 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.sundr.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable map of attributes, keyed by {@link AttributeKey} identity.
+ * Keys and values are held in two arrays, in insertion order. Small maps are searched linearly, while larger ones also
+ * get an open addressing table of indexes into the arrays.
+ */
+final class AttributeMap extends AbstractMap<AttributeKey, Object> {
+
+  private static final int LINEAR_SEARCH_THRESHOLD = 8;
+
+  private final AttributeKey[] keys;
+  private final Object[] values;
+  private final int[] table;
+
+  private AttributeMap(Map<AttributeKey, Object> attributes) {
+    int size = attributes.size();
+    this.keys = new AttributeKey[size];
+    this.values = new Object[size];
+    int index = 0;
+    for (Map.Entry<AttributeKey, Object> entry : attributes.entrySet()) {
+      keys[index] = entry.getKey();
+      values[index] = entry.getValue();
+      index++;
+    }
+
+    if (size > LINEAR_SEARCH_THRESHOLD) {
+      //Slots hold the index of the key plus one, so that zero marks an empty slot.
+      this.table = new int[Integer.highestOneBit(size * 2) << 1];
+      int mask = table.length - 1;
+      for (int i = 0; i < size; i++) {
+        int slot = hash(keys[i]) & mask;
+        while (table[slot] != 0) {
+          slot = (slot + 1) & mask;
+        }
+        table[slot] = i + 1;
+      }
+    } else {
+      this.table = null;
+    }
+  }
+
+  /**
+   * Get a compact, immutable copy of the specified attributes.
+   * 
+   * @param attributes the attributes.
+   * @return the copy, which is the map itself if it's already compact, or null if the map is null.
+   */
+  static Map<AttributeKey, Object> of(Map<AttributeKey, Object> attributes) {
+    if (attributes == null || attributes instanceof AttributeMap) {
+      return attributes;
+    } else if (attributes.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    return new AttributeMap(attributes);
+  }
+
+  private static int hash(Object key) {
+    int h = System.identityHashCode(key);
+    return h ^ (h >>> 16);
+  }
+
+  private int indexOf(Object key) {
+    if (table == null) {
+      for (int i = 0; i < keys.length; i++) {
+        if (keys[i] == key) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    int mask = table.length - 1;
+    for (int slot = hash(key) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+      int index = table[slot] - 1;
+      if (keys[index] == key) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public Object get(Object key) {
+    int index = indexOf(key);
+    return index >= 0 ? values[index] : null;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public int size() {
+    return keys.length;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return keys.length == 0;
+  }
+
+  @Override
+  public Set<Map.Entry<AttributeKey, Object>> entrySet() {
+    return new AbstractSet<Map.Entry<AttributeKey, Object>>() {
+      @Override
+      public Iterator<Map.Entry<AttributeKey, Object>> iterator() {
+        return new Iterator<Map.Entry<AttributeKey, Object>>() {
+          private int index;
+
+          @Override
+          public boolean hasNext() {
+            return index < keys.length;
+          }
+
+          @Override
+          public Map.Entry<AttributeKey, Object> next() {
+            if (!hasNext()) {
+              throw new NoSuchElementException();
+            }
+            Map.Entry<AttributeKey, Object> entry = new SimpleImmutableEntry<AttributeKey, Object>(keys[index], values[index]);
+            index++;
+            return entry;
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return keys.length;
+      }
+    };
+  }
+}
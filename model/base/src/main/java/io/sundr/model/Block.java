@@ -23,7 +23,7 @@ public class Block {
   private List<Statement> statements;
 
   public Block(List<Statement> statements) {
-    this.statements = statements;
+    this.statements = Compact.list(statements);
   }
 
   public List<Statement> getStatements() {
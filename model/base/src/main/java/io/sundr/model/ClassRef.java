@@ -16,6 +16,7 @@
 
 package io.sundr.model;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -38,12 +39,12 @@ public class ClassRef extends TypeRef implements Nameable, Mappable<ClassRef> {
       Map<AttributeKey, Object> attributes) {
     super(attributes);
     this.dimensions = dimensions;
-    this.arguments = arguments;
+    this.arguments = Compact.list(arguments);
     this.fullyQualifiedName = fullyQualifiedName;
   }
 
   public static ClassRef forName(String fullyQualifiedName) {
-    return new ClassRef(fullyQualifiedName, 0, Collections.emptyList(), Collections.emptyMap());
+    return Interner.intern(new ClassRef(fullyQualifiedName, 0, Collections.emptyList(), Collections.emptyMap()));
   }
 
   public String getFullyQualifiedName() {
@@ -59,7 +60,7 @@ public class ClassRef extends TypeRef implements Nameable, Mappable<ClassRef> {
   }
 
   public ClassRef withDimensions(int dimensions) {
-    return new ClassRef(this.getFullyQualifiedName(), dimensions, getArguments(), getAttributes());
+    return Interner.intern(new ClassRef(this.getFullyQualifiedName(), dimensions, getArguments(), getAttributes()));
   }
 
   public Set<ClassRef> getReferences() {
@@ -115,17 +116,25 @@ public class ClassRef extends TypeRef implements Nameable, Mappable<ClassRef> {
 
   @Override
   public String render(TypeDef enclosingType) {
-    StringBuilder sb = new StringBuilder();
-    sb.append(fullyQualifiedName);
+    return Renderable.renderToString(this, enclosingType);
+  }
+
+  @Override
+  public void render(TypeDef enclosingType, Appendable out) throws IOException {
+    out.append(fullyQualifiedName);
     if (arguments.size() > 0) {
-      sb.append(LT);
-      sb.append(arguments.stream().map(a -> a.render(enclosingType)).collect(Collectors.joining(COMA)));
-      sb.append(GT);
+      out.append(LT);
+      for (int i = 0; i < arguments.size(); i++) {
+        if (i > 0) {
+          out.append(COMA);
+        }
+        arguments.get(i).render(enclosingType, out);
+      }
+      out.append(GT);
     }
 
     for (int i = 0; i < dimensions; i++) {
-      sb.append(BRACKETS);
+      out.append(BRACKETS);
     }
-    return sb.toString();
   }
 }
@@ -17,8 +17,9 @@
 
 package io.sundr.model;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public interface Commentable extends Node {
 
@@ -37,13 +38,29 @@ public interface Commentable extends Node {
    */
   default String renderComments(String indent) {
     StringBuilder sb = new StringBuilder();
-    if (getComments() != null && !getComments().isEmpty()) {
-      sb.append(NEWLINE);
-      sb.append(indent).append(OC).append(NEWLINE);
-      sb.append(
-          getComments().stream().map(line -> indent + CLP + line + NEWLINE).collect(Collectors.joining()));
-      sb.append(indent).append(CC).append(NEWLINE);
+    try {
+      renderComments(indent, sb);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
     }
     return sb.toString();
   }
+
+  /**
+   * Render the comments into the specified {@link Appendable}.
+   *
+   * @param indent the identation to use for the comments
+   * @param out the {@link Appendable} to render into.
+   * @throws IOException if appending fails.
+   */
+  default void renderComments(String indent, Appendable out) throws IOException {
+    if (getComments() != null && !getComments().isEmpty()) {
+      out.append(NEWLINE);
+      out.append(indent).append(OC).append(NEWLINE);
+      for (String line : getComments()) {
+        out.append(indent).append(CLP).append(line).append(NEWLINE);
+      }
+      out.append(indent).append(CC).append(NEWLINE);
+    }
+  }
 }
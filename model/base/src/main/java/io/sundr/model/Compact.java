@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package io.sundr.model;
+
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Compact, immutable storage for the lists held by the model nodes.
+ * Empty lists share a single instance, while the rest are backed by an array trimmed to their size.
+ */
+final class Compact {
+
+  private Compact() {
+    //Utility class
+  }
+
+  /**
+   * Get an immutable copy of the specified list, that holds no more memory than needed.
+   * 
+   * @param list the list to copy.
+   * @param <T> the type of the elements.
+   * @return the copy, which is the list itself if it's already compact, or null if the list is null.
+   */
+  static <T> List<T> list(List<T> list) {
+    if (list == null || list instanceof ArrayBackedList) {
+      return list;
+    } else if (list.isEmpty()) {
+      return Collections.emptyList();
+    }
+    return new ArrayBackedList<T>(list.toArray());
+  }
+
+  private static final class ArrayBackedList<T> extends AbstractList<T> implements RandomAccess {
+
+    private final Object[] elements;
+
+    private ArrayBackedList(Object[] elements) {
+      this.elements = elements;
+    }
+
+    @Override
+    public T get(int index) {
+      return (T) elements[index];
+    }
+
+    @Override
+    public int size() {
+      return elements.length;
+    }
+  }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2016 The original authors.
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package io.sundr.model;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Canonicalizes type references, so that structurally identical {@link ClassRef}, {@link PrimitiveRef},
+ * {@link TypeParamRef} and {@link WildcardRef} instances can share a single instance.
+ * Interning is disabled by default and is meant to be enabled by long running processors that create lots of references.
+ * Canonical instances are only weakly held, so they are released as soon as nothing else refers to them.
+ * References that carry attributes, or that have arguments or bounds carrying attributes, are never interned, as
+ * {@code equals} does not take attributes into account.
+ */
+public final class Interner {
+
+  private static volatile boolean enabled;
+
+  private static final ConcurrentMap<String, CanonicalRef> CANONICAL = new ConcurrentHashMap<String, CanonicalRef>();
+  private static final ReferenceQueue<TypeRef> RELEASED = new ReferenceQueue<TypeRef>();
+
+  private Interner() {
+    //Utility class
+  }
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Enables or disables interning. Disabling interning also releases all canonical instances.
+   *
+   * @param enabled true to enable interning.
+   */
+  public static void setEnabled(boolean enabled) {
+    Interner.enabled = enabled;
+    if (!enabled) {
+      CANONICAL.clear();
+    }
+  }
+
+  /**
+   * @return the number of canonical instances currently held.
+   */
+  public static int size() {
+    expunge();
+    return CANONICAL.size();
+  }
+
+  /**
+   * Get the canonical instance of the specified reference.
+   *
+   * @param ref the reference.
+   * @param <T> the type of the reference.
+   * @return the canonical instance, or the reference itself if interning is disabled or the reference can't be interned.
+   */
+  public static <T extends TypeRef> T intern(T ref) {
+    if (!enabled || ref == null) {
+      return ref;
+    }
+    String key = keyOf(ref);
+    if (key == null) {
+      return ref;
+    }
+    expunge();
+    while (true) {
+      CanonicalRef existing = CANONICAL.get(key);
+      TypeRef canonical = existing != null ? existing.get() : null;
+      if (canonical != null) {
+        return (T) canonical;
+      }
+      CanonicalRef added = new CanonicalRef(key, ref);
+      if (existing == null ? CANONICAL.putIfAbsent(key, added) == null : CANONICAL.replace(key, existing, added)) {
+        return ref;
+      }
+    }
+  }
+
+  /**
+   * Get a key that identifies the specified reference, including its kind, dimensions, arguments and bounds.
+   * References with equal keys are interchangeable, unlike references that are merely equal, as {@code equals} ignores
+   * attributes and, for some references, dimensions.
+   *
+   * @param ref the reference.
+   * @return the key, or null if the reference, or any of its arguments or bounds, carries attributes.
+   */
+  public static String keyOf(TypeRef ref) {
+    StringBuilder sb = new StringBuilder();
+    return describe(ref, sb) ? sb.toString() : null;
+  }
+
+  /**
+   * Appends a key that identifies the specified reference, including its kind, dimensions, arguments and bounds.
+   *
+   * @param ref the reference to describe.
+   * @param sb the key.
+   * @return false if the reference can't be interned.
+   */
+  private static boolean describe(TypeRef ref, StringBuilder sb) {
+    Map<AttributeKey, Object> attributes = ref.getAttributes();
+    if (attributes == null || !attributes.isEmpty()) {
+      return false;
+    }
+    if (ref instanceof ClassRef) {
+      ClassRef classRef = (ClassRef) ref;
+      sb.append('C').append(classRef.getFullyQualifiedName()).append('/').append(classRef.getDimensions());
+      return describe(classRef.getArguments(), sb);
+    } else if (ref instanceof PrimitiveRef) {
+      PrimitiveRef primitiveRef = (PrimitiveRef) ref;
+      sb.append('P').append(primitiveRef.getName()).append('/').append(primitiveRef.getDimensions());
+      return true;
+    } else if (ref instanceof TypeParamRef) {
+      TypeParamRef typeParamRef = (TypeParamRef) ref;
+      sb.append('T').append(typeParamRef.getName()).append('/').append(typeParamRef.getDimensions());
+      return true;
+    } else if (ref instanceof WildcardRef) {
+      WildcardRef wildcardRef = (WildcardRef) ref;
+      sb.append('W').append(wildcardRef.getBoundKind());
+      return describe(wildcardRef.getBounds(), sb);
+    }
+    return false;
+  }
+
+  private static boolean describe(List<TypeRef> refs, StringBuilder sb) {
+    if (refs == null) {
+      return false;
+    }
+    sb.append('<');
+    for (TypeRef ref : refs) {
+      if (ref == null || !describe(ref, sb)) {
+        return false;
+      }
+      sb.append(',');
+    }
+    sb.append('>');
+    return true;
+  }
+
+  private static void expunge() {
+    CanonicalRef released;
+    while ((released = (CanonicalRef) RELEASED.poll()) != null) {
+      CANONICAL.remove(released.key, released);
+    }
+  }
+
+  private static final class CanonicalRef extends WeakReference<TypeRef> {
+
+    private final String key;
+
+    private CanonicalRef(String key, TypeRef ref) {
+      super(ref, RELEASED);
+      this.key = key;
+    }
+  }
+}
@@ -16,6 +16,8 @@
 
 package io.sundr.model;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
@@ -39,18 +41,21 @@ public class Method extends ModifierSupport implements Renderable, Commentable,
   private final boolean defaultMethod;
   private final Block block;
 
+  //Computed lazily, as a method never changes once created.
+  private volatile String erasureSignature;
+
   public Method(List<String> comments, List<AnnotationRef> annotations, List<TypeParamDef> parameters, String name,
       TypeRef returnType, List<Property> arguments, boolean varArgPreferred, List<ClassRef> exceptions, boolean defaultMethod,
       Block block, int modifiers, Map<AttributeKey, Object> attributes) {
     super(modifiers, attributes);
-    this.comments = comments != null ? comments : Collections.<String> emptyList();
-    this.annotations = annotations;
-    this.parameters = parameters;
+    this.comments = comments != null ? Compact.list(comments) : Collections.<String> emptyList();
+    this.annotations = Compact.list(annotations);
+    this.parameters = Compact.list(parameters);
     this.name = name;
     this.returnType = returnType;
-    this.arguments = arguments;
+    this.arguments = Compact.list(arguments);
     this.varArgPreferred = varArgPreferred;
-    this.exceptions = exceptions;
+    this.exceptions = Compact.list(exceptions);
     this.defaultMethod = defaultMethod;
     this.block = block;
   }
@@ -202,6 +207,32 @@ public class Method extends ModifierSupport implements Renderable, Commentable,
     return sb.toString();
   }
 
+  /**
+   * Get the signature of the method after the type erasure is applied, e.g. {@code add(java.lang.Object item)}.
+   * This is the same as {@code withErasure().getSignature()}, but it's computed once and without creating the erased
+   * method, so that it can cheaply be used to tell overridden methods apart.
+   *
+   * @return the signature of the 'erased' method.
+   */
+  public String getErasureSignature() {
+    String result = erasureSignature;
+    if (result == null) {
+      StringBuilder sb = new StringBuilder();
+      sb.append(name);
+      sb.append(OP);
+      for (int i = 0; i < arguments.size(); i++) {
+        if (i > 0) {
+          sb.append(COMA);
+        }
+        arguments.get(i).renderErasure(sb);
+      }
+      sb.append(CP);
+      result = sb.toString();
+      erasureSignature = result;
+    }
+    return result;
+  }
+
   public String renderDefinition(TypeDef enclosingType) {
     StringBuilder sb = new StringBuilder();
     renderDefinition(sb, enclosingType);
@@ -209,6 +240,14 @@ public class Method extends ModifierSupport implements Renderable, Commentable,
   }
 
   public void renderDefinition(StringBuilder sb, TypeDef enclosingType) {
+    try {
+      renderDefinition((Appendable) sb, enclosingType);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  public void renderDefinition(Appendable sb, TypeDef enclosingType) throws IOException {
     if (isDefaultMethod()) {
       sb.append(DEFAULT).append(SPACE);
     } else {
@@ -217,12 +256,12 @@ public class Method extends ModifierSupport implements Renderable, Commentable,
 
     if (parameters != null && !parameters.isEmpty()) {
       sb.append(LT);
-      sb.append(parameters.stream().map(p -> p.render(enclosingType)).collect(Collectors.joining(COMA)));
+      renderAll(parameters, enclosingType, sb);
       sb.append(GT);
     }
 
     if (name != null) {
-      sb.append(returnType.render(enclosingType));
+      returnType.render(enclosingType, sb);
       sb.append(SPACE).append(name);
     } else if (enclosingType != null
         && enclosingType.getFullyQualifiedName().equals(((ClassRef) returnType).getFullyQualifiedName())) {
@@ -231,53 +270,72 @@ public class Method extends ModifierSupport implements Renderable, Commentable,
     } else {
       //This is a constructor
       String fqcn = ((ClassRef) returnType).getFullyQualifiedName();
-      String className = fqcn.substring(fqcn.lastIndexOf(".") + 1);
-      sb.append(className);
+      sb.append(fqcn, fqcn.lastIndexOf(".") + 1, fqcn.length());
     }
 
     sb.append(OP);
     if (!varArgPreferred) {
-      sb.append(arguments.stream().map(a -> (String) a.withoutModiers().render(enclosingType))
-          .collect(Collectors.joining(COMA)));
+      for (int i = 0; i < arguments.size(); i++) {
+        if (i > 0) {
+          sb.append(COMA);
+        }
+        arguments.get(i).withoutModiers().render(enclosingType, sb);
+      }
     } else if (!arguments.isEmpty()) {
       List<Property> args = arguments.subList(0, arguments.size() - 1);
       Property varArg = arguments.get(arguments.size() - 1);
-      sb.append(args.stream().map(a -> a.render(enclosingType)).collect(Collectors.joining(COMA)));
+      renderAll(args, enclosingType, sb);
       if (!args.isEmpty()) {
         sb.append(COMA);
       }
       if (varArg.getTypeRef().getDimensions() == 1) {
-        sb.append(varArg.getTypeRef().withDimensions(0)).append(VARARG).append(SPACE);
+        sb.append(varArg.getTypeRef().withDimensions(0).toString()).append(VARARG).append(SPACE);
       } else {
-        sb.append(varArg.getTypeRef().render(enclosingType)).append(SPACE);
+        varArg.getTypeRef().render(enclosingType, sb);
+        sb.append(SPACE);
       }
       sb.append(varArg.getName());
     }
     sb.append(CP);
 
     if (exceptions != null && !exceptions.isEmpty()) {
-      sb.append(SPACE).append(THROWS).append(SPACE)
-          .append(exceptions.stream().map(e -> e.render(enclosingType)).collect(Collectors.joining(COMA)));
+      sb.append(SPACE).append(THROWS).append(SPACE);
+      renderAll(exceptions, enclosingType, sb);
     }
   }
 
   @Override
   public String render(TypeDef enclosingType) {
-    StringBuilder sb = new StringBuilder();
-    renderDefinition(sb, enclosingType);
+    return Renderable.renderToString(this, enclosingType);
+  }
+
+  @Override
+  public void render(TypeDef enclosingType, Appendable out) throws IOException {
+    renderDefinition(out, enclosingType);
     boolean renderBody = isDefaultMethod() || (enclosingType != null && enclosingType.getKind() != Kind.INTERFACE);
 
     if (renderBody) {
       String indent = enclosingType != null && enclosingType.getOuterTypeName() != null ? "    " : "  ";
-      sb.append(SPACE).append(OB).append(NEWLINE);
+      out.append(SPACE).append(OB).append(NEWLINE);
       if (getBlock() != null) {
-        sb.append(getBlock().getStatements().stream().map(s -> indent + "  " + s + NEWLINE).collect(Collectors.joining()));
+        for (Statement statement : getBlock().getStatements()) {
+          out.append(indent).append("  ").append(String.valueOf(statement)).append(NEWLINE);
+        }
       }
-      sb.append(indent).append(CB);
+      out.append(indent).append(CB);
     } else {
-      sb.append(SEMICOLN);
+      out.append(SEMICOLN);
+    }
+  }
+
+  private static void renderAll(List<? extends Renderable> renderables, TypeDef enclosingType, Appendable out)
+      throws IOException {
+    for (int i = 0; i < renderables.size(); i++) {
+      if (i > 0) {
+        out.append(COMA);
+      }
+      renderables.get(i).render(enclosingType, out);
     }
-    return sb.toString();
   }
 
   @Override
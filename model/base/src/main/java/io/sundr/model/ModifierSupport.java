@@ -16,6 +16,8 @@
 
 package io.sundr.model;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Modifier;
 import java.util.Map;
 
@@ -73,6 +75,14 @@ public class ModifierSupport extends AttributeSupport {
   }
 
   public void renderModifiers(StringBuilder sb) {
+    try {
+      renderModifiers((Appendable) sb);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  public void renderModifiers(Appendable sb) throws IOException {
     if (isPublic()) {
       sb.append(PUBLIC).append(SPACE);
     } else if (isProtected()) {
@@ -16,6 +16,7 @@
 
 package io.sundr.model;
 
+import java.io.IOException;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -31,13 +32,16 @@ public class Property extends ModifierSupport implements Renderable, Commentable
   private final String name;
   private final List<String> comments;
 
+  //Computed lazily, as a property never changes once created.
+  private volatile String erasureSignature;
+
   public Property(List<AnnotationRef> annotations, TypeRef typeRef, String name, List<String> comments, int modifiers,
       Map<AttributeKey, Object> attributes) {
     super(modifiers, attributes);
-    this.annotations = annotations;
+    this.annotations = Compact.list(annotations);
     this.typeRef = typeRef;
     this.name = name;
-    this.comments = comments;
+    this.comments = Compact.list(comments);
   }
 
   public List<AnnotationRef> getAnnotations() {
@@ -109,6 +113,36 @@ public class Property extends ModifierSupport implements Renderable, Commentable
         comments, 0, getAttributes());
   }
 
+  /**
+   * Get the signature of the property after the type erasure is applied, e.g. {@code java.lang.Object value}.
+   * This is the same as rendering {@link #withErasure()} without modifiers, but it's computed once and without creating
+   * the erased property, so that it can cheaply be used as a key.
+   *
+   * @return the signature of the 'erased' property.
+   */
+  public String getErasureSignature() {
+    String result = erasureSignature;
+    if (result == null) {
+      StringBuilder sb = new StringBuilder();
+      renderErasure(sb);
+      result = sb.toString();
+      erasureSignature = result;
+    }
+    return result;
+  }
+
+  void renderErasure(StringBuilder sb) {
+    if (typeRef instanceof TypeParamRef) {
+      sb.append(JAVA_LANG_OBJECT);
+      for (int i = 0; i < typeRef.getDimensions(); i++) {
+        sb.append(ClassRef.BRACKETS);
+      }
+    } else {
+      sb.append(typeRef.render());
+    }
+    sb.append(SPACE).append(name);
+  }
+
   protected String getDefaultValue() {
     Object value = getAttribute(INIT);
     if (getTypeRef() instanceof ClassRef && ((ClassRef) getTypeRef()).getFullyQualifiedName().equals(JAVA_LANG_STRING)
@@ -155,28 +189,30 @@ public class Property extends ModifierSupport implements Renderable, Commentable
 
   @Override
   public String render(TypeDef enclosingType) {
-    StringBuilder sb = new StringBuilder();
+    return Renderable.renderToString(this, enclosingType);
+  }
 
+  @Override
+  public void render(TypeDef enclosingType, Appendable out) throws IOException {
     if (isPublic()) {
-      sb.append(PUBLIC).append(SPACE);
+      out.append(PUBLIC).append(SPACE);
     } else if (isProtected()) {
-      sb.append(PROTECTED).append(SPACE);
+      out.append(PROTECTED).append(SPACE);
     } else if (isPrivate()) {
-      sb.append(PRIVATE).append(SPACE);
+      out.append(PRIVATE).append(SPACE);
     }
 
     if (isStatic()) {
-      sb.append(STATIC).append(SPACE);
+      out.append(STATIC).append(SPACE);
     }
 
     if (isFinal()) {
-      sb.append(FINAL).append(SPACE);
+      out.append(FINAL).append(SPACE);
     }
 
-    sb.append(typeRef.render(enclosingType)).append(SPACE);
-    sb.append(name);
-
-    return sb.toString();
+    typeRef.render(enclosingType, out);
+    out.append(SPACE);
+    out.append(name);
   }
 
   @Override
@@ -17,6 +17,9 @@
 
 package io.sundr.model;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 public interface Renderable {
 
   /**
@@ -30,7 +33,7 @@ public interface Renderable {
    * @return the {@link String} representation of the object as it's meant to appear in the generated code.
    */
   default String render() {
-    return render(null);
+    return render((TypeDef) null);
   }
 
   /**
@@ -44,4 +47,45 @@ public interface Renderable {
   default String render(TypeDef enclosingType) {
     return toString();
   }
+
+  /**
+   * Render the type directly into the specified {@link Appendable}, e.g. the {@link java.io.Writer} of the generated file.
+   * This avoids creating an intermediate {@link String} for every nested element.
+   *
+   * @param out the {@link Appendable} to render into.
+   * @throws IOException if appending fails.
+   */
+  default void render(Appendable out) throws IOException {
+    out.append(render());
+  }
+
+  /**
+   * Render the type directly into the specified {@link Appendable}, e.g. the {@link java.io.Writer} of the generated file.
+   * The output is the same as the one of {@link #render(TypeDef)}.
+   *
+   * @param enclosingType The type that encoses the current {@link Renderable}.
+   * @param out the {@link Appendable} to render into.
+   * @throws IOException if appending fails.
+   */
+  default void render(TypeDef enclosingType, Appendable out) throws IOException {
+    out.append(render(enclosingType));
+  }
+
+  /**
+   * Render the specified {@link Renderable} into a {@link String}, using {@link #render(TypeDef, Appendable)}.
+   *
+   * @param renderable the {@link Renderable}.
+   * @param enclosingType The type that encoses the {@link Renderable}.
+   * @return the {@link String} representation of the object as it's meant to appear in the generated code.
+   */
+  static String renderToString(Renderable renderable, TypeDef enclosingType) {
+    StringBuilder sb = new StringBuilder();
+    try {
+      renderable.render(enclosingType, sb);
+    } catch (IOException e) {
+      //A StringBuilder never throws
+      throw new UncheckedIOException(e);
+    }
+    return sb.toString();
+  }
 }
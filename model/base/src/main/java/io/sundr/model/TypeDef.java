@@ -16,6 +16,8 @@
 
 package io.sundr.model;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -53,6 +55,10 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
   private final String outerTypeName;
   private final List<TypeDef> innerTypes;
 
+  //Computed lazily, as a type definition never changes once created.
+  private volatile List<ClassRef> references;
+  private volatile Set<String> imports;
+
   public TypeDef(Kind kind, String packageName, String name, List<String> comments, List<AnnotationRef> annotations,
       List<ClassRef> extendsList, List<ClassRef> implementsList, List<TypeParamDef> parameters, List<Property> properties,
       List<Method> constructors, List<Method> methods, String outerTypeName, List<TypeDef> innerTypes, int modifiers,
@@ -61,16 +67,16 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
     this.kind = kind != null ? kind : Kind.CLASS;
     this.packageName = packageName;
     this.name = name;
-    this.comments = comments;
-    this.annotations = annotations;
-    this.extendsList = extendsList;
-    this.implementsList = implementsList;
-    this.parameters = parameters;
-    this.properties = properties;
-    this.constructors = adaptConstructors(constructors, this);
-    this.methods = methods;
+    this.comments = Compact.list(comments);
+    this.annotations = Compact.list(annotations);
+    this.extendsList = Compact.list(extendsList);
+    this.implementsList = Compact.list(implementsList);
+    this.parameters = Compact.list(parameters);
+    this.properties = Compact.list(properties);
+    this.constructors = Compact.list(adaptConstructors(constructors, this));
+    this.methods = Compact.list(methods);
     this.outerTypeName = outerTypeName;
-    this.innerTypes = setOuterType(innerTypes, this);
+    this.innerTypes = Compact.list(setOuterType(innerTypes, this));
   }
 
   protected TypeDef(String fullyQualifiedName) {
@@ -262,7 +268,7 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
         actualArguments.add(new WildcardRef());
       }
     }
-    return new ClassRef(this.getFullyQualifiedName(), 0, actualArguments, getAttributes());
+    return Interner.intern(new ClassRef(this.getFullyQualifiedName(), 0, actualArguments, getAttributes()));
   }
 
   /**
@@ -287,7 +293,7 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
       arguments.add(parameter.toReference());
     }
 
-    return new ClassRef(getFullyQualifiedName(), 0, arguments, getAttributes());
+    return Interner.intern(new ClassRef(getFullyQualifiedName(), 0, arguments, getAttributes()));
   }
 
   /**
@@ -296,11 +302,20 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
    * @return a {@link ClassRef} for the currnet type, with the specified type arguments
    */
   public ClassRef toUnboundedReference() {
-    return new ClassRef(getFullyQualifiedName(), 0, Collections.emptyList(), getAttributes());
+    return Interner.intern(new ClassRef(getFullyQualifiedName(), 0, Collections.emptyList(), getAttributes()));
   }
 
   public Set<String> getImports() {
-    final Set<String> imports = new LinkedHashSet<String>();
+    Set<String> result = imports;
+    if (result == null) {
+      result = Collections.unmodifiableSet(collectImports());
+      imports = result;
+    }
+    return result;
+  }
+
+  private Set<String> collectImports() {
+    final Set<String> result = new LinkedHashSet<String>();
     for (ClassRef ref : getReferenceMap().values()) {
       if (ref.getPackageName() == null ||
           ref.getPackageName().isEmpty() ||
@@ -312,10 +327,10 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
         // When using openj9 these imports leak into the generated code, causing issues. Let's ignore them
         continue;
       } else {
-        imports.add(ref.getFullyQualifiedName());
+        result.add(ref.getFullyQualifiedName());
       }
     }
-    return imports;
+    return result;
   }
 
   /**
@@ -323,7 +338,7 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
    */
   private Map<String, ClassRef> getReferenceMap() {
     Map<String, ClassRef> mapping = new HashMap<String, ClassRef>();
-    List<ClassRef> refs = getReferences();
+    List<ClassRef> refs = new ArrayList<ClassRef>(getReferences());
 
     //It's best to have predictable order, so that we can generate uniform code.
     Collections.sort(refs, new Comparator<ClassRef>() {
@@ -342,7 +357,22 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
     return mapping;
   }
 
+  /**
+   * Get all the classes referenced by this type, including the ones referenced by its members and inner types.
+   * The references are only collected once, on first use.
+   *
+   * @return an unmodifiable {@link List} of references.
+   */
   public List<ClassRef> getReferences() {
+    List<ClassRef> result = references;
+    if (result == null) {
+      result = Collections.unmodifiableList(collectReferences());
+      references = result;
+    }
+    return result;
+  }
+
+  private List<ClassRef> collectReferences() {
     final List<ClassRef> refs = new ArrayList<ClassRef>();
 
     for (AnnotationRef a : annotations) {
@@ -397,6 +427,14 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
   }
 
   public void renderDefinition(StringBuilder sb) {
+    try {
+      renderDefinition((Appendable) sb);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  public void renderDefinition(Appendable sb) throws IOException {
     renderModifiers(sb);
 
     sb.append(kind.name().toLowerCase()).append(SPACE);
@@ -404,25 +442,44 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
 
     if (parameters != null && !parameters.isEmpty()) {
       sb.append(LT);
-      sb.append(parameters.stream().map(p -> p.render(this)).collect(Collectors.joining(COMA)));
+      renderAll(parameters, sb);
       sb.append(GT);
     }
 
     if (extendsList != null && !extendsList.isEmpty()
         && (extendsList.size() != 1 || !extendsList.contains(OBJECT.toReference()))) {
       sb.append(SPACE).append(EXTENDS).append(SPACE);
-      sb.append(extendsList.stream().map(e -> e.render(this)).collect(Collectors.joining(COMA)));
+      renderAll(extendsList, sb);
     }
 
     if (implementsList != null && !implementsList.isEmpty()) {
       sb.append(SPACE).append(IMPLEMENTS).append(SPACE);
-      sb.append(implementsList.stream().map(i -> i.render(this)).collect(Collectors.joining(COMA)));
+      renderAll(implementsList, sb);
+    }
+  }
+
+  private void renderAll(List<? extends Renderable> renderables, Appendable out) throws IOException {
+    for (int i = 0; i < renderables.size(); i++) {
+      if (i > 0) {
+        out.append(COMA);
+      }
+      renderables.get(i).render(this, out);
     }
   }
 
   @Override
   public String render() {
     StringBuilder sb = new StringBuilder();
+    try {
+      render(sb);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return sb.toString();
+  }
+
+  @Override
+  public void render(Appendable sb) throws IOException {
     String indent = outerTypeName == null ? "  " : "    ";
     String halfIndent = outerTypeName == null ? "" : "  ";
 
@@ -436,11 +493,11 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
     }
 
     if (comments != null && !comments.isEmpty()) {
-      sb.append(renderComments(SPACE));
+      renderComments(SPACE, sb);
     }
 
     if (annotations != null && !annotations.isEmpty()) {
-      sb.append(renderAnnotations(indent));
+      renderAnnotations(indent, sb);
     }
 
     renderDefinition(sb);
@@ -448,16 +505,16 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
 
     if (kind != Kind.INTERFACE) {
       for (Method constructors : getConstructors()) {
-        sb.append(constructors.renderComments(indent));
-        sb.append(constructors.renderAnnotations(indent));
-        sb.append(constructors.render(this));
+        constructors.renderComments(indent, sb);
+        constructors.renderAnnotations(indent, sb);
+        constructors.render(this, sb);
         sb.append(NEWLINE).append(indent);
       }
 
       for (Property field : getProperties()) {
-        sb.append(field.renderComments(indent));
-        sb.append(field.renderAnnotations(indent));
-        sb.append(field.render(this));
+        field.renderComments(indent, sb);
+        field.renderAnnotations(indent, sb);
+        field.render(this, sb);
         if (field.getAttribute(INIT) != null) {
           sb.append(" = ").append(field.getDefaultValue());
         }
@@ -467,19 +524,18 @@ public class TypeDef extends ModifierSupport implements Renderable, Nameable, An
     }
 
     for (Method method : getMethods()) {
-      sb.append(method.renderComments(indent));
-      sb.append(method.renderAnnotations(indent));
-      sb.append(method.render(this));
+      method.renderComments(indent, sb);
+      method.renderAnnotations(indent, sb);
+      method.render(this, sb);
       sb.append(NEWLINE).append(indent);
     }
 
     for (TypeDef innerType : innerTypes) {
-      sb.append(innerType.render());
+      innerType.render(sb);
       sb.append(NEWLINE).append(indent);
     }
 
     sb.append(NEWLINE).append(halfIndent).append(CB);
-    return sb.toString();
   }
 
   @Override
@@ -33,7 +33,7 @@ public class TypeParamDef extends AttributeSupport implements Renderable {
     this.bounds = bounds == null || bounds.isEmpty()
         ? Collections.emptyList()
         : bounds.stream().filter(b -> !b.getFullyQualifiedName().equals(TypeDef.OBJECT.getFullyQualifiedName()))
-            .collect(Collectors.toList());
+            .collect(Collectors.collectingAndThen(Collectors.toList(), Compact::list));
   }
 
   public String getName() {
@@ -67,7 +67,7 @@ public class TypeParamDef extends AttributeSupport implements Renderable {
   }
 
   public TypeParamRef toReference() {
-    return new TypeParamRef(name, 0, getAttributes());
+    return Interner.intern(new TypeParamRef(name, 0, getAttributes()));
   }
 
   @Override
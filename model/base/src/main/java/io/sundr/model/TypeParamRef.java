@@ -39,7 +39,7 @@ public class TypeParamRef extends TypeRef {
   }
 
   public TypeParamRef withDimensions(int dimensions) {
-    return new TypeParamRef(this.getName(), dimensions, getAttributes());
+    return Interner.intern(new TypeParamRef(this.getName(), dimensions, getAttributes()));
   }
 
   @Override
@@ -56,7 +56,7 @@ public class TypeParamRef extends TypeRef {
   }
 
   public ClassRef withErasure() {
-    return new ClassRef(Object.class.getName(), dimensions, Collections.emptyList(), getAttributes());
+    return Interner.intern(new ClassRef(Object.class.getName(), dimensions, Collections.emptyList(), getAttributes()));
   }
 
   @Override
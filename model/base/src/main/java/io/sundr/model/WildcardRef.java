@@ -16,6 +16,7 @@
 
 package io.sundr.model;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -47,7 +48,7 @@ public class WildcardRef extends TypeRef {
   public WildcardRef(BoundKind boundKind, List<TypeRef> bounds, Map<AttributeKey, Object> attributes) {
     super(attributes);
     this.boundKind = boundKind;
-    this.bounds = bounds;
+    this.bounds = Compact.list(bounds);
   }
 
   public List<TypeRef> getBounds() {
@@ -68,14 +69,25 @@ public class WildcardRef extends TypeRef {
 
   @Override
   public String render(TypeDef enclosing) {
-    StringBuilder sb = new StringBuilder();
+    return Renderable.renderToString(this, enclosing);
+  }
+
+  @Override
+  public void render(TypeDef enclosing, Appendable out) throws IOException {
     if (bounds == null || bounds.isEmpty()) {
-      sb.append("?");
-    } else {
-      sb.append(
-          String.format(boundKind.format, bounds.stream().map(b -> b.render(enclosing)).collect(Collectors.joining(COMA))));
+      out.append("?");
+      return;
     }
-    return sb.toString();
+    String format = boundKind.getFormat();
+    int placeholder = format.indexOf("%s");
+    out.append(format, 0, placeholder);
+    for (int i = 0; i < bounds.size(); i++) {
+      if (i > 0) {
+        out.append(COMA);
+      }
+      bounds.get(i).render(enclosing, out);
+    }
+    out.append(format, placeholder + 2, format.length());
   }
 
   @Override
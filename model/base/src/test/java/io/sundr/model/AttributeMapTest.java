@@ -0,0 +1,67 @@
+/**
+ * Copyright 2015 The original authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+**/
+package io.sundr.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class AttributeMapTest {
+
+  @Test
+  public void shouldLookUpSmallAndLargeMaps() throws Exception {
+    for (int size : new int[] { 1, 8, 9, 100 }) {
+      List<AttributeKey<Integer>> keys = new ArrayList<>();
+      Map<AttributeKey, Object> attributes = new LinkedHashMap<>();
+      for (int i = 0; i < size; i++) {
+        AttributeKey<Integer> key = new AttributeKey<>("key", Integer.class);
+        keys.add(key);
+        attributes.put(key, i);
+      }
+
+      Map<AttributeKey, Object> compact = AttributeMap.of(attributes);
+      assertEquals(attributes, compact);
+      assertEquals(new ArrayList<>(attributes.keySet()), new ArrayList<>(compact.keySet()));
+      for (int i = 0; i < size; i++) {
+        assertEquals(i, compact.get(keys.get(i)));
+      }
+      //Keys are compared by identity, so an equally named key is not found.
+      AttributeKey<Integer> other = new AttributeKey<>("key", Integer.class);
+      assertFalse(compact.containsKey(other));
+      assertNull(compact.get(other));
+    }
+  }
+
+  @Test
+  public void shouldShareEmptyAttributes() throws Exception {
+    assertSame(Collections.emptyMap(), AttributeMap.of(new LinkedHashMap<>()));
+    assertNull(AttributeMap.of(null));
+    ClassRef ref = new ClassRef("my.pkg.SomeClass", 0, new ArrayList<>(), new LinkedHashMap<>());
+    assertSame(Collections.emptyList(), ref.getArguments());
+    assertTrue(ref.getAttributes().isEmpty());
+  }
+}
@@ -19,6 +19,7 @@ package io.sundr.model;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import org.junit.Test;
@@ -37,4 +38,25 @@ public class ClassRefTest {
     assertEquals("my.pkg", SOME_CLASS.getPackageName());
   }
 
+  @Test
+  public void shouldRenderIntoAppendableLikeIntoString() throws Exception {
+    TypeParamRef t = new TypeParamRef("T", 0, Collections.emptyMap());
+    WildcardRef extendsShape = new WildcardRef(WildcardRef.BoundKind.EXTENDS, Arrays.asList(classRef("my.pkg.Shape", 0)),
+        Collections.emptyMap());
+    WildcardRef superT = new WildcardRef(WildcardRef.BoundKind.SUPER, Arrays.asList(t), Collections.emptyMap());
+    ClassRef ref = classRef("java.util.Map", 1, classRef("java.lang.String", 0), classRef("java.util.List", 0, extendsShape),
+        classRef("java.util.function.Consumer", 2, superT), new WildcardRef());
+
+    String expected = "java.util.Map<java.lang.String,java.util.List<? extends my.pkg.Shape>,"
+        + "java.util.function.Consumer<? super T>[][],?>[]";
+    assertEquals(expected, ref.render());
+    StringBuilder sb = new StringBuilder();
+    ref.render(sb);
+    assertEquals(expected, sb.toString());
+  }
+
+  private static ClassRef classRef(String fullyQualifiedName, int dimensions, TypeRef... arguments) {
+    return new ClassRef(fullyQualifiedName, dimensions, Arrays.asList(arguments), Collections.emptyMap());
+  }
+
 }
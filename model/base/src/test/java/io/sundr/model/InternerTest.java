@@ -0,0 +1,81 @@
+/**
+ * Copyright 2015 The original authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+**/
+package io.sundr.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class InternerTest {
+
+  @After
+  public void tearDown() {
+    Interner.setEnabled(false);
+  }
+
+  @Test
+  public void shouldReturnCanonicalInstanceWhenEnabled() throws Exception {
+    Interner.setEnabled(true);
+    ClassRef list = new ClassRef("java.util.List", 0, Arrays.asList(ClassRef.forName("java.lang.String")),
+        Collections.emptyMap());
+    ClassRef other = new ClassRef("java.util.List", 0, Arrays.asList(ClassRef.forName("java.lang.String")),
+        Collections.emptyMap());
+    assertSame(Interner.intern(list), Interner.intern(other));
+    assertSame(ClassRef.forName("java.lang.String"), ClassRef.forName("java.lang.String"));
+  }
+
+  @Test
+  public void shouldNotInternWhenDisabled() throws Exception {
+    assertNotSame(ClassRef.forName("java.lang.String"), ClassRef.forName("java.lang.String"));
+  }
+
+  @Test
+  public void shouldTellDimensionsAndAttributesApart() throws Exception {
+    Interner.setEnabled(true);
+    TypeParamRef t = Interner.intern(new TypeParamRef("T", 0, Collections.emptyMap()));
+    assertNotSame(t, t.withDimensions(1));
+    assertSame(t.withDimensions(1), t.withDimensions(1));
+
+    ClassRef flagged = new ClassRef("my.pkg.SomeClass", 0, Collections.emptyList(),
+        Collections.singletonMap(new AttributeKey<Boolean>("flag", Boolean.class), true));
+    assertSame(flagged, Interner.intern(flagged));
+    assertNotSame(ClassRef.forName("my.pkg.SomeClass"), Interner.intern(flagged));
+  }
+
+  @Test
+  public void shouldDescribeReferencesWithoutAttributes() throws Exception {
+    ClassRef list = new ClassRef("java.util.List", 0, Arrays.asList(ClassRef.forName("java.lang.String")),
+        Collections.emptyMap());
+    ClassRef other = new ClassRef("java.util.List", 0, Arrays.asList(ClassRef.forName("java.lang.String")),
+        Collections.emptyMap());
+    assertEquals(Interner.keyOf(list), Interner.keyOf(other));
+    assertNotEquals(Interner.keyOf(list), Interner.keyOf(list.withDimensions(1)));
+
+    ClassRef flagged = new ClassRef("java.util.List", 0, Arrays.asList(new ClassRef("java.lang.String", 0,
+        Collections.emptyList(), Collections.singletonMap(new AttributeKey<Boolean>("flag", Boolean.class), true))),
+        Collections.emptyMap());
+    assertNull(Interner.keyOf(flagged));
+  }
+}
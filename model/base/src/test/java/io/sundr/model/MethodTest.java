@@ -0,0 +1,98 @@
+/**
+ * Copyright 2015 The original authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+**/
+package io.sundr.model;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class MethodTest {
+
+  @Test
+  public void shouldComputeErasureSignatureWithoutErasing() throws Exception {
+    TypeParamRef t = new TypeParamRef("T", 1, Collections.emptyMap());
+    ClassRef list = new ClassRef("java.util.List", 0, Arrays.asList(t), Collections.emptyMap());
+    Property items = new Property(Collections.emptyList(), t, "items", Collections.emptyList(), Modifier.FINAL,
+        Collections.emptyMap());
+    Property other = new Property(Collections.emptyList(), list, "other", Collections.emptyList(), 0,
+        Collections.emptyMap());
+    Method method = new Method(Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), "add",
+        new VoidRef(), Arrays.asList(items, other), false, Collections.emptyList(), false, null, Modifier.PUBLIC,
+        Collections.emptyMap());
+
+    assertEquals("add(java.lang.Object[] items,java.util.List<T> other)", method.getErasureSignature());
+    assertEquals(method.withErasure().getSignature(), method.getErasureSignature());
+    assertEquals(items.withErasure().withoutModiers().render(), items.getErasureSignature());
+  }
+
+  @Test
+  public void shouldRenderIntoAppendableLikeIntoString() throws Exception {
+    Map<String, Object> parameters = new LinkedHashMap<>();
+    parameters.put("value", "unchecked");
+    AnnotationRef suppressWarnings = new AnnotationRef(classRef("java.lang.SuppressWarnings"), parameters,
+        Collections.emptyMap());
+    AnnotationRef deprecated = new AnnotationRef(classRef("java.lang.Deprecated"), Collections.emptyMap(),
+        Collections.emptyMap());
+    TypeParamRef t = new TypeParamRef("T", 0, Collections.emptyMap());
+    TypeParamDef comparable = new TypeParamDef("T",
+        Arrays.asList(new ClassRef("java.lang.Comparable", 0, Arrays.asList(t), Collections.emptyMap())),
+        Collections.emptyMap());
+    Property first = new Property(Collections.emptyList(), t, "first", Collections.emptyList(), Modifier.FINAL,
+        Collections.emptyMap());
+    Property rest = new Property(Collections.emptyList(), new TypeParamRef("T", 1, Collections.emptyMap()), "rest",
+        Collections.emptyList(), 0, Collections.emptyMap());
+    Method method = new Method(Arrays.asList("Sorts the items."), Arrays.asList(suppressWarnings, deprecated),
+        Arrays.asList(comparable), "sort", new ClassRef("java.util.List", 0, Arrays.asList(t), Collections.emptyMap()),
+        Arrays.asList(first, rest), true, Arrays.asList(classRef("java.io.IOException"), classRef("my.pkg.SortException")),
+        false, new Block(Arrays.asList(new StringStatement("return null;"))), Modifier.PUBLIC | Modifier.STATIC,
+        Collections.emptyMap());
+    TypeDef enclosing = new TypeDef(Kind.CLASS, "my.pkg", "Sorter", Collections.emptyList(), Collections.emptyList(),
+        Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+        Collections.emptyList(), Arrays.asList(method), null, Collections.emptyList(), Modifier.PUBLIC,
+        Collections.emptyMap());
+
+    String declaration = "public static <T extends java.lang.Comparable<T>>java.util.List<T> sort(final T first,T... rest)"
+        + " throws java.io.IOException,my.pkg.SortException";
+    assertEquals(declaration + ";", method.render());
+    assertEquals(method.render(), render(method, null));
+    assertEquals(declaration + " {\n    return null;\n  }", method.render(enclosing));
+    assertEquals(method.render(enclosing), render(method, enclosing));
+
+    String annotations = "  @java.lang.SuppressWarnings(value = \"unchecked\")\n  @java.lang.Deprecated\n  ";
+    assertEquals(annotations, method.renderAnnotations("  "));
+    StringBuilder sb = new StringBuilder();
+    method.renderAnnotations("  ", sb);
+    assertEquals(annotations, sb.toString());
+  }
+
+  private static ClassRef classRef(String fullyQualifiedName) {
+    return new ClassRef(fullyQualifiedName, 0, Collections.emptyList(), Collections.emptyMap());
+  }
+
+  private static String render(Renderable renderable, TypeDef enclosingType) throws IOException {
+    StringBuilder sb = new StringBuilder();
+    renderable.render(enclosingType, sb);
+    return sb.toString();
+  }
+}
@@ -0,0 +1,157 @@
+/**
+ * Copyright 2015 The original authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+**/
+
+package io.sundr.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.io.StringWriter;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class TypeDefTest {
+
+  private static final ClassRef STRING = classRef("java.lang.String");
+  private static final AnnotationRef DEPRECATED = new AnnotationRef(classRef("java.lang.Deprecated"),
+      Collections.emptyMap(), Collections.emptyMap());
+
+  @Test
+  public void shouldRenderIntoAppendableLikeIntoString() throws Exception {
+    TypeDef outer = outer();
+    String expected = "package my.pkg;\n"
+        + "\n"
+        + "import java.io.Serializable;\n"
+        + "import java.lang.Deprecated;\n"
+        + "import java.lang.String;\n"
+        + "\n"
+        + " /**\n"
+        + "  * An outer class.\n"
+        + "  */\n"
+        + "  @java.lang.Deprecated\n"
+        + "  public class Outer<T> extends my.pkg.Base<T> implements java.io.Serializable{\n"
+        + "  public Outer(java.lang.String name) {\n"
+        + "    this.name = name;\n"
+        + "  }\n"
+        + "  \n"
+        + "  /**\n"
+        + "   * The name.\n"
+        + "   */\n"
+        + "  @java.lang.Deprecated\n"
+        + "  private final java.lang.String name;\n"
+        + "  public java.lang.String getName() {\n"
+        + "    return name;\n"
+        + "  }\n"
+        + "  public interface Visitor{\n"
+        + "    void visit();\n"
+        + "    \n"
+        + "  }\n"
+        + "  private static class Inner implements my.pkg.Outer.Visitor{\n"
+        + "    public void visit() {\n"
+        + "    }\n"
+        + "    \n"
+        + "  }\n"
+        + "  \n"
+        + "}";
+    assertEquals(expected, outer.render());
+    StringWriter writer = new StringWriter();
+    outer.render(writer);
+    assertEquals(expected, writer.toString());
+  }
+
+  @Test
+  public void shouldMemoizeReferencesAndImports() throws Exception {
+    TypeDef outer = outer();
+    List<ClassRef> references = outer.getReferences();
+    Set<String> imports = outer.getImports();
+    assertSame(references, outer.getReferences());
+    assertSame(imports, outer.getImports());
+    assertEquals(new LinkedHashSet<>(Arrays.asList("java.io.Serializable", "java.lang.Deprecated", "java.lang.String")),
+        imports);
+
+    try {
+      references.clear();
+      fail("Expected the references to be unmodifiable");
+    } catch (UnsupportedOperationException e) {
+      //expected
+    }
+    try {
+      imports.clear();
+      fail("Expected the imports to be unmodifiable");
+    } catch (UnsupportedOperationException e) {
+      //expected
+    }
+  }
+
+  @Test
+  public void shouldNotSortTheCachedReferences() throws Exception {
+    TypeDef outer = outer();
+    List<ClassRef> collected = new ArrayList<>(outer.getReferences());
+    List<ClassRef> sorted = new ArrayList<>(collected);
+    sorted.sort(Comparator.comparing(ClassRef::getFullyQualifiedName));
+    assertNotEquals(sorted, collected);
+
+    //Collecting the imports sorts the references by name.
+    outer.getImports();
+    assertEquals(collected, outer.getReferences());
+  }
+
+  private static TypeDef outer() {
+    Property name = new Property(Arrays.asList(DEPRECATED), STRING, "name", Arrays.asList("The name."),
+        Modifier.PRIVATE | Modifier.FINAL, Collections.emptyMap());
+    Method constructor = method("Outer", null, Modifier.PUBLIC, "this.name = name;",
+        new Property(Collections.emptyList(), STRING, "name", Collections.emptyList(), 0, Collections.emptyMap()));
+    Method getName = method("getName", STRING, Modifier.PUBLIC, "return name;");
+    TypeDef visitor = new TypeDef(Kind.INTERFACE, "my.pkg", "Visitor", Collections.emptyList(), Collections.emptyList(),
+        Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
+        Collections.emptyList(), Arrays.asList(method("visit", new VoidRef(), 0, null)), "my.pkg.Outer",
+        Collections.emptyList(), Modifier.PUBLIC, Collections.emptyMap());
+    TypeDef inner = new TypeDef(Kind.CLASS, "my.pkg", "Inner", Collections.emptyList(), Collections.emptyList(),
+        Collections.emptyList(), Arrays.asList(classRef("my.pkg.Outer.Visitor")), Collections.emptyList(),
+        Collections.emptyList(), Collections.emptyList(), Arrays.asList(method("visit", new VoidRef(), Modifier.PUBLIC, "")),
+        "my.pkg.Outer", Collections.emptyList(), Modifier.PRIVATE | Modifier.STATIC, Collections.emptyMap());
+    TypeParamRef t = new TypeParamRef("T", 0, Collections.emptyMap());
+    return new TypeDef(Kind.CLASS, "my.pkg", "Outer", Arrays.asList("An outer class."), Arrays.asList(DEPRECATED),
+        Arrays.asList(new ClassRef("my.pkg.Base", 0, Arrays.asList(t), Collections.emptyMap())),
+        Arrays.asList(classRef("java.io.Serializable")),
+        Arrays.asList(new TypeParamDef("T", Collections.emptyList(), Collections.emptyMap())), Arrays.asList(name),
+        Arrays.asList(constructor), Arrays.asList(getName), null, Arrays.asList(visitor, inner), Modifier.PUBLIC,
+        Collections.emptyMap());
+  }
+
+  private static Method method(String name, TypeRef returnType, int modifiers, String body, Property... arguments) {
+    List<Statement> statements = body == null || body.isEmpty() ? Collections.emptyList()
+        : Arrays.asList(new StringStatement(body));
+    return new Method(Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), name, returnType,
+        Arrays.asList(arguments), false, Collections.emptyList(), false, body != null ? new Block(statements) : null,
+        modifiers, Collections.emptyMap());
+  }
+
+  private static ClassRef classRef(String fullyQualifiedName) {
+    return new ClassRef(fullyQualifiedName, 0, Collections.emptyList(), Collections.emptyMap());
+  }
+}
@@ -42,7 +42,7 @@ public class AnnotationRefFluentImpl<A extends AnnotationRefFluent<A>> extends A
     _visitables.get("classRef").remove(this.classRef);
     if (classRef != null) {
       this.classRef = new ClassRefBuilder(classRef);
-      _visitables.get("classRef").add(this.classRef);
+      _visitables.slot("classRef").add(this.classRef);
     }
     return (A) this;
   }
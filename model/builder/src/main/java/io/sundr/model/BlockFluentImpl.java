@@ -29,7 +29,7 @@ public class BlockFluentImpl<A extends BlockFluent<A>> extends BaseFluent<A> imp
     if (this.statements == null) {
       this.statements = new ArrayList<VisitableBuilder<? extends Statement, ?>>();
     }
-    _visitables.get("statements").add(builder);
+    _visitables.slot("statements").add(builder);
     this.statements.add(builder);
     return (A) this;
   }
@@ -38,7 +38,7 @@ public class BlockFluentImpl<A extends BlockFluent<A>> extends BaseFluent<A> imp
     if (this.statements == null) {
       this.statements = new ArrayList<VisitableBuilder<? extends Statement, ?>>();
     }
-    _visitables.get("statements").add(index, builder);
+    _visitables.slot("statements").add(index, builder);
     this.statements.add(index, builder);
     return (A) this;
   }
@@ -70,7 +70,7 @@ public class BlockFluentImpl<A extends BlockFluent<A>> extends BaseFluent<A> imp
 
       else {
         VisitableBuilder<? extends Statement, ?> builder = builderOf(item);
-        _visitables.get("statements").add(builder);
+        _visitables.slot("statements").add(builder);
         this.statements.add(builder);
       }
     }
@@ -88,7 +88,7 @@ public class BlockFluentImpl<A extends BlockFluent<A>> extends BaseFluent<A> imp
 
       else {
         VisitableBuilder<? extends Statement, ?> builder = builderOf(item);
-        _visitables.get("statements").add(builder);
+        _visitables.slot("statements").add(builder);
         this.statements.add(builder);
       }
     }
@@ -214,7 +214,7 @@ public class BlockFluentImpl<A extends BlockFluent<A>> extends BaseFluent<A> imp
       this.statements = new ArrayList<VisitableBuilder<? extends Statement, ?>>();
     }
     StringStatementBuilder builder = new StringStatementBuilder(item);
-    _visitables.get("statements").add(index >= 0 ? index : _visitables.get("statements").size(), builder);
+    _visitables.slot("statements").add(index >= 0 ? index : _visitables.slot("statements").size(), builder);
     this.statements.add(index >= 0 ? index : statements.size(), builder);
     return (A) this;
   }
@@ -224,10 +224,10 @@ public class BlockFluentImpl<A extends BlockFluent<A>> extends BaseFluent<A> imp
       this.statements = new ArrayList<VisitableBuilder<? extends Statement, ?>>();
     }
     StringStatementBuilder builder = new StringStatementBuilder(item);
-    if (index < 0 || index >= _visitables.get("statements").size()) {
-      _visitables.get("statements").add(builder);
+    if (index < 0 || index >= _visitables.slot("statements").size()) {
+      _visitables.slot("statements").add(builder);
     } else {
-      _visitables.get("statements").set(index, builder);
+      _visitables.slot("statements").set(index, builder);
     }
     if (index < 0 || index >= statements.size()) {
       statements.add(builder);
@@ -243,7 +243,7 @@ public class BlockFluentImpl<A extends BlockFluent<A>> extends BaseFluent<A> imp
     }
     for (StringStatement item : items) {
       StringStatementBuilder builder = new StringStatementBuilder(item);
-      _visitables.get("statements").add(builder);
+      _visitables.slot("statements").add(builder);
       this.statements.add(builder);
     }
     return (A) this;
@@ -255,7 +255,7 @@ public class BlockFluentImpl<A extends BlockFluent<A>> extends BaseFluent<A> imp
     }
     for (StringStatement item : items) {
       StringStatementBuilder builder = new StringStatementBuilder(item);
-      _visitables.get("statements").add(builder);
+      _visitables.slot("statements").add(builder);
       this.statements.add(builder);
     }
     return (A) this;
@@ -101,7 +101,7 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
     if (this.arguments == null) {
       this.arguments = new ArrayList<VisitableBuilder<? extends TypeRef, ?>>();
     }
-    _visitables.get("arguments").add(builder);
+    _visitables.slot("arguments").add(builder);
     this.arguments.add(builder);
     return (A) this;
   }
@@ -110,7 +110,7 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
     if (this.arguments == null) {
       this.arguments = new ArrayList<VisitableBuilder<? extends TypeRef, ?>>();
     }
-    _visitables.get("arguments").add(index, builder);
+    _visitables.slot("arguments").add(index, builder);
     this.arguments.add(index, builder);
     return (A) this;
   }
@@ -166,7 +166,7 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
 
       else {
         VisitableBuilder<? extends TypeRef, ?> builder = builderOf(item);
-        _visitables.get("arguments").add(builder);
+        _visitables.slot("arguments").add(builder);
         this.arguments.add(builder);
       }
     }
@@ -192,7 +192,7 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
 
       else {
         VisitableBuilder<? extends TypeRef, ?> builder = builderOf(item);
-        _visitables.get("arguments").add(builder);
+        _visitables.slot("arguments").add(builder);
         this.arguments.add(builder);
       }
     }
@@ -349,7 +349,7 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
       this.arguments = new ArrayList<VisitableBuilder<? extends TypeRef, ?>>();
     }
     TypeParamRefBuilder builder = new TypeParamRefBuilder(item);
-    _visitables.get("arguments").add(index >= 0 ? index : _visitables.get("arguments").size(), builder);
+    _visitables.slot("arguments").add(index >= 0 ? index : _visitables.slot("arguments").size(), builder);
     this.arguments.add(index >= 0 ? index : arguments.size(), builder);
     return (A) this;
   }
@@ -359,10 +359,10 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
       this.arguments = new ArrayList<VisitableBuilder<? extends TypeRef, ?>>();
     }
     TypeParamRefBuilder builder = new TypeParamRefBuilder(item);
-    if (index < 0 || index >= _visitables.get("arguments").size()) {
-      _visitables.get("arguments").add(builder);
+    if (index < 0 || index >= _visitables.slot("arguments").size()) {
+      _visitables.slot("arguments").add(builder);
     } else {
-      _visitables.get("arguments").set(index, builder);
+      _visitables.slot("arguments").set(index, builder);
     }
     if (index < 0 || index >= arguments.size()) {
       arguments.add(builder);
@@ -378,7 +378,7 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
     }
     for (TypeParamRef item : items) {
       TypeParamRefBuilder builder = new TypeParamRefBuilder(item);
-      _visitables.get("arguments").add(builder);
+      _visitables.slot("arguments").add(builder);
       this.arguments.add(builder);
     }
     return (A) this;
@@ -390,7 +390,7 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
     }
     for (TypeParamRef item : items) {
       TypeParamRefBuilder builder = new TypeParamRefBuilder(item);
-      _visitables.get("arguments").add(builder);
+      _visitables.slot("arguments").add(builder);
       this.arguments.add(builder);
     }
     return (A) this;
@@ -451,7 +451,7 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
       this.arguments = new ArrayList<VisitableBuilder<? extends TypeRef, ?>>();
     }
     WildcardRefBuilder builder = new WildcardRefBuilder(item);
-    _visitables.get("arguments").add(index >= 0 ? index : _visitables.get("arguments").size(), builder);
+    _visitables.slot("arguments").add(index >= 0 ? index : _visitables.slot("arguments").size(), builder);
     this.arguments.add(index >= 0 ? index : arguments.size(), builder);
     return (A) this;
   }
@@ -461,10 +461,10 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
       this.arguments = new ArrayList<VisitableBuilder<? extends TypeRef, ?>>();
     }
     WildcardRefBuilder builder = new WildcardRefBuilder(item);
-    if (index < 0 || index >= _visitables.get("arguments").size()) {
-      _visitables.get("arguments").add(builder);
+    if (index < 0 || index >= _visitables.slot("arguments").size()) {
+      _visitables.slot("arguments").add(builder);
     } else {
-      _visitables.get("arguments").set(index, builder);
+      _visitables.slot("arguments").set(index, builder);
     }
     if (index < 0 || index >= arguments.size()) {
       arguments.add(builder);
@@ -480,7 +480,7 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
     }
     for (WildcardRef item : items) {
       WildcardRefBuilder builder = new WildcardRefBuilder(item);
-      _visitables.get("arguments").add(builder);
+      _visitables.slot("arguments").add(builder);
       this.arguments.add(builder);
     }
     return (A) this;
@@ -492,7 +492,7 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
     }
     for (WildcardRef item : items) {
       WildcardRefBuilder builder = new WildcardRefBuilder(item);
-      _visitables.get("arguments").add(builder);
+      _visitables.slot("arguments").add(builder);
       this.arguments.add(builder);
     }
     return (A) this;
@@ -553,7 +553,7 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
       this.arguments = new ArrayList<VisitableBuilder<? extends TypeRef, ?>>();
     }
     ClassRefBuilder builder = new ClassRefBuilder(item);
-    _visitables.get("arguments").add(index >= 0 ? index : _visitables.get("arguments").size(), builder);
+    _visitables.slot("arguments").add(index >= 0 ? index : _visitables.slot("arguments").size(), builder);
     this.arguments.add(index >= 0 ? index : arguments.size(), builder);
     return (A) this;
   }
@@ -563,10 +563,10 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
       this.arguments = new ArrayList<VisitableBuilder<? extends TypeRef, ?>>();
     }
     ClassRefBuilder builder = new ClassRefBuilder(item);
-    if (index < 0 || index >= _visitables.get("arguments").size()) {
-      _visitables.get("arguments").add(builder);
+    if (index < 0 || index >= _visitables.slot("arguments").size()) {
+      _visitables.slot("arguments").add(builder);
     } else {
-      _visitables.get("arguments").set(index, builder);
+      _visitables.slot("arguments").set(index, builder);
     }
     if (index < 0 || index >= arguments.size()) {
       arguments.add(builder);
@@ -582,7 +582,7 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
     }
     for (ClassRef item : items) {
       ClassRefBuilder builder = new ClassRefBuilder(item);
-      _visitables.get("arguments").add(builder);
+      _visitables.slot("arguments").add(builder);
       this.arguments.add(builder);
     }
     return (A) this;
@@ -594,7 +594,7 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
     }
     for (ClassRef item : items) {
       ClassRefBuilder builder = new ClassRefBuilder(item);
-      _visitables.get("arguments").add(builder);
+      _visitables.slot("arguments").add(builder);
       this.arguments.add(builder);
     }
     return (A) this;
@@ -654,7 +654,7 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
       this.arguments = new ArrayList<VisitableBuilder<? extends TypeRef, ?>>();
     }
     PrimitiveRefBuilder builder = new PrimitiveRefBuilder(item);
-    _visitables.get("arguments").add(index >= 0 ? index : _visitables.get("arguments").size(), builder);
+    _visitables.slot("arguments").add(index >= 0 ? index : _visitables.slot("arguments").size(), builder);
     this.arguments.add(index >= 0 ? index : arguments.size(), builder);
     return (A) this;
   }
@@ -664,10 +664,10 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
       this.arguments = new ArrayList<VisitableBuilder<? extends TypeRef, ?>>();
     }
     PrimitiveRefBuilder builder = new PrimitiveRefBuilder(item);
-    if (index < 0 || index >= _visitables.get("arguments").size()) {
-      _visitables.get("arguments").add(builder);
+    if (index < 0 || index >= _visitables.slot("arguments").size()) {
+      _visitables.slot("arguments").add(builder);
     } else {
-      _visitables.get("arguments").set(index, builder);
+      _visitables.slot("arguments").set(index, builder);
     }
     if (index < 0 || index >= arguments.size()) {
       arguments.add(builder);
@@ -683,7 +683,7 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
     }
     for (PrimitiveRef item : items) {
       PrimitiveRefBuilder builder = new PrimitiveRefBuilder(item);
-      _visitables.get("arguments").add(builder);
+      _visitables.slot("arguments").add(builder);
       this.arguments.add(builder);
     }
     return (A) this;
@@ -695,7 +695,7 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
     }
     for (PrimitiveRef item : items) {
       PrimitiveRefBuilder builder = new PrimitiveRefBuilder(item);
-      _visitables.get("arguments").add(builder);
+      _visitables.slot("arguments").add(builder);
       this.arguments.add(builder);
     }
     return (A) this;
@@ -756,7 +756,7 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
       this.arguments = new ArrayList<VisitableBuilder<? extends TypeRef, ?>>();
     }
     VoidRefBuilder builder = new VoidRefBuilder(item);
-    _visitables.get("arguments").add(index >= 0 ? index : _visitables.get("arguments").size(), builder);
+    _visitables.slot("arguments").add(index >= 0 ? index : _visitables.slot("arguments").size(), builder);
     this.arguments.add(index >= 0 ? index : arguments.size(), builder);
     return (A) this;
   }
@@ -766,10 +766,10 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
       this.arguments = new ArrayList<VisitableBuilder<? extends TypeRef, ?>>();
     }
     VoidRefBuilder builder = new VoidRefBuilder(item);
-    if (index < 0 || index >= _visitables.get("arguments").size()) {
-      _visitables.get("arguments").add(builder);
+    if (index < 0 || index >= _visitables.slot("arguments").size()) {
+      _visitables.slot("arguments").add(builder);
     } else {
-      _visitables.get("arguments").set(index, builder);
+      _visitables.slot("arguments").set(index, builder);
     }
     if (index < 0 || index >= arguments.size()) {
       arguments.add(builder);
@@ -785,7 +785,7 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
     }
     for (VoidRef item : items) {
       VoidRefBuilder builder = new VoidRefBuilder(item);
-      _visitables.get("arguments").add(builder);
+      _visitables.slot("arguments").add(builder);
       this.arguments.add(builder);
     }
     return (A) this;
@@ -797,7 +797,7 @@ public class ClassRefFluentImpl<A extends ClassRefFluent<A>> extends TypeRefFlue
     }
     for (VoidRef item : items) {
       VoidRefBuilder builder = new VoidRefBuilder(item);
-      _visitables.get("arguments").add(builder);
+      _visitables.slot("arguments").add(builder);
       this.arguments.add(builder);
     }
     return (A) this;
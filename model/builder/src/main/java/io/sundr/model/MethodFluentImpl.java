@@ -210,7 +210,7 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
       this.annotations = new ArrayList<AnnotationRefBuilder>();
     }
     AnnotationRefBuilder builder = new AnnotationRefBuilder(item);
-    _visitables.get("annotations").add(index >= 0 ? index : _visitables.get("annotations").size(), builder);
+    _visitables.slot("annotations").add(index >= 0 ? index : _visitables.slot("annotations").size(), builder);
     this.annotations.add(index >= 0 ? index : annotations.size(), builder);
     return (A) this;
   }
@@ -220,10 +220,10 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
       this.annotations = new ArrayList<AnnotationRefBuilder>();
     }
     AnnotationRefBuilder builder = new AnnotationRefBuilder(item);
-    if (index < 0 || index >= _visitables.get("annotations").size()) {
-      _visitables.get("annotations").add(builder);
+    if (index < 0 || index >= _visitables.slot("annotations").size()) {
+      _visitables.slot("annotations").add(builder);
     } else {
-      _visitables.get("annotations").set(index, builder);
+      _visitables.slot("annotations").set(index, builder);
     }
     if (index < 0 || index >= annotations.size()) {
       annotations.add(builder);
@@ -239,7 +239,7 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
     }
     for (AnnotationRef item : items) {
       AnnotationRefBuilder builder = new AnnotationRefBuilder(item);
-      _visitables.get("annotations").add(builder);
+      _visitables.slot("annotations").add(builder);
       this.annotations.add(builder);
     }
     return (A) this;
@@ -251,7 +251,7 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
     }
     for (AnnotationRef item : items) {
       AnnotationRefBuilder builder = new AnnotationRefBuilder(item);
-      _visitables.get("annotations").add(builder);
+      _visitables.slot("annotations").add(builder);
       this.annotations.add(builder);
     }
     return (A) this;
@@ -418,7 +418,7 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
       this.parameters = new ArrayList<TypeParamDefBuilder>();
     }
     TypeParamDefBuilder builder = new TypeParamDefBuilder(item);
-    _visitables.get("parameters").add(index >= 0 ? index : _visitables.get("parameters").size(), builder);
+    _visitables.slot("parameters").add(index >= 0 ? index : _visitables.slot("parameters").size(), builder);
     this.parameters.add(index >= 0 ? index : parameters.size(), builder);
     return (A) this;
   }
@@ -428,10 +428,10 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
       this.parameters = new ArrayList<TypeParamDefBuilder>();
     }
     TypeParamDefBuilder builder = new TypeParamDefBuilder(item);
-    if (index < 0 || index >= _visitables.get("parameters").size()) {
-      _visitables.get("parameters").add(builder);
+    if (index < 0 || index >= _visitables.slot("parameters").size()) {
+      _visitables.slot("parameters").add(builder);
     } else {
-      _visitables.get("parameters").set(index, builder);
+      _visitables.slot("parameters").set(index, builder);
     }
     if (index < 0 || index >= parameters.size()) {
       parameters.add(builder);
@@ -447,7 +447,7 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
     }
     for (TypeParamDef item : items) {
       TypeParamDefBuilder builder = new TypeParamDefBuilder(item);
-      _visitables.get("parameters").add(builder);
+      _visitables.slot("parameters").add(builder);
       this.parameters.add(builder);
     }
     return (A) this;
@@ -459,7 +459,7 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
     }
     for (TypeParamDef item : items) {
       TypeParamDefBuilder builder = new TypeParamDefBuilder(item);
-      _visitables.get("parameters").add(builder);
+      _visitables.slot("parameters").add(builder);
       this.parameters.add(builder);
     }
     return (A) this;
@@ -692,23 +692,23 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
     _visitables.get("returnType").remove(this.returnType);
     if (returnType instanceof TypeParamRef) {
       this.returnType = new TypeParamRefBuilder((TypeParamRef) returnType);
-      _visitables.get("returnType").add(this.returnType);
+      _visitables.slot("returnType").add(this.returnType);
     }
     if (returnType instanceof WildcardRef) {
       this.returnType = new WildcardRefBuilder((WildcardRef) returnType);
-      _visitables.get("returnType").add(this.returnType);
+      _visitables.slot("returnType").add(this.returnType);
     }
     if (returnType instanceof ClassRef) {
       this.returnType = new ClassRefBuilder((ClassRef) returnType);
-      _visitables.get("returnType").add(this.returnType);
+      _visitables.slot("returnType").add(this.returnType);
     }
     if (returnType instanceof PrimitiveRef) {
       this.returnType = new PrimitiveRefBuilder((PrimitiveRef) returnType);
-      _visitables.get("returnType").add(this.returnType);
+      _visitables.slot("returnType").add(this.returnType);
     }
     if (returnType instanceof VoidRef) {
       this.returnType = new VoidRefBuilder((VoidRef) returnType);
-      _visitables.get("returnType").add(this.returnType);
+      _visitables.slot("returnType").add(this.returnType);
     }
     return (A) this;
   }
@@ -721,7 +721,7 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
     _visitables.get("returnType").remove(this.returnType);
     if (typeParamRefReturnType != null) {
       this.returnType = new TypeParamRefBuilder(typeParamRefReturnType);
-      _visitables.get("returnType").add(this.returnType);
+      _visitables.slot("returnType").add(this.returnType);
     }
     return (A) this;
   }
@@ -738,7 +738,7 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
     _visitables.get("returnType").remove(this.returnType);
     if (wildcardRefReturnType != null) {
       this.returnType = new WildcardRefBuilder(wildcardRefReturnType);
-      _visitables.get("returnType").add(this.returnType);
+      _visitables.slot("returnType").add(this.returnType);
     }
     return (A) this;
   }
@@ -755,7 +755,7 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
     _visitables.get("returnType").remove(this.returnType);
     if (classRefReturnType != null) {
       this.returnType = new ClassRefBuilder(classRefReturnType);
-      _visitables.get("returnType").add(this.returnType);
+      _visitables.slot("returnType").add(this.returnType);
     }
     return (A) this;
   }
@@ -772,7 +772,7 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
     _visitables.get("returnType").remove(this.returnType);
     if (primitiveRefReturnType != null) {
       this.returnType = new PrimitiveRefBuilder(primitiveRefReturnType);
-      _visitables.get("returnType").add(this.returnType);
+      _visitables.slot("returnType").add(this.returnType);
     }
     return (A) this;
   }
@@ -789,7 +789,7 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
     _visitables.get("returnType").remove(this.returnType);
     if (voidRefReturnType != null) {
       this.returnType = new VoidRefBuilder(voidRefReturnType);
-      _visitables.get("returnType").add(this.returnType);
+      _visitables.slot("returnType").add(this.returnType);
     }
     return (A) this;
   }
@@ -807,7 +807,7 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
       this.arguments = new ArrayList<PropertyBuilder>();
     }
     PropertyBuilder builder = new PropertyBuilder(item);
-    _visitables.get("arguments").add(index >= 0 ? index : _visitables.get("arguments").size(), builder);
+    _visitables.slot("arguments").add(index >= 0 ? index : _visitables.slot("arguments").size(), builder);
     this.arguments.add(index >= 0 ? index : arguments.size(), builder);
     return (A) this;
   }
@@ -817,10 +817,10 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
       this.arguments = new ArrayList<PropertyBuilder>();
     }
     PropertyBuilder builder = new PropertyBuilder(item);
-    if (index < 0 || index >= _visitables.get("arguments").size()) {
-      _visitables.get("arguments").add(builder);
+    if (index < 0 || index >= _visitables.slot("arguments").size()) {
+      _visitables.slot("arguments").add(builder);
     } else {
-      _visitables.get("arguments").set(index, builder);
+      _visitables.slot("arguments").set(index, builder);
     }
     if (index < 0 || index >= arguments.size()) {
       arguments.add(builder);
@@ -836,7 +836,7 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
     }
     for (Property item : items) {
       PropertyBuilder builder = new PropertyBuilder(item);
-      _visitables.get("arguments").add(builder);
+      _visitables.slot("arguments").add(builder);
       this.arguments.add(builder);
     }
     return (A) this;
@@ -848,7 +848,7 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
     }
     for (Property item : items) {
       PropertyBuilder builder = new PropertyBuilder(item);
-      _visitables.get("arguments").add(builder);
+      _visitables.slot("arguments").add(builder);
       this.arguments.add(builder);
     }
     return (A) this;
@@ -1028,7 +1028,7 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
       this.exceptions = new ArrayList<ClassRefBuilder>();
     }
     ClassRefBuilder builder = new ClassRefBuilder(item);
-    _visitables.get("exceptions").add(index >= 0 ? index : _visitables.get("exceptions").size(), builder);
+    _visitables.slot("exceptions").add(index >= 0 ? index : _visitables.slot("exceptions").size(), builder);
     this.exceptions.add(index >= 0 ? index : exceptions.size(), builder);
     return (A) this;
   }
@@ -1038,10 +1038,10 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
       this.exceptions = new ArrayList<ClassRefBuilder>();
     }
     ClassRefBuilder builder = new ClassRefBuilder(item);
-    if (index < 0 || index >= _visitables.get("exceptions").size()) {
-      _visitables.get("exceptions").add(builder);
+    if (index < 0 || index >= _visitables.slot("exceptions").size()) {
+      _visitables.slot("exceptions").add(builder);
     } else {
-      _visitables.get("exceptions").set(index, builder);
+      _visitables.slot("exceptions").set(index, builder);
     }
     if (index < 0 || index >= exceptions.size()) {
       exceptions.add(builder);
@@ -1057,7 +1057,7 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
     }
     for (ClassRef item : items) {
       ClassRefBuilder builder = new ClassRefBuilder(item);
-      _visitables.get("exceptions").add(builder);
+      _visitables.slot("exceptions").add(builder);
       this.exceptions.add(builder);
     }
     return (A) this;
@@ -1069,7 +1069,7 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
     }
     for (ClassRef item : items) {
       ClassRefBuilder builder = new ClassRefBuilder(item);
-      _visitables.get("exceptions").add(builder);
+      _visitables.slot("exceptions").add(builder);
       this.exceptions.add(builder);
     }
     return (A) this;
@@ -1262,7 +1262,7 @@ public class MethodFluentImpl<A extends MethodFluent<A>> extends ModifierSupport
     _visitables.get("block").remove(this.block);
     if (block != null) {
       this.block = new BlockBuilder(block);
-      _visitables.get("block").add(this.block);
+      _visitables.slot("block").add(this.block);
     }
     return (A) this;
   }
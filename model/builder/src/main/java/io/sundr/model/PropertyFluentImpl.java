@@ -39,7 +39,7 @@ public class PropertyFluentImpl<A extends PropertyFluent<A>> extends ModifierSup
       this.annotations = new ArrayList<AnnotationRefBuilder>();
     }
     AnnotationRefBuilder builder = new AnnotationRefBuilder(item);
-    _visitables.get("annotations").add(index >= 0 ? index : _visitables.get("annotations").size(), builder);
+    _visitables.slot("annotations").add(index >= 0 ? index : _visitables.slot("annotations").size(), builder);
     this.annotations.add(index >= 0 ? index : annotations.size(), builder);
     return (A) this;
   }
@@ -49,10 +49,10 @@ public class PropertyFluentImpl<A extends PropertyFluent<A>> extends ModifierSup
       this.annotations = new ArrayList<AnnotationRefBuilder>();
     }
     AnnotationRefBuilder builder = new AnnotationRefBuilder(item);
-    if (index < 0 || index >= _visitables.get("annotations").size()) {
-      _visitables.get("annotations").add(builder);
+    if (index < 0 || index >= _visitables.slot("annotations").size()) {
+      _visitables.slot("annotations").add(builder);
     } else {
-      _visitables.get("annotations").set(index, builder);
+      _visitables.slot("annotations").set(index, builder);
     }
     if (index < 0 || index >= annotations.size()) {
       annotations.add(builder);
@@ -68,7 +68,7 @@ public class PropertyFluentImpl<A extends PropertyFluent<A>> extends ModifierSup
     }
     for (AnnotationRef item : items) {
       AnnotationRefBuilder builder = new AnnotationRefBuilder(item);
-      _visitables.get("annotations").add(builder);
+      _visitables.slot("annotations").add(builder);
       this.annotations.add(builder);
     }
     return (A) this;
@@ -80,7 +80,7 @@ public class PropertyFluentImpl<A extends PropertyFluent<A>> extends ModifierSup
     }
     for (AnnotationRef item : items) {
       AnnotationRefBuilder builder = new AnnotationRefBuilder(item);
-      _visitables.get("annotations").add(builder);
+      _visitables.slot("annotations").add(builder);
       this.annotations.add(builder);
     }
     return (A) this;
@@ -260,23 +260,23 @@ public class PropertyFluentImpl<A extends PropertyFluent<A>> extends ModifierSup
     _visitables.get("typeRef").remove(this.typeRef);
     if (typeRef instanceof TypeParamRef) {
       this.typeRef = new TypeParamRefBuilder((TypeParamRef) typeRef);
-      _visitables.get("typeRef").add(this.typeRef);
+      _visitables.slot("typeRef").add(this.typeRef);
     }
     if (typeRef instanceof WildcardRef) {
       this.typeRef = new WildcardRefBuilder((WildcardRef) typeRef);
-      _visitables.get("typeRef").add(this.typeRef);
+      _visitables.slot("typeRef").add(this.typeRef);
     }
     if (typeRef instanceof ClassRef) {
       this.typeRef = new ClassRefBuilder((ClassRef) typeRef);
-      _visitables.get("typeRef").add(this.typeRef);
+      _visitables.slot("typeRef").add(this.typeRef);
     }
     if (typeRef instanceof PrimitiveRef) {
       this.typeRef = new PrimitiveRefBuilder((PrimitiveRef) typeRef);
-      _visitables.get("typeRef").add(this.typeRef);
+      _visitables.slot("typeRef").add(this.typeRef);
     }
     if (typeRef instanceof VoidRef) {
       this.typeRef = new VoidRefBuilder((VoidRef) typeRef);
-      _visitables.get("typeRef").add(this.typeRef);
+      _visitables.slot("typeRef").add(this.typeRef);
     }
     return (A) this;
   }
@@ -289,7 +289,7 @@ public class PropertyFluentImpl<A extends PropertyFluent<A>> extends ModifierSup
     _visitables.get("typeRef").remove(this.typeRef);
     if (typeParamRefType != null) {
       this.typeRef = new TypeParamRefBuilder(typeParamRefType);
-      _visitables.get("typeRef").add(this.typeRef);
+      _visitables.slot("typeRef").add(this.typeRef);
     }
     return (A) this;
   }
@@ -306,7 +306,7 @@ public class PropertyFluentImpl<A extends PropertyFluent<A>> extends ModifierSup
     _visitables.get("typeRef").remove(this.typeRef);
     if (wildcardRefType != null) {
       this.typeRef = new WildcardRefBuilder(wildcardRefType);
-      _visitables.get("typeRef").add(this.typeRef);
+      _visitables.slot("typeRef").add(this.typeRef);
     }
     return (A) this;
   }
@@ -323,7 +323,7 @@ public class PropertyFluentImpl<A extends PropertyFluent<A>> extends ModifierSup
     _visitables.get("typeRef").remove(this.typeRef);
     if (classRefType != null) {
       this.typeRef = new ClassRefBuilder(classRefType);
-      _visitables.get("typeRef").add(this.typeRef);
+      _visitables.slot("typeRef").add(this.typeRef);
     }
     return (A) this;
   }
@@ -340,7 +340,7 @@ public class PropertyFluentImpl<A extends PropertyFluent<A>> extends ModifierSup
     _visitables.get("typeRef").remove(this.typeRef);
     if (primitiveRefType != null) {
       this.typeRef = new PrimitiveRefBuilder(primitiveRefType);
-      _visitables.get("typeRef").add(this.typeRef);
+      _visitables.slot("typeRef").add(this.typeRef);
     }
     return (A) this;
   }
@@ -357,7 +357,7 @@ public class PropertyFluentImpl<A extends PropertyFluent<A>> extends ModifierSup
     _visitables.get("typeRef").remove(this.typeRef);
     if (voidRefType != null) {
       this.typeRef = new VoidRefBuilder(voidRefType);
-      _visitables.get("typeRef").add(this.typeRef);
+      _visitables.slot("typeRef").add(this.typeRef);
     }
     return (A) this;
   }
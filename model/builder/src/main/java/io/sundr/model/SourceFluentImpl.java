@@ -29,7 +29,7 @@ public class SourceFluentImpl<A extends SourceFluent<A>> extends BaseFluent<A> i
       this.types = new ArrayList<TypeDefBuilder>();
     }
     TypeDefBuilder builder = new TypeDefBuilder(item);
-    _visitables.get("types").add(index >= 0 ? index : _visitables.get("types").size(), builder);
+    _visitables.slot("types").add(index >= 0 ? index : _visitables.slot("types").size(), builder);
     this.types.add(index >= 0 ? index : types.size(), builder);
     return (A) this;
   }
@@ -39,10 +39,10 @@ public class SourceFluentImpl<A extends SourceFluent<A>> extends BaseFluent<A> i
       this.types = new ArrayList<TypeDefBuilder>();
     }
     TypeDefBuilder builder = new TypeDefBuilder(item);
-    if (index < 0 || index >= _visitables.get("types").size()) {
-      _visitables.get("types").add(builder);
+    if (index < 0 || index >= _visitables.slot("types").size()) {
+      _visitables.slot("types").add(builder);
     } else {
-      _visitables.get("types").set(index, builder);
+      _visitables.slot("types").set(index, builder);
     }
     if (index < 0 || index >= types.size()) {
       types.add(builder);
@@ -58,7 +58,7 @@ public class SourceFluentImpl<A extends SourceFluent<A>> extends BaseFluent<A> i
     }
     for (TypeDef item : items) {
       TypeDefBuilder builder = new TypeDefBuilder(item);
-      _visitables.get("types").add(builder);
+      _visitables.slot("types").add(builder);
       this.types.add(builder);
     }
     return (A) this;
@@ -70,7 +70,7 @@ public class SourceFluentImpl<A extends SourceFluent<A>> extends BaseFluent<A> i
     }
     for (TypeDef item : items) {
       TypeDefBuilder builder = new TypeDefBuilder(item);
-      _visitables.get("types").add(builder);
+      _visitables.slot("types").add(builder);
       this.types.add(builder);
     }
     return (A) this;
@@ -334,7 +334,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
       this.annotations = new ArrayList<AnnotationRefBuilder>();
     }
     AnnotationRefBuilder builder = new AnnotationRefBuilder(item);
-    _visitables.get("annotations").add(index >= 0 ? index : _visitables.get("annotations").size(), builder);
+    _visitables.slot("annotations").add(index >= 0 ? index : _visitables.slot("annotations").size(), builder);
     this.annotations.add(index >= 0 ? index : annotations.size(), builder);
     return (A) this;
   }
@@ -344,10 +344,10 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
       this.annotations = new ArrayList<AnnotationRefBuilder>();
     }
     AnnotationRefBuilder builder = new AnnotationRefBuilder(item);
-    if (index < 0 || index >= _visitables.get("annotations").size()) {
-      _visitables.get("annotations").add(builder);
+    if (index < 0 || index >= _visitables.slot("annotations").size()) {
+      _visitables.slot("annotations").add(builder);
     } else {
-      _visitables.get("annotations").set(index, builder);
+      _visitables.slot("annotations").set(index, builder);
     }
     if (index < 0 || index >= annotations.size()) {
       annotations.add(builder);
@@ -363,7 +363,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
     for (AnnotationRef item : items) {
       AnnotationRefBuilder builder = new AnnotationRefBuilder(item);
-      _visitables.get("annotations").add(builder);
+      _visitables.slot("annotations").add(builder);
       this.annotations.add(builder);
     }
     return (A) this;
@@ -375,7 +375,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
     for (AnnotationRef item : items) {
       AnnotationRefBuilder builder = new AnnotationRefBuilder(item);
-      _visitables.get("annotations").add(builder);
+      _visitables.slot("annotations").add(builder);
       this.annotations.add(builder);
     }
     return (A) this;
@@ -542,7 +542,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
       this.extendsList = new ArrayList<ClassRefBuilder>();
     }
     ClassRefBuilder builder = new ClassRefBuilder(item);
-    _visitables.get("extendsList").add(index >= 0 ? index : _visitables.get("extendsList").size(), builder);
+    _visitables.slot("extendsList").add(index >= 0 ? index : _visitables.slot("extendsList").size(), builder);
     this.extendsList.add(index >= 0 ? index : extendsList.size(), builder);
     return (A) this;
   }
@@ -552,10 +552,10 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
       this.extendsList = new ArrayList<ClassRefBuilder>();
     }
     ClassRefBuilder builder = new ClassRefBuilder(item);
-    if (index < 0 || index >= _visitables.get("extendsList").size()) {
-      _visitables.get("extendsList").add(builder);
+    if (index < 0 || index >= _visitables.slot("extendsList").size()) {
+      _visitables.slot("extendsList").add(builder);
     } else {
-      _visitables.get("extendsList").set(index, builder);
+      _visitables.slot("extendsList").set(index, builder);
     }
     if (index < 0 || index >= extendsList.size()) {
       extendsList.add(builder);
@@ -571,7 +571,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
     for (ClassRef item : items) {
       ClassRefBuilder builder = new ClassRefBuilder(item);
-      _visitables.get("extendsList").add(builder);
+      _visitables.slot("extendsList").add(builder);
       this.extendsList.add(builder);
     }
     return (A) this;
@@ -583,7 +583,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
     for (ClassRef item : items) {
       ClassRefBuilder builder = new ClassRefBuilder(item);
-      _visitables.get("extendsList").add(builder);
+      _visitables.slot("extendsList").add(builder);
       this.extendsList.add(builder);
     }
     return (A) this;
@@ -750,7 +750,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
       this.implementsList = new ArrayList<ClassRefBuilder>();
     }
     ClassRefBuilder builder = new ClassRefBuilder(item);
-    _visitables.get("implementsList").add(index >= 0 ? index : _visitables.get("implementsList").size(), builder);
+    _visitables.slot("implementsList").add(index >= 0 ? index : _visitables.slot("implementsList").size(), builder);
     this.implementsList.add(index >= 0 ? index : implementsList.size(), builder);
     return (A) this;
   }
@@ -760,10 +760,10 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
       this.implementsList = new ArrayList<ClassRefBuilder>();
     }
     ClassRefBuilder builder = new ClassRefBuilder(item);
-    if (index < 0 || index >= _visitables.get("implementsList").size()) {
-      _visitables.get("implementsList").add(builder);
+    if (index < 0 || index >= _visitables.slot("implementsList").size()) {
+      _visitables.slot("implementsList").add(builder);
     } else {
-      _visitables.get("implementsList").set(index, builder);
+      _visitables.slot("implementsList").set(index, builder);
     }
     if (index < 0 || index >= implementsList.size()) {
       implementsList.add(builder);
@@ -779,7 +779,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
     for (ClassRef item : items) {
       ClassRefBuilder builder = new ClassRefBuilder(item);
-      _visitables.get("implementsList").add(builder);
+      _visitables.slot("implementsList").add(builder);
       this.implementsList.add(builder);
     }
     return (A) this;
@@ -791,7 +791,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
     for (ClassRef item : items) {
       ClassRefBuilder builder = new ClassRefBuilder(item);
-      _visitables.get("implementsList").add(builder);
+      _visitables.slot("implementsList").add(builder);
       this.implementsList.add(builder);
     }
     return (A) this;
@@ -958,7 +958,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
       this.parameters = new ArrayList<TypeParamDefBuilder>();
     }
     TypeParamDefBuilder builder = new TypeParamDefBuilder(item);
-    _visitables.get("parameters").add(index >= 0 ? index : _visitables.get("parameters").size(), builder);
+    _visitables.slot("parameters").add(index >= 0 ? index : _visitables.slot("parameters").size(), builder);
     this.parameters.add(index >= 0 ? index : parameters.size(), builder);
     return (A) this;
   }
@@ -968,10 +968,10 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
       this.parameters = new ArrayList<TypeParamDefBuilder>();
     }
     TypeParamDefBuilder builder = new TypeParamDefBuilder(item);
-    if (index < 0 || index >= _visitables.get("parameters").size()) {
-      _visitables.get("parameters").add(builder);
+    if (index < 0 || index >= _visitables.slot("parameters").size()) {
+      _visitables.slot("parameters").add(builder);
     } else {
-      _visitables.get("parameters").set(index, builder);
+      _visitables.slot("parameters").set(index, builder);
     }
     if (index < 0 || index >= parameters.size()) {
       parameters.add(builder);
@@ -987,7 +987,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
     for (TypeParamDef item : items) {
       TypeParamDefBuilder builder = new TypeParamDefBuilder(item);
-      _visitables.get("parameters").add(builder);
+      _visitables.slot("parameters").add(builder);
       this.parameters.add(builder);
     }
     return (A) this;
@@ -999,7 +999,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
     for (TypeParamDef item : items) {
       TypeParamDefBuilder builder = new TypeParamDefBuilder(item);
-      _visitables.get("parameters").add(builder);
+      _visitables.slot("parameters").add(builder);
       this.parameters.add(builder);
     }
     return (A) this;
@@ -1166,7 +1166,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
       this.properties = new ArrayList<PropertyBuilder>();
     }
     PropertyBuilder builder = new PropertyBuilder(item);
-    _visitables.get("properties").add(index >= 0 ? index : _visitables.get("properties").size(), builder);
+    _visitables.slot("properties").add(index >= 0 ? index : _visitables.slot("properties").size(), builder);
     this.properties.add(index >= 0 ? index : properties.size(), builder);
     return (A) this;
   }
@@ -1176,10 +1176,10 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
       this.properties = new ArrayList<PropertyBuilder>();
     }
     PropertyBuilder builder = new PropertyBuilder(item);
-    if (index < 0 || index >= _visitables.get("properties").size()) {
-      _visitables.get("properties").add(builder);
+    if (index < 0 || index >= _visitables.slot("properties").size()) {
+      _visitables.slot("properties").add(builder);
     } else {
-      _visitables.get("properties").set(index, builder);
+      _visitables.slot("properties").set(index, builder);
     }
     if (index < 0 || index >= properties.size()) {
       properties.add(builder);
@@ -1195,7 +1195,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
     for (Property item : items) {
       PropertyBuilder builder = new PropertyBuilder(item);
-      _visitables.get("properties").add(builder);
+      _visitables.slot("properties").add(builder);
       this.properties.add(builder);
     }
     return (A) this;
@@ -1207,7 +1207,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
     for (Property item : items) {
       PropertyBuilder builder = new PropertyBuilder(item);
-      _visitables.get("properties").add(builder);
+      _visitables.slot("properties").add(builder);
       this.properties.add(builder);
     }
     return (A) this;
@@ -1374,7 +1374,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
       this.constructors = new ArrayList<MethodBuilder>();
     }
     MethodBuilder builder = new MethodBuilder(item);
-    _visitables.get("constructors").add(index >= 0 ? index : _visitables.get("constructors").size(), builder);
+    _visitables.slot("constructors").add(index >= 0 ? index : _visitables.slot("constructors").size(), builder);
     this.constructors.add(index >= 0 ? index : constructors.size(), builder);
     return (A) this;
   }
@@ -1384,10 +1384,10 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
       this.constructors = new ArrayList<MethodBuilder>();
     }
     MethodBuilder builder = new MethodBuilder(item);
-    if (index < 0 || index >= _visitables.get("constructors").size()) {
-      _visitables.get("constructors").add(builder);
+    if (index < 0 || index >= _visitables.slot("constructors").size()) {
+      _visitables.slot("constructors").add(builder);
     } else {
-      _visitables.get("constructors").set(index, builder);
+      _visitables.slot("constructors").set(index, builder);
     }
     if (index < 0 || index >= constructors.size()) {
       constructors.add(builder);
@@ -1403,7 +1403,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
     for (Method item : items) {
       MethodBuilder builder = new MethodBuilder(item);
-      _visitables.get("constructors").add(builder);
+      _visitables.slot("constructors").add(builder);
       this.constructors.add(builder);
     }
     return (A) this;
@@ -1415,7 +1415,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
     for (Method item : items) {
       MethodBuilder builder = new MethodBuilder(item);
-      _visitables.get("constructors").add(builder);
+      _visitables.slot("constructors").add(builder);
       this.constructors.add(builder);
     }
     return (A) this;
@@ -1582,7 +1582,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
       this.methods = new ArrayList<MethodBuilder>();
     }
     MethodBuilder builder = new MethodBuilder(item);
-    _visitables.get("methods").add(index >= 0 ? index : _visitables.get("methods").size(), builder);
+    _visitables.slot("methods").add(index >= 0 ? index : _visitables.slot("methods").size(), builder);
     this.methods.add(index >= 0 ? index : methods.size(), builder);
     return (A) this;
   }
@@ -1592,10 +1592,10 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
       this.methods = new ArrayList<MethodBuilder>();
     }
     MethodBuilder builder = new MethodBuilder(item);
-    if (index < 0 || index >= _visitables.get("methods").size()) {
-      _visitables.get("methods").add(builder);
+    if (index < 0 || index >= _visitables.slot("methods").size()) {
+      _visitables.slot("methods").add(builder);
     } else {
-      _visitables.get("methods").set(index, builder);
+      _visitables.slot("methods").set(index, builder);
     }
     if (index < 0 || index >= methods.size()) {
       methods.add(builder);
@@ -1611,7 +1611,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
     for (Method item : items) {
       MethodBuilder builder = new MethodBuilder(item);
-      _visitables.get("methods").add(builder);
+      _visitables.slot("methods").add(builder);
       this.methods.add(builder);
     }
     return (A) this;
@@ -1623,7 +1623,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
     for (Method item : items) {
       MethodBuilder builder = new MethodBuilder(item);
-      _visitables.get("methods").add(builder);
+      _visitables.slot("methods").add(builder);
       this.methods.add(builder);
     }
     return (A) this;
@@ -1843,7 +1843,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
       this.innerTypes = new ArrayList<TypeDefBuilder>();
     }
     TypeDefBuilder builder = new TypeDefBuilder(item);
-    _visitables.get("innerTypes").add(index >= 0 ? index : _visitables.get("innerTypes").size(), builder);
+    _visitables.slot("innerTypes").add(index >= 0 ? index : _visitables.slot("innerTypes").size(), builder);
     this.innerTypes.add(index >= 0 ? index : innerTypes.size(), builder);
     return (A) this;
   }
@@ -1853,10 +1853,10 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
       this.innerTypes = new ArrayList<TypeDefBuilder>();
     }
     TypeDefBuilder builder = new TypeDefBuilder(item);
-    if (index < 0 || index >= _visitables.get("innerTypes").size()) {
-      _visitables.get("innerTypes").add(builder);
+    if (index < 0 || index >= _visitables.slot("innerTypes").size()) {
+      _visitables.slot("innerTypes").add(builder);
     } else {
-      _visitables.get("innerTypes").set(index, builder);
+      _visitables.slot("innerTypes").set(index, builder);
     }
     if (index < 0 || index >= innerTypes.size()) {
       innerTypes.add(builder);
@@ -1872,7 +1872,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
     for (TypeDef item : items) {
       TypeDefBuilder builder = new TypeDefBuilder(item);
-      _visitables.get("innerTypes").add(builder);
+      _visitables.slot("innerTypes").add(builder);
       this.innerTypes.add(builder);
     }
     return (A) this;
@@ -1884,7 +1884,7 @@ public class TypeDefFluentImpl<A extends TypeDefFluent<A>> extends ModifierSuppo
     }
     for (TypeDef item : items) {
       TypeDefBuilder builder = new TypeDefBuilder(item);
-      _visitables.get("innerTypes").add(builder);
+      _visitables.slot("innerTypes").add(builder);
       this.innerTypes.add(builder);
     }
     return (A) this;
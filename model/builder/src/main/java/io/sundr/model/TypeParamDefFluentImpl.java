@@ -87,7 +87,7 @@ public class TypeParamDefFluentImpl<A extends TypeParamDefFluent<A>> extends Att
       this.bounds = new ArrayList<ClassRefBuilder>();
     }
     ClassRefBuilder builder = new ClassRefBuilder(item);
-    _visitables.get("bounds").add(index >= 0 ? index : _visitables.get("bounds").size(), builder);
+    _visitables.slot("bounds").add(index >= 0 ? index : _visitables.slot("bounds").size(), builder);
     this.bounds.add(index >= 0 ? index : bounds.size(), builder);
     return (A) this;
   }
@@ -97,10 +97,10 @@ public class TypeParamDefFluentImpl<A extends TypeParamDefFluent<A>> extends Att
       this.bounds = new ArrayList<ClassRefBuilder>();
     }
     ClassRefBuilder builder = new ClassRefBuilder(item);
-    if (index < 0 || index >= _visitables.get("bounds").size()) {
-      _visitables.get("bounds").add(builder);
+    if (index < 0 || index >= _visitables.slot("bounds").size()) {
+      _visitables.slot("bounds").add(builder);
     } else {
-      _visitables.get("bounds").set(index, builder);
+      _visitables.slot("bounds").set(index, builder);
     }
     if (index < 0 || index >= bounds.size()) {
       bounds.add(builder);
@@ -116,7 +116,7 @@ public class TypeParamDefFluentImpl<A extends TypeParamDefFluent<A>> extends Att
     }
     for (ClassRef item : items) {
       ClassRefBuilder builder = new ClassRefBuilder(item);
-      _visitables.get("bounds").add(builder);
+      _visitables.slot("bounds").add(builder);
       this.bounds.add(builder);
     }
     return (A) this;
@@ -128,7 +128,7 @@ public class TypeParamDefFluentImpl<A extends TypeParamDefFluent<A>> extends Att
     }
     for (ClassRef item : items) {
       ClassRefBuilder builder = new ClassRefBuilder(item);
-      _visitables.get("bounds").add(builder);
+      _visitables.slot("bounds").add(builder);
       this.bounds.add(builder);
     }
     return (A) this;
@@ -44,7 +44,7 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
     if (this.bounds == null) {
       this.bounds = new ArrayList<VisitableBuilder<? extends TypeRef, ?>>();
     }
-    _visitables.get("bounds").add(builder);
+    _visitables.slot("bounds").add(builder);
     this.bounds.add(builder);
     return (A) this;
   }
@@ -53,7 +53,7 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
     if (this.bounds == null) {
       this.bounds = new ArrayList<VisitableBuilder<? extends TypeRef, ?>>();
     }
-    _visitables.get("bounds").add(index, builder);
+    _visitables.slot("bounds").add(index, builder);
     this.bounds.add(index, builder);
     return (A) this;
   }
@@ -109,7 +109,7 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
 
       else {
         VisitableBuilder<? extends TypeRef, ?> builder = builderOf(item);
-        _visitables.get("bounds").add(builder);
+        _visitables.slot("bounds").add(builder);
         this.bounds.add(builder);
       }
     }
@@ -135,7 +135,7 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
 
       else {
         VisitableBuilder<? extends TypeRef, ?> builder = builderOf(item);
-        _visitables.get("bounds").add(builder);
+        _visitables.slot("bounds").add(builder);
         this.bounds.add(builder);
       }
     }
@@ -292,7 +292,7 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
       this.bounds = new ArrayList<VisitableBuilder<? extends TypeRef, ?>>();
     }
     TypeParamRefBuilder builder = new TypeParamRefBuilder(item);
-    _visitables.get("bounds").add(index >= 0 ? index : _visitables.get("bounds").size(), builder);
+    _visitables.slot("bounds").add(index >= 0 ? index : _visitables.slot("bounds").size(), builder);
     this.bounds.add(index >= 0 ? index : bounds.size(), builder);
     return (A) this;
   }
@@ -302,10 +302,10 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
       this.bounds = new ArrayList<VisitableBuilder<? extends TypeRef, ?>>();
     }
     TypeParamRefBuilder builder = new TypeParamRefBuilder(item);
-    if (index < 0 || index >= _visitables.get("bounds").size()) {
-      _visitables.get("bounds").add(builder);
+    if (index < 0 || index >= _visitables.slot("bounds").size()) {
+      _visitables.slot("bounds").add(builder);
     } else {
-      _visitables.get("bounds").set(index, builder);
+      _visitables.slot("bounds").set(index, builder);
     }
     if (index < 0 || index >= bounds.size()) {
       bounds.add(builder);
@@ -321,7 +321,7 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
     }
     for (TypeParamRef item : items) {
       TypeParamRefBuilder builder = new TypeParamRefBuilder(item);
-      _visitables.get("bounds").add(builder);
+      _visitables.slot("bounds").add(builder);
       this.bounds.add(builder);
     }
     return (A) this;
@@ -333,7 +333,7 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
     }
     for (TypeParamRef item : items) {
       TypeParamRefBuilder builder = new TypeParamRefBuilder(item);
-      _visitables.get("bounds").add(builder);
+      _visitables.slot("bounds").add(builder);
       this.bounds.add(builder);
     }
     return (A) this;
@@ -394,7 +394,7 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
       this.bounds = new ArrayList<VisitableBuilder<? extends TypeRef, ?>>();
     }
     WildcardRefBuilder builder = new WildcardRefBuilder(item);
-    _visitables.get("bounds").add(index >= 0 ? index : _visitables.get("bounds").size(), builder);
+    _visitables.slot("bounds").add(index >= 0 ? index : _visitables.slot("bounds").size(), builder);
     this.bounds.add(index >= 0 ? index : bounds.size(), builder);
     return (A) this;
   }
@@ -404,10 +404,10 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
       this.bounds = new ArrayList<VisitableBuilder<? extends TypeRef, ?>>();
     }
     WildcardRefBuilder builder = new WildcardRefBuilder(item);
-    if (index < 0 || index >= _visitables.get("bounds").size()) {
-      _visitables.get("bounds").add(builder);
+    if (index < 0 || index >= _visitables.slot("bounds").size()) {
+      _visitables.slot("bounds").add(builder);
     } else {
-      _visitables.get("bounds").set(index, builder);
+      _visitables.slot("bounds").set(index, builder);
     }
     if (index < 0 || index >= bounds.size()) {
       bounds.add(builder);
@@ -423,7 +423,7 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
     }
     for (WildcardRef item : items) {
       WildcardRefBuilder builder = new WildcardRefBuilder(item);
-      _visitables.get("bounds").add(builder);
+      _visitables.slot("bounds").add(builder);
       this.bounds.add(builder);
     }
     return (A) this;
@@ -435,7 +435,7 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
     }
     for (WildcardRef item : items) {
       WildcardRefBuilder builder = new WildcardRefBuilder(item);
-      _visitables.get("bounds").add(builder);
+      _visitables.slot("bounds").add(builder);
       this.bounds.add(builder);
     }
     return (A) this;
@@ -495,7 +495,7 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
       this.bounds = new ArrayList<VisitableBuilder<? extends TypeRef, ?>>();
     }
     ClassRefBuilder builder = new ClassRefBuilder(item);
-    _visitables.get("bounds").add(index >= 0 ? index : _visitables.get("bounds").size(), builder);
+    _visitables.slot("bounds").add(index >= 0 ? index : _visitables.slot("bounds").size(), builder);
     this.bounds.add(index >= 0 ? index : bounds.size(), builder);
     return (A) this;
   }
@@ -505,10 +505,10 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
       this.bounds = new ArrayList<VisitableBuilder<? extends TypeRef, ?>>();
     }
     ClassRefBuilder builder = new ClassRefBuilder(item);
-    if (index < 0 || index >= _visitables.get("bounds").size()) {
-      _visitables.get("bounds").add(builder);
+    if (index < 0 || index >= _visitables.slot("bounds").size()) {
+      _visitables.slot("bounds").add(builder);
     } else {
-      _visitables.get("bounds").set(index, builder);
+      _visitables.slot("bounds").set(index, builder);
     }
     if (index < 0 || index >= bounds.size()) {
       bounds.add(builder);
@@ -524,7 +524,7 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
     }
     for (ClassRef item : items) {
       ClassRefBuilder builder = new ClassRefBuilder(item);
-      _visitables.get("bounds").add(builder);
+      _visitables.slot("bounds").add(builder);
       this.bounds.add(builder);
     }
     return (A) this;
@@ -536,7 +536,7 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
     }
     for (ClassRef item : items) {
       ClassRefBuilder builder = new ClassRefBuilder(item);
-      _visitables.get("bounds").add(builder);
+      _visitables.slot("bounds").add(builder);
       this.bounds.add(builder);
     }
     return (A) this;
@@ -596,7 +596,7 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
       this.bounds = new ArrayList<VisitableBuilder<? extends TypeRef, ?>>();
     }
     PrimitiveRefBuilder builder = new PrimitiveRefBuilder(item);
-    _visitables.get("bounds").add(index >= 0 ? index : _visitables.get("bounds").size(), builder);
+    _visitables.slot("bounds").add(index >= 0 ? index : _visitables.slot("bounds").size(), builder);
     this.bounds.add(index >= 0 ? index : bounds.size(), builder);
     return (A) this;
   }
@@ -606,10 +606,10 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
       this.bounds = new ArrayList<VisitableBuilder<? extends TypeRef, ?>>();
     }
     PrimitiveRefBuilder builder = new PrimitiveRefBuilder(item);
-    if (index < 0 || index >= _visitables.get("bounds").size()) {
-      _visitables.get("bounds").add(builder);
+    if (index < 0 || index >= _visitables.slot("bounds").size()) {
+      _visitables.slot("bounds").add(builder);
     } else {
-      _visitables.get("bounds").set(index, builder);
+      _visitables.slot("bounds").set(index, builder);
     }
     if (index < 0 || index >= bounds.size()) {
       bounds.add(builder);
@@ -625,7 +625,7 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
     }
     for (PrimitiveRef item : items) {
       PrimitiveRefBuilder builder = new PrimitiveRefBuilder(item);
-      _visitables.get("bounds").add(builder);
+      _visitables.slot("bounds").add(builder);
       this.bounds.add(builder);
     }
     return (A) this;
@@ -637,7 +637,7 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
     }
     for (PrimitiveRef item : items) {
       PrimitiveRefBuilder builder = new PrimitiveRefBuilder(item);
-      _visitables.get("bounds").add(builder);
+      _visitables.slot("bounds").add(builder);
       this.bounds.add(builder);
     }
     return (A) this;
@@ -698,7 +698,7 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
       this.bounds = new ArrayList<VisitableBuilder<? extends TypeRef, ?>>();
     }
     VoidRefBuilder builder = new VoidRefBuilder(item);
-    _visitables.get("bounds").add(index >= 0 ? index : _visitables.get("bounds").size(), builder);
+    _visitables.slot("bounds").add(index >= 0 ? index : _visitables.slot("bounds").size(), builder);
     this.bounds.add(index >= 0 ? index : bounds.size(), builder);
     return (A) this;
   }
@@ -708,10 +708,10 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
       this.bounds = new ArrayList<VisitableBuilder<? extends TypeRef, ?>>();
     }
     VoidRefBuilder builder = new VoidRefBuilder(item);
-    if (index < 0 || index >= _visitables.get("bounds").size()) {
-      _visitables.get("bounds").add(builder);
+    if (index < 0 || index >= _visitables.slot("bounds").size()) {
+      _visitables.slot("bounds").add(builder);
     } else {
-      _visitables.get("bounds").set(index, builder);
+      _visitables.slot("bounds").set(index, builder);
     }
     if (index < 0 || index >= bounds.size()) {
       bounds.add(builder);
@@ -727,7 +727,7 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
     }
     for (VoidRef item : items) {
       VoidRefBuilder builder = new VoidRefBuilder(item);
-      _visitables.get("bounds").add(builder);
+      _visitables.slot("bounds").add(builder);
       this.bounds.add(builder);
     }
     return (A) this;
@@ -739,7 +739,7 @@ public class WildcardRefFluentImpl<A extends WildcardRefFluent<A>> extends TypeR
     }
     for (VoidRef item : items) {
       VoidRefBuilder builder = new VoidRefBuilder(item);
-      _visitables.get("bounds").add(builder);
+      _visitables.slot("bounds").add(builder);
       this.bounds.add(builder);
     }
     return (A) this;
@@ -20,7 +20,8 @@ package io.sundr.codegen;
 import io.sundr.builder.annotations.ExternalBuildables;
 
 @ExternalBuildables(lazyCollectionInitEnabled = false, lazyMapInitEnabled = false, includeAbstractClasses = true, includeInterfaces = false, value = "io.sundr.model", excludes = {
-    "io.sundr.model.AttributeKey" })
+    "io.sundr.model.AttributeKey", "io.sundr.model.Interner",
+    "io.sundr.model.AttributeMap", "io.sundr.model.Compact" })
 public class Config {
 
 }
@@ -17,18 +17,24 @@
 package io.sundr.model.repo;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -36,19 +42,40 @@ import java.util.stream.Stream;
 import io.sundr.SundrException;
 import io.sundr.model.AttributeKey;
 import io.sundr.model.ClassRef;
+import io.sundr.model.Nameable;
 import io.sundr.model.TypeDef;
 import io.sundr.model.TypeDefBuilder;
 import io.sundr.model.TypeRef;
 
+/**
+ * Holds the known type definitions, by fully qualified name.
+ * Reads are lock-free. Writes that touch more than a single entry are synchronized, so that they remain atomic.
+ * The reference map is maintained as types are registered, and served from an immutable snapshot that is replaced as a
+ * whole when updated.
+ * Definitions are also indexed by boolean flag, by package and by simple name, so that such queries only touch the
+ * matching definitions. Index entries may briefly outlive a replaced definition, so candidates are always checked against
+ * the current one.
+ */
 public class DefinitionRepository {
 
-  private static DefinitionRepository INSTANCE;
-  private static DefinitionRepository SCOPE;
+  private static volatile DefinitionRepository INSTANCE;
+  private static volatile DefinitionRepository SCOPE;
 
   private final ConcurrentMap<String, TypeDef> definitions = new ConcurrentHashMap<String, TypeDef>();
   private final ConcurrentMap<String, Supplier<TypeDef>> suppliers = new ConcurrentHashMap<String, Supplier<TypeDef>>();
 
-  private Map<String, String> snapshot;
+  //The fully qualified names of the types with each simple name, in order, maintained as types are registered.
+  private final ConcurrentMap<String, NavigableSet<String>> references = new ConcurrentHashMap<String,
+      NavigableSet<String>>();
+
+  //Fully qualified names by the name of each flag set to true, by package and by simple name.
+  private final ConcurrentMap<String, Set<String>> flagIndex = new ConcurrentHashMap<String, Set<String>>();
+  private final ConcurrentMap<String, Set<String>> packageIndex = new ConcurrentHashMap<String, Set<String>>();
+  private final ConcurrentMap<String, Set<String>> nameIndex = new ConcurrentHashMap<String, Set<String>>();
+
+  //Incremented on every change, so that an up to date reference map does not need to be recomputed.
+  private final AtomicLong version = new AtomicLong();
+  private volatile Snapshot snapshot;
 
   private DefinitionRepository() {
   }
@@ -64,14 +91,22 @@ public class DefinitionRepository {
    * 
    * @return the scoped instance if called from within withRepo/withNewRepo lambda, or the singleton instance otherwise.
    */
-  public static synchronized final DefinitionRepository getRepository() {
-    if (SCOPE != null) {
-      return SCOPE;
+  public static final DefinitionRepository getRepository() {
+    DefinitionRepository scope = SCOPE;
+    if (scope != null) {
+      return scope;
     }
-    if (INSTANCE == null) {
-      INSTANCE = new DefinitionRepository();
+    DefinitionRepository instance = INSTANCE;
+    if (instance == null) {
+      synchronized (DefinitionRepository.class) {
+        instance = INSTANCE;
+        if (instance == null) {
+          instance = new DefinitionRepository();
+          INSTANCE = instance;
+        }
+      }
     }
-    return INSTANCE;
+    return instance;
   }
 
   /**
@@ -101,27 +136,34 @@ public class DefinitionRepository {
     }
 
     suppliers.put(fqcn, supplier);
+    reference(fqcn);
+    version.incrementAndGet();
   }
 
-  public synchronized void registerIfAbsent(TypeDef definition) {
+  public void registerIfAbsent(TypeDef definition) {
     if (definition == null) {
       return;
     }
 
-    String fqcn = definition.getFullyQualifiedName();
-    if (definitions.containsKey(fqcn)) {
-      return;
-    } else {
-      definitions.put(fqcn, definition);
+    if (definitions.putIfAbsent(definition.getFullyQualifiedName(), definition) == null) {
+      index(definition);
+      version.incrementAndGet();
     }
   }
 
-  public synchronized TypeDef register(TypeDef definition) {
-    definitions.put(definition.getFullyQualifiedName(), definition);
+  public TypeDef register(TypeDef definition) {
+    synchronized (this) {
+      TypeDef previous = definitions.put(definition.getFullyQualifiedName(), definition);
+      index(definition);
+      if (previous != null) {
+        unindex(previous, definition);
+      }
+    }
+    version.incrementAndGet();
     return definition;
   }
 
-  public synchronized TypeDef register(TypeDef definition, String... flags) {
+  public TypeDef register(TypeDef definition, String... flags) {
     TypeDefBuilder builder = new TypeDefBuilder(definition);
     for (String flag : flags) {
       builder.addToAttributes(new AttributeKey<Boolean>(flag, Boolean.class), true);
@@ -129,7 +171,7 @@ public class DefinitionRepository {
     return register(builder.build());
   }
 
-  public synchronized TypeDef register(TypeDef definition, AttributeKey<Boolean>... flags) {
+  public TypeDef register(TypeDef definition, AttributeKey<Boolean>... flags) {
     TypeDefBuilder builder = new TypeDefBuilder(definition);
     for (AttributeKey<Boolean> flag : flags) {
       builder.addToAttributes(flag, true);
@@ -137,115 +179,249 @@ public class DefinitionRepository {
     return register(builder.build());
   }
 
-  public synchronized Set<TypeDef> getDefinitions(String... flags) {
-    Set<TypeDef> result = new LinkedHashSet<TypeDef>();
-    for (TypeDef candidate : definitions.values()) {
-      boolean matches = true;
+  public Set<TypeDef> getDefinitions(String... flags) {
+    List<AttributeKey<Boolean>> attributeKeys = new ArrayList<AttributeKey<Boolean>>();
+    for (String flag : flags) {
+      attributeKeys.add(new AttributeKey<Boolean>(flag, Boolean.class));
+    }
+    return getDefinitions(attributeKeys, d -> {
       for (String flag : flags) {
-        AttributeKey<Boolean> attributeKey = new AttributeKey<Boolean>(flag, Boolean.class);
-        if (!candidate.hasAttribute(attributeKey) || !(candidate.getAttribute(attributeKey))) {
-          matches = false;
-          break;
+        if (!isFlagged(d, flag)) {
+          return false;
         }
       }
-      if (matches) {
-        result.add(candidate);
+      return true;
+    });
+  }
+
+  public Set<TypeDef> getDefinitions(AttributeKey<Boolean>... attributeKeys) {
+    return getDefinitions(Arrays.asList(attributeKeys), d -> {
+      for (AttributeKey<Boolean> attributeKey : attributeKeys) {
+        if (!d.hasAttribute(attributeKey) || !Boolean.TRUE.equals(d.getAttribute(attributeKey))) {
+          return false;
+        }
+      }
+      return true;
+    });
+  }
+
+  /**
+   * Get the definitions that belong to the specified package.
+   * Definitions that are only registered as suppliers and have not been requested yet, are not included.
+   *
+   * @param packageName the name of the package.
+   * @return the matching definitions.
+   */
+  public Set<TypeDef> getDefinitionsByPackage(String packageName) {
+    return lookup(packageIndex.get(packageName), d -> Objects.equals(packageName, d.getPackageName()));
+  }
+
+  /**
+   * Get the definitions with the specified simple name, in any package.
+   * Definitions that are only registered as suppliers and have not been requested yet, are not included.
+   *
+   * @param name the simple name.
+   * @return the matching definitions.
+   */
+  public Set<TypeDef> getDefinitionsByName(String name) {
+    return lookup(nameIndex.get(name), d -> Objects.equals(name, d.getName()));
+  }
+
+  private Set<TypeDef> getDefinitions(List<AttributeKey<Boolean>> attributeKeys, Predicate<TypeDef> predicate) {
+    if (attributeKeys.isEmpty()) {
+      return Collections.unmodifiableSet(new LinkedHashSet<TypeDef>(definitions.values()));
+    }
+    //Only the smallest index needs to be walked, as every match has to be found in all of them.
+    Set<String> smallest = null;
+    for (AttributeKey<Boolean> attributeKey : attributeKeys) {
+      Set<String> candidates = flagIndex.get(attributeKey.getName());
+      if (candidates == null) {
+        return Collections.emptySet();
+      }
+      if (smallest == null || candidates.size() < smallest.size()) {
+        smallest = candidates;
       }
     }
+    return lookup(smallest, predicate);
+  }
 
+  private Set<TypeDef> lookup(Set<String> candidates, Predicate<TypeDef> predicate) {
+    if (candidates == null) {
+      return Collections.emptySet();
+    }
+    Set<TypeDef> result = new LinkedHashSet<TypeDef>();
+    for (String fqcn : candidates) {
+      TypeDef candidate = definitions.get(fqcn);
+      if (candidate != null && predicate.test(candidate)) {
+        result.add(candidate);
+      }
+    }
     return Collections.unmodifiableSet(result);
   }
 
-  public synchronized Set<TypeDef> getDefinitions(AttributeKey<Boolean>... attributeKeys) {
+  private void index(TypeDef definition) {
+    String fqcn = definition.getFullyQualifiedName();
+    reference(fqcn);
+    for (String flag : getFlags(definition)) {
+      addToIndex(flagIndex, flag, fqcn);
+    }
+    addToIndex(packageIndex, definition.getPackageName(), fqcn);
+    addToIndex(nameIndex, definition.getName(), fqcn);
+  }
+
+  private void unindex(TypeDef previous, TypeDef current) {
+    String fqcn = previous.getFullyQualifiedName();
+    Set<String> flags = getFlags(current);
+    for (String flag : getFlags(previous)) {
+      if (!flags.contains(flag)) {
+        removeFromIndex(flagIndex, flag, fqcn);
+      }
+    }
+    if (!Objects.equals(previous.getPackageName(), current.getPackageName())) {
+      removeFromIndex(packageIndex, previous.getPackageName(), fqcn);
+    }
+    if (!Objects.equals(previous.getName(), current.getName())) {
+      removeFromIndex(nameIndex, previous.getName(), fqcn);
+    }
+  }
 
-    Set<TypeDef> result = new LinkedHashSet<TypeDef>();
-    for (TypeDef candidate : definitions.values()) {
-      boolean matches = true;
-      for (AttributeKey<Boolean> attributeKey : attributeKeys) {
-        if (!candidate.hasAttribute(attributeKey) || !(candidate.getAttribute(attributeKey))) {
-          matches = false;
-          break;
-        }
+  private static Set<String> getFlags(TypeDef definition) {
+    Set<String> flags = new HashSet<String>();
+    if (definition.getAttributes() == null) {
+      return flags;
+    }
+    for (Map.Entry<AttributeKey, Object> entry : definition.getAttributes().entrySet()) {
+      if (Boolean.TRUE.equals(entry.getValue())) {
+        flags.add(entry.getKey().getName());
       }
-      if (matches) {
-        result.add(candidate);
+    }
+    return flags;
+  }
+
+  private static boolean isFlagged(TypeDef definition, String flag) {
+    if (definition.getAttributes() == null) {
+      return false;
+    }
+    for (Map.Entry<AttributeKey, Object> entry : definition.getAttributes().entrySet()) {
+      if (flag.equals(entry.getKey().getName()) && Boolean.TRUE.equals(entry.getValue())) {
+        return true;
       }
     }
+    return false;
+  }
 
-    return Collections.unmodifiableSet(result);
+  private static void addToIndex(ConcurrentMap<String, Set<String>> index, String key, String fqcn) {
+    if (key != null) {
+      index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(fqcn);
+    }
   }
 
-  public synchronized boolean hasDefinition(String fullyQualifiedName) {
+  private static void removeFromIndex(ConcurrentMap<String, Set<String>> index, String key, String fqcn) {
+    Set<String> fqcns = key != null ? index.get(key) : null;
+    if (fqcns != null) {
+      fqcns.remove(fqcn);
+    }
+  }
+
+  public boolean hasDefinition(String fullyQualifiedName) {
     return definitions.containsKey(fullyQualifiedName) || suppliers.containsKey(fullyQualifiedName);
   }
 
-  public synchronized TypeDef getDefinition(String fullyQualifiedName) {
-    if (definitions.containsKey(fullyQualifiedName)) {
-      return definitions.get(fullyQualifiedName);
+  public TypeDef getDefinition(String fullyQualifiedName) {
+    TypeDef definition = definitions.get(fullyQualifiedName);
+    if (definition != null) {
+      return definition;
     }
-    if (suppliers.containsKey(fullyQualifiedName)) {
-      TypeDef typeDef = suppliers.get(fullyQualifiedName).get();
-      if (!definitions.containsKey(fullyQualifiedName)) {
-        definitions.put(fullyQualifiedName, typeDef);
-        return typeDef;
-      } else {
-        return definitions.get(fullyQualifiedName);
+    Supplier<TypeDef> supplier = suppliers.get(fullyQualifiedName);
+    if (supplier != null) {
+      TypeDef typeDef = supplier.get();
+      if (typeDef == null) {
+        return null;
       }
+      //If another thread got there first, use its definition.
+      TypeDef existing = definitions.putIfAbsent(fullyQualifiedName, typeDef);
+      if (existing != null) {
+        return existing;
+      }
+      index(typeDef);
+      return typeDef;
     }
     return null;
   }
 
-  public synchronized TypeDef getDefinition(TypeRef type) {
+  public TypeDef getDefinition(TypeRef type) {
     if (type instanceof ClassRef) {
       return getDefinition(((ClassRef) type).getFullyQualifiedName());
     }
     return null;
   }
 
-  public synchronized Collection<TypeDef> getDefinitions() {
+  public Collection<TypeDef> getDefinitions() {
     return Stream.concat(definitions.keySet().stream(), suppliers.keySet().stream()).distinct().map(k -> getDefinition(k))
         .collect(Collectors.toSet());
   }
 
-  public synchronized void updateReferenceMap() {
-    snapshot = getReferenceMapInternal();
-  }
-
-  public synchronized Map<String, String> getReferenceMap() {
-    if (snapshot == null) {
-      snapshot = getReferenceMapInternal();
+  public void updateReferenceMap() {
+    long current = version.get();
+    Snapshot existing = snapshot;
+    if (existing == null || existing.version != current) {
+      snapshot = new Snapshot(current, copyReferences());
     }
-    return snapshot;
   }
 
-  private Map<String, String> getReferenceMapInternal() {
-    Map<String, String> mapping = new HashMap<String, String>();
-    List<ClassRef> refs = new ArrayList<ClassRef>();
-    for (TypeDef typeDef : getDefinitions()) {
-      refs.add(typeDef.toInternalReference());
+  public Map<String, String> getReferenceMap() {
+    Snapshot existing = snapshot;
+    if (existing == null) {
+      existing = new Snapshot(version.get(), copyReferences());
+      snapshot = existing;
     }
+    return existing.references;
+  }
 
-    //It's best to have predictable order, so that we can generate uniform code.
-    Collections.sort(refs, new Comparator<ClassRef>() {
-      @Override
-      public int compare(ClassRef o1, ClassRef o2) {
-        return o1.getFullyQualifiedName().compareTo(o2.getFullyQualifiedName());
-      }
-    });
-
-    for (ClassRef classRef : refs) {
-      String key = classRef.getName();
-      if (!mapping.containsKey(key)) {
-        mapping.put(key, classRef.getFullyQualifiedName());
+  /**
+   * Creates the reference map.
+   * When several types share the same simple name, the first one in fully qualified name order is used, so that we can
+   * generate uniform code regardless of the registration order.
+   */
+  private Map<String, String> copyReferences() {
+    Map<String, String> copy = new HashMap<String, String>();
+    for (Map.Entry<String, NavigableSet<String>> entry : references.entrySet()) {
+      NavigableSet<String> fqcns = entry.getValue();
+      if (!fqcns.isEmpty()) {
+        copy.put(entry.getKey(), fqcns.first());
       }
     }
+    return Collections.unmodifiableMap(copy);
+  }
 
-    return mapping;
+  /**
+   * Adds the specified type to the reference map.
+   *
+   * @param fqcn the fully qualified name of the type.
+   */
+  private void reference(String fqcn) {
+    references.computeIfAbsent(Nameable.getClassName(fqcn), k -> new ConcurrentSkipListSet<String>()).add(fqcn);
   }
 
   public synchronized void clear() {
     definitions.clear();
     suppliers.clear();
+    references.clear();
+    flagIndex.clear();
+    packageIndex.clear();
+    nameIndex.clear();
+    version.incrementAndGet();
+  }
+
+  private static final class Snapshot {
+
+    private final long version;
+    private final Map<String, String> references;
+
+    private Snapshot(long version, Map<String, String> references) {
+      this.version = version;
+      this.references = references;
+    }
   }
 
   public static class WithRepo {
@@ -0,0 +1,213 @@
+/**
+ * Copyright 2015 The original authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+**/
+
+package io.sundr.model.repo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import io.sundr.model.AttributeKey;
+import io.sundr.model.ClassRef;
+import io.sundr.model.Kind;
+import io.sundr.model.TypeDef;
+import io.sundr.model.TypeDefBuilder;
+
+public class DefinitionRepositoryTest {
+
+  private final DefinitionRepository repository = DefinitionRepository.createRepository();
+
+  @Test
+  public void shouldResolveSupplierOnceForConcurrentReaders() throws Exception {
+    int threads = 4;
+    CountDownLatch ready = new CountDownLatch(threads);
+    AtomicInteger calls = new AtomicInteger();
+    repository.registerIfAbsent("my.pkg.Supplied", () -> {
+      calls.incrementAndGet();
+      return typeDef("my.pkg", "Supplied");
+    });
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<TypeDef>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        futures.add(executor.submit(() -> {
+          ready.countDown();
+          assertTrue(ready.await(10, TimeUnit.SECONDS));
+          return repository.getDefinition("my.pkg.Supplied");
+        }));
+      }
+      TypeDef first = futures.get(0).get(10, TimeUnit.SECONDS);
+      for (Future<TypeDef> future : futures) {
+        //The supplier may be called by more than one thread, but they all get the definition that was registered first.
+        assertSame(first, future.get(10, TimeUnit.SECONDS));
+      }
+      assertTrue(calls.get() >= 1);
+      assertSame(first, repository.getDefinition("my.pkg.Supplied"));
+      assertEquals(1, repository.getDefinitionsByName("Supplied").size());
+      assertSame(first, repository.getDefinitionsByName("Supplied").iterator().next());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void shouldRefreshReferenceMapOnlyWhenChanged() throws Exception {
+    repository.register(typeDef("my.pkg", "First"));
+    Map<String, String> references = repository.getReferenceMap();
+    assertEquals("my.pkg.First", references.get("First"));
+    assertSame(references, repository.getReferenceMap());
+
+    repository.updateReferenceMap();
+    assertSame(references, repository.getReferenceMap());
+
+    repository.register(typeDef("my.pkg", "Second"));
+    //The snapshot is only replaced when explicitly updated.
+    assertSame(references, repository.getReferenceMap());
+    assertFalse(repository.getReferenceMap().containsKey("Second"));
+
+    repository.updateReferenceMap();
+    Map<String, String> updated = repository.getReferenceMap();
+    assertNotSame(references, updated);
+    assertEquals("my.pkg.First", updated.get("First"));
+    assertEquals("my.pkg.Second", updated.get("Second"));
+
+    repository.registerIfAbsent("other.pkg.Third", () -> typeDef("other.pkg", "Third"));
+    repository.updateReferenceMap();
+    assertEquals("other.pkg.Third", repository.getReferenceMap().get("Third"));
+  }
+
+  @Test
+  public void shouldQueryFlagsOfReRegisteredDefinition() throws Exception {
+    AttributeKey<Boolean> buildable = new AttributeKey<Boolean>("buildable", Boolean.class);
+    AttributeKey<Boolean> pojo = new AttributeKey<Boolean>("pojo", Boolean.class);
+    TypeDef first = repository.register(typeDef("my.pkg", "Flagged"), buildable);
+    assertEquals(Collections.singleton(first), repository.getDefinitions(buildable));
+    assertEquals(Collections.singleton(first), repository.getDefinitions("buildable"));
+
+    TypeDef second = repository.register(typeDef("my.pkg", "Flagged"), pojo);
+    assertTrue(repository.getDefinitions(buildable).isEmpty());
+    assertTrue(repository.getDefinitions("buildable").isEmpty());
+    assertEquals(Collections.singleton(second), repository.getDefinitions(pojo));
+    assertTrue(repository.getDefinitions(buildable, pojo).isEmpty());
+
+    TypeDef third = repository.register(typeDef("my.pkg", "Flagged"), buildable, pojo);
+    assertEquals(Collections.singleton(third), repository.getDefinitions(buildable, pojo));
+    assertEquals(Collections.singleton(third), repository.getDefinitions("buildable", "pojo"));
+    assertEquals(1, repository.getDefinitions().size());
+  }
+
+  @Test
+  public void shouldGetDefinitionsByPackageAndName() throws Exception {
+    TypeDef first = repository.register(typeDef("my.pkg", "Shared"));
+    TypeDef second = repository.register(typeDef("other.pkg", "Shared"));
+    TypeDef third = repository.register(typeDef("my.pkg", "Other"));
+
+    assertEquals(new HashSet<>(Arrays.asList(first, third)), repository.getDefinitionsByPackage("my.pkg"));
+    assertEquals(Collections.singleton(second), repository.getDefinitionsByPackage("other.pkg"));
+    assertTrue(repository.getDefinitionsByPackage("missing.pkg").isEmpty());
+    assertEquals(new HashSet<>(Arrays.asList(first, second)), repository.getDefinitionsByName("Shared"));
+    assertEquals(Collections.singleton(third), repository.getDefinitionsByName("Other"));
+    assertTrue(repository.getDefinitionsByName("Missing").isEmpty());
+  }
+
+  @Test
+  public void shouldIncludeSupplierResolvedDefinitions() throws Exception {
+    AttributeKey<Boolean> buildable = new AttributeKey<Boolean>("buildable", Boolean.class);
+    repository.registerIfAbsent("my.pkg.Supplied",
+        () -> new TypeDefBuilder(typeDef("my.pkg", "Supplied")).addToAttributes(buildable, true).build());
+    assertTrue(repository.hasDefinition("my.pkg.Supplied"));
+    //Not requested yet, so not indexed either.
+    assertTrue(repository.getDefinitionsByPackage("my.pkg").isEmpty());
+    assertTrue(repository.getDefinitions(buildable).isEmpty());
+
+    TypeDef supplied = repository.getDefinition("my.pkg.Supplied");
+    assertEquals(Collections.singleton(supplied), repository.getDefinitionsByPackage("my.pkg"));
+    assertEquals(Collections.singleton(supplied), repository.getDefinitionsByName("Supplied"));
+    assertEquals(Collections.singleton(supplied), repository.getDefinitions(buildable));
+
+    //Registering a definition with the same name replaces the supplied one.
+    TypeDef registered = repository.register(typeDef("my.pkg", "Supplied"));
+    assertSame(registered, repository.getDefinition("my.pkg.Supplied"));
+    assertEquals(Collections.singleton(registered), repository.getDefinitionsByName("Supplied"));
+    assertTrue(repository.getDefinitions(buildable).isEmpty());
+  }
+
+  @Test
+  public void shouldReferenceFirstFullyQualifiedNameRegardlessOfRegistrationOrder() throws Exception {
+    List<TypeDef> types = new ArrayList<>();
+    for (String packageName : Arrays.asList("a.pkg", "b.pkg", "c", "a.pkg.sub", "z.pkg")) {
+      for (String name : Arrays.asList("Shared", "Other", "Outer.Shared")) {
+        types.add(typeDef(packageName, name));
+      }
+    }
+    Random random = new Random(42);
+    for (int i = 0; i < 10; i++) {
+      Collections.shuffle(types, random);
+      DefinitionRepository shuffled = DefinitionRepository.createRepository();
+      for (int j = 0; j < types.size(); j++) {
+        TypeDef type = types.get(j);
+        if (j % 3 == 0) {
+          shuffled.registerIfAbsent(type.getFullyQualifiedName(), () -> type);
+        } else {
+          shuffled.register(type);
+        }
+      }
+      assertEquals(referenceMapOf(shuffled.getDefinitions()), shuffled.getReferenceMap());
+    }
+    assertEquals("a.pkg.Shared", referenceMapOf(types).get("Shared"));
+  }
+
+  /**
+   * The reference map, as computed from scratch: each simple name refers to the first type in fully qualified name order.
+   */
+  private static Map<String, String> referenceMapOf(Collection<TypeDef> types) {
+    List<ClassRef> refs = types.stream().map(TypeDef::toInternalReference)
+        .sorted(Comparator.comparing(ClassRef::getFullyQualifiedName)).collect(Collectors.toList());
+    Map<String, String> mapping = new HashMap<>();
+    for (ClassRef ref : refs) {
+      mapping.putIfAbsent(ref.getName(), ref.getFullyQualifiedName());
+    }
+    return mapping;
+  }
+
+  private static TypeDef typeDef(String packageName, String name) {
+    return new TypeDefBuilder().withKind(Kind.CLASS).withPackageName(packageName).withName(name).build();
+  }
+}
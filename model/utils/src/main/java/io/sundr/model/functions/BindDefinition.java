@@ -54,15 +54,15 @@ public class BindDefinition implements Function<ClassRef, TypeDef> {
       return definition;
     }
     List<TypeParamDef> parameters = definition.getParameters();
-    List<TypeParamDef> newParameters = definition.getParameters();
 
     Map<String, TypeRef> mappings = new HashMap<>();
     for (int i = 0; i < arguments.size(); i++) {
       String name = parameters.get(i).getName();
       TypeRef typeRef = arguments.get(i);
       mappings.put(name, typeRef);
-      newParameters.remove(i);
     }
+    //The bound parameters are removed from a copy, as the definition itself is immutable.
+    List<TypeParamDef> newParameters = new ArrayList<>(parameters.subList(arguments.size(), parameters.size()));
 
     return new TypeDefBuilder(definition)
         .withParameters(newParameters)
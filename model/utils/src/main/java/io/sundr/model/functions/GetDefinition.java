@@ -17,14 +17,9 @@
 
 package io.sundr.model.functions;
 
-import static io.sundr.utils.Predicates.after;
-import static io.sundr.utils.Predicates.until;
-
-import java.util.Arrays;
 import java.util.function.Function;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
+import io.sundr.FunctionFactory;
 import io.sundr.model.ClassRef;
 import io.sundr.model.TypeDef;
 import io.sundr.model.TypeDefBuilder;
@@ -32,8 +27,16 @@ import io.sundr.model.repo.DefinitionRepository;
 
 public class GetDefinition implements Function<ClassRef, TypeDef> {
 
+  private static final int MAXIMUM_STUBS = 4096;
+
   public static GetDefinition FUNCTION = new GetDefinition();
 
+  /**
+   * Definitions of types missing from the repository only depend on the fully qualified name, so they are shared.
+   */
+  private static final FunctionFactory<String, TypeDef> STUBS = FunctionFactory.cache(GetDefinition::stub)
+      .withMaximumSize(MAXIMUM_STUBS);
+
   public static TypeDef of(ClassRef classRef) {
     return FUNCTION.apply(classRef);
   }
@@ -45,21 +48,40 @@ public class GetDefinition implements Function<ClassRef, TypeDef> {
     if (def != null) {
       return def;
     }
-    Predicate<String> isLowerCase = w -> Character.isUpperCase(w.charAt(0));
-    Predicate<String> inPackage = until(isLowerCase);
-    Predicate<String> outOfPackage = after(isLowerCase);
+    return STUBS.apply(fullyQualifiedName);
+  }
 
-    String packageName = Arrays.stream(fullyQualifiedName.split("\\.")).filter(inPackage).collect(Collectors.joining("."));
-    String className = Arrays.stream(fullyQualifiedName.split("\\.")).filter(outOfPackage).collect(Collectors.joining("."));
+  /**
+   * Creates the definition of a type that is not known to the repository.
+   * The package is made of the segments that precede the first one starting with an upper case letter, the rest is the
+   * class name. If the class name has more than one segment, the first one is the owner of a nested class.
+   *
+   * @param fullyQualifiedName the fully qualified name of the type.
+   * @return the definition.
+   */
+  private static TypeDef stub(String fullyQualifiedName) {
+    int end = fullyQualifiedName.length();
+    while (end > 0 && fullyQualifiedName.charAt(end - 1) == '.') {
+      end--;
+    }
+
+    int classStart = end;
+    for (int i = 0; i < end; i++) {
+      if ((i == 0 || fullyQualifiedName.charAt(i - 1) == '.') && Character.isUpperCase(fullyQualifiedName.charAt(i))) {
+        classStart = i;
+        break;
+      }
+    }
 
-    String ownerClassName = className.contains(".") ? className.substring(0, className.indexOf(".")) : null;
+    String packageName = fullyQualifiedName.substring(0, classStart > 0 && classStart < end ? classStart - 1 : classStart);
+    String className = fullyQualifiedName.substring(classStart, end);
+    int ownerEnd = className.indexOf('.');
 
-    if (ownerClassName != null) {
-      className = className.substring(ownerClassName.length() + 1);
+    if (ownerEnd >= 0) {
       return new TypeDefBuilder()
-          .withName(className)
+          .withName(className.substring(ownerEnd + 1))
           .withPackageName(packageName)
-          .withOuterTypeName(packageName + "." + ownerClassName)
+          .withOuterTypeName(packageName + "." + className.substring(0, ownerEnd))
           .build();
     }
 
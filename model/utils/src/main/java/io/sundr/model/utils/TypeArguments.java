@@ -26,6 +26,7 @@ import java.util.stream.Stream;
 
 import io.sundr.model.AttributeKey;
 import io.sundr.model.ClassRef;
+import io.sundr.model.Interner;
 import io.sundr.model.Method;
 import io.sundr.model.Property;
 import io.sundr.model.RichTypeDef;
@@ -48,6 +49,28 @@ public class TypeArguments {
   private static final Predicate<ClassRef> INTERNAL_JDK = c -> c.equals(Types.OBJECT_REF)
       || c.getFullyQualifiedName().startsWith("jdk.internal");
 
+  private static final ThreadLocal<Map<String, Resolved>> RESOLVED = new ThreadLocal<>();
+
+  /**
+   * Runs the specified action, resolving each parameterized ancestor only once, as long as its definition doesn't change.
+   * Nested calls share the cache of the outermost call, which is discarded when it returns.
+   * References that carry attributes are always resolved again.
+   *
+   * @param action the action to run.
+   */
+  public static void withResolvedCache(Runnable action) {
+    if (RESOLVED.get() != null) {
+      action.run();
+      return;
+    }
+    RESOLVED.set(new HashMap<>());
+    try {
+      action.run();
+    } finally {
+      RESOLVED.remove();
+    }
+  }
+
   public static RichTypeDef apply(TypeDef definition) {
     // resolve hierarchy
     final List<ClassRef> classRefs = definition.getExtendsList()
@@ -71,10 +94,27 @@ public class TypeArguments {
 
   private static TypeDef apply(ClassRef ref) {
     List<TypeRef> arguments = ref.getArguments();
-    TypeDef definition = GetDefinition.of(ref);
     if (arguments.isEmpty()) {
-      return definition;
+      return GetDefinition.of(ref);
+    }
+
+    TypeDef definition = GetDefinition.of(ref);
+    Map<String, Resolved> resolved = RESOLVED.get();
+    String key = resolved != null ? Interner.keyOf(ref) : null;
+    if (key == null) {
+      return resolve(ref, definition);
     }
+    //The definition may have been registered, or replaced, since the reference was last resolved.
+    Resolved entry = resolved.get(key);
+    if (entry == null || entry.definition != definition) {
+      entry = new Resolved(definition, resolve(ref, definition));
+      resolved.put(key, entry);
+    }
+    return entry.result;
+  }
+
+  private static TypeDef resolve(ClassRef ref, TypeDef definition) {
+    List<TypeRef> arguments = ref.getArguments();
 
     List<TypeParamDef> parameters = definition.getParameters();
     Map<String, TypeRef> mappings = new HashMap<>();
@@ -84,10 +124,11 @@ public class TypeArguments {
       mappings.put(name, typeRef);
     }
 
+    // Properties and methods need to see the unmapped type arguments, so type arguments are mapped in a separate pass.
     return new TypeDefBuilder(definition)
         .accept(new ApplyTypeParamMappingToProperty(mappings, ORIGINAL_TYPE_PARAMETER),
-            new ApplyTypeParamMappingToMethod(mappings, ORIGINAL_TYPE_PARAMETER),
-            new ApplyTypeParamMappingToTypeArguments(mappings))
+            new ApplyTypeParamMappingToMethod(mappings, ORIGINAL_TYPE_PARAMETER))
+        .accept(new ApplyTypeParamMappingToTypeArguments(mappings))
         .build();
   }
 
@@ -96,14 +137,14 @@ public class TypeArguments {
         .concat(definition.getProperties().stream(),
             definition.getExtendsList().stream().filter(INTERNAL_JDK.negate())
                 .flatMap(e -> applyToProperties(apply(e)).stream()))
-        .filter(Predicates.distinct(Property::withErasure)).collect(Collectors.toList());
+        .filter(Predicates.distinct(Property::getErasureSignature)).collect(Collectors.toList());
   }
 
   private static List<Method> applyToMethods(TypeDef definition) {
     return Stream
         .concat(definition.getMethods().stream(),
             definition.getExtendsList().stream().filter(INTERNAL_JDK.negate()).flatMap(e -> applyToMethods(apply(e)).stream()))
-        .filter(Predicates.distinct(m -> m.withErasure().getSignature())).collect(Collectors.toList());
+        .filter(Predicates.distinct(Method::getErasureSignature)).collect(Collectors.toList());
   }
 
   private static List<Method> applyToConstructors(TypeDef definition) {
@@ -113,4 +154,18 @@ public class TypeArguments {
             .flatMap(e -> applyToConstructors(apply(e)).stream()))
         .collect(Collectors.toList());
   }
+
+  /**
+   * A resolved reference, along with the definition it was resolved from.
+   */
+  private static final class Resolved {
+
+    private final TypeDef definition;
+    private final TypeDef result;
+
+    private Resolved(TypeDef definition, TypeDef result) {
+      this.definition = definition;
+      this.result = result;
+    }
+  }
 }
@@ -0,0 +1,116 @@
+/**
+ * Copyright 2015 The original authors.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * 
+**/
+
+package io.sundr.model.functions;
+
+import static io.sundr.utils.Predicates.after;
+import static io.sundr.utils.Predicates.until;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import io.sundr.model.ClassRef;
+import io.sundr.model.TypeDef;
+import io.sundr.model.TypeDefBuilder;
+import io.sundr.model.repo.DefinitionRepository;
+
+public class GetDefinitionTest {
+
+  @Test
+  public void shouldCreateStubInDefaultPackage() {
+    TypeDef stub = stubOf("Foo");
+    assertEquals("", stub.getPackageName());
+    assertEquals("Foo", stub.getName());
+    assertNull(stub.getOuterTypeName());
+    assertEquals("Foo", stub.getFullyQualifiedName());
+  }
+
+  @Test
+  public void shouldCreateStubOfNestedClass() {
+    TypeDef stub = stubOf("my.pkg.Outer.Inner");
+    assertEquals("my.pkg", stub.getPackageName());
+    assertEquals("Inner", stub.getName());
+    assertEquals("my.pkg.Outer", stub.getOuterTypeName());
+    assertEquals("my.pkg.Outer.Inner", stub.getFullyQualifiedName());
+
+    TypeDef deeper = stubOf("my.pkg.Outer.Middle.Inner");
+    assertEquals("Middle.Inner", deeper.getName());
+    assertEquals("my.pkg.Outer", deeper.getOuterTypeName());
+  }
+
+  @Test
+  public void shouldCreateStubOfLowerCaseOnlyName() {
+    TypeDef stub = stubOf("my.pkg.foo");
+    assertEquals("my.pkg.foo", stub.getPackageName());
+    assertEquals("", stub.getName());
+    assertNull(stub.getOuterTypeName());
+  }
+
+  @Test
+  public void shouldIgnoreTrailingDots() {
+    TypeDef stub = stubOf("my.pkg.Foo.");
+    assertEquals("my.pkg", stub.getPackageName());
+    assertEquals("Foo", stub.getName());
+    assertNull(stub.getOuterTypeName());
+    assertEquals("Foo", stubOf("my.pkg.Foo..").getName());
+  }
+
+  @Test
+  public void shouldParseNamesLikeBefore() {
+    for (String name : Arrays.asList("Foo", "my.pkg.Foo", "my.pkg.Outer.Inner", "my.pkg.Outer.Middle.Inner", "my.pkg.foo",
+        "my.pkg.Foo.", "my.pkg.Foo..", "my.Pkg.sub.Foo", "java.util.Map.Entry")) {
+      TypeDef stub = stubOf(name);
+      TypeDef expected = parse(name);
+      assertEquals(name, expected.getPackageName(), stub.getPackageName());
+      assertEquals(name, expected.getName(), stub.getName());
+      assertEquals(name, expected.getOuterTypeName(), stub.getOuterTypeName());
+    }
+  }
+
+  @Test
+  public void shouldShareStubs() {
+    assertSame(stubOf("my.pkg.Shared"), stubOf("my.pkg.Shared"));
+  }
+
+  private static TypeDef stubOf(String fullyQualifiedName) {
+    return DefinitionRepository.withNewRepository()
+        .call(() -> GetDefinition.of(ClassRef.forName(fullyQualifiedName)));
+  }
+
+  /**
+   * The stub as previously computed, by splitting the name into segments.
+   */
+  private static TypeDef parse(String fullyQualifiedName) {
+    Predicate<String> isUpperCase = w -> Character.isUpperCase(w.charAt(0));
+    String packageName = Arrays.stream(fullyQualifiedName.split("\\.")).filter(until(isUpperCase))
+        .collect(Collectors.joining("."));
+    String className = Arrays.stream(fullyQualifiedName.split("\\.")).filter(after(isUpperCase))
+        .collect(Collectors.joining("."));
+    String ownerClassName = className.contains(".") ? className.substring(0, className.indexOf(".")) : null;
+    if (ownerClassName != null) {
+      return new TypeDefBuilder().withName(className.substring(ownerClassName.length() + 1))
+          .withPackageName(packageName).withOuterTypeName(packageName + "." + ownerClassName).build();
+    }
+    return new TypeDefBuilder().withName(className).withPackageName(packageName).build();
+  }
+}
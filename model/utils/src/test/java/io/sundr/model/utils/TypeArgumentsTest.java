@@ -0,0 +1,140 @@
+/*
+ *      Copyright 2018 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+package io.sundr.model.utils;
+
+import static io.sundr.model.utils.Types.modifiersToInt;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.lang.model.element.Modifier;
+
+import org.junit.Test;
+
+import io.sundr.model.AttributeKey;
+import io.sundr.model.ClassRef;
+import io.sundr.model.Kind;
+import io.sundr.model.Property;
+import io.sundr.model.TypeDef;
+import io.sundr.model.TypeDefBuilder;
+import io.sundr.model.TypeParamDef;
+import io.sundr.model.TypeParamDefBuilder;
+import io.sundr.model.repo.DefinitionRepository;
+
+public class TypeArgumentsTest {
+
+  TypeParamDef T = new TypeParamDefBuilder().withName("T").build();
+
+  // class Parent<T> { private T value; }
+  TypeDef parent = new TypeDefBuilder()
+      .withKind(Kind.CLASS)
+      .withPackageName("my.pkg")
+      .withName("Parent")
+      .withParameters(T)
+      .addNewProperty()
+      .withModifiers(modifiersToInt(Modifier.PRIVATE))
+      .withName("value")
+      .withTypeRef(T.toReference())
+      .endProperty()
+      .build();
+
+  ClassRef string = ClassRef.forName(String.class.getName());
+
+  // class Child extends Parent<String> {}
+  TypeDef child = childOf(parent.toReference(string));
+
+  @Test
+  public void shouldReuseResolvedAncestorsWithinScope() {
+    DefinitionRepository.withNewRepository().call(() -> {
+      DefinitionRepository.getRepository().register(parent);
+      TypeArguments.withResolvedCache(() -> {
+        Property value = valueOf(child);
+        assertEquals(string, value.getTypeRef());
+        assertSame(value, valueOf(child));
+      });
+      return null;
+    });
+  }
+
+  @Test
+  public void shouldNotReuseResolvedAncestorsOutsideOfScope() {
+    DefinitionRepository.withNewRepository().call(() -> {
+      DefinitionRepository.getRepository().register(parent);
+      AtomicReference<Property> resolved = new AtomicReference<>();
+      TypeArguments.withResolvedCache(() -> resolved.set(valueOf(child)));
+      assertNotSame(resolved.get(), valueOf(child));
+      TypeArguments.withResolvedCache(() -> assertNotSame(resolved.get(), valueOf(child)));
+      return null;
+    });
+  }
+
+  @Test
+  public void shouldResolveAgainWhenDefinitionIsRegisteredWithinScope() {
+    // class Parent<T> { private T value; private T other; }
+    TypeDef updated = new TypeDefBuilder(parent)
+        .addNewProperty()
+        .withModifiers(modifiersToInt(Modifier.PRIVATE))
+        .withName("other")
+        .withTypeRef(T.toReference())
+        .endProperty()
+        .build();
+    DefinitionRepository.withNewRepository().call(() -> {
+      DefinitionRepository.getRepository().register(parent);
+      TypeArguments.withResolvedCache(() -> {
+        assertEquals(1, TypeArguments.apply(child).getAllProperties().size());
+        DefinitionRepository.getRepository().register(updated);
+        assertEquals(2, TypeArguments.apply(child).getAllProperties().size());
+      });
+      return null;
+    });
+  }
+
+  @Test
+  public void shouldNotShareAncestorsResolvedFromReferencesWithAttributes() {
+    AttributeKey<Boolean> flag = new AttributeKey<Boolean>("flag", Boolean.class);
+    ClassRef flagged = new ClassRef(String.class.getName(), 0, Collections.emptyList(), Collections.singletonMap(flag, true));
+    TypeDef flaggedChild = childOf(parent.toReference(flagged));
+    DefinitionRepository.withNewRepository().call(() -> {
+      DefinitionRepository.getRepository().register(parent);
+      TypeArguments.withResolvedCache(() -> {
+        Property value = valueOf(flaggedChild);
+        assertSame(Boolean.TRUE, value.getTypeRef().getAttributes().get(flag));
+        assertNotSame(value, valueOf(flaggedChild));
+        assertNotSame(value, valueOf(child));
+      });
+      return null;
+    });
+  }
+
+  private static TypeDef childOf(ClassRef superClass) {
+    return new TypeDefBuilder()
+        .withKind(Kind.CLASS)
+        .withPackageName("my.pkg")
+        .withName("Child")
+        .withExtendsList(superClass)
+        .build();
+  }
+
+  private static Property valueOf(TypeDef type) {
+    return TypeArguments.apply(type).getAllProperties().stream().filter(p -> "value".equals(p.getName())).findFirst()
+        .orElseThrow(IllegalStateException::new);
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ *      Copyright 2017 The original authors.
+ *
+ *      Licensed under the Apache License, Version 2.0 (the "License");
+ *      you may not use this file except in compliance with the License.
+ *      You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *      Unless required by applicable law or agreed to in writing, software
+ *      distributed under the License is distributed on an "AS IS" BASIS,
+ *      WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *      See the License for the specific language governing permissions and
+ *      limitations under the License.
+ */
+
+
+package io.sundr.examples.shapes;
+
+import java.util.List;
+import java.util.Map;
+
+import io.sundr.builder.annotations.Buildable;
+
+public class Palette {
+
+  private final String name;
+  private final List<String> colors;
+  private final Map<String, Integer> weights;
+  private final int[] shades;
+
+  @Buildable(buildCacheEnabled = true)
+  public Palette(String name, List<String> colors, Map<String, Integer> weights, int[] shades) {
+    this.name = name;
+    this.colors = colors;
+    this.weights = weights;
+    this.shades = shades;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public List<String> getColors() {
+    return colors;
+  }
+
+  public Map<String, Integer> getWeights() {
+    return weights;
+  }
+
+  public int[] getShades() {
+    return shades;
+  }
+}
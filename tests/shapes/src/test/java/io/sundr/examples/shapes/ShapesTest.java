@@ -16,7 +16,10 @@
 
 package io.sundr.examples.shapes;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.Assert;
@@ -94,6 +97,205 @@ public class ShapesTest {
     Assert.assertEquals(110, ((Circle) canvas.getShapes().get(0)).getRadius());
   }
 
+  @Test
+  public void testPathAwareVisitorMixedWithTypedVisitor() {
+    Canvas canvas = new CanvasBuilder()
+        .addNewCircleShape(0, 0, 10)
+        .addNewSquareShape()
+        .withHeight(30)
+        .and()
+        .build();
+
+    CanvasBuilder canvasBuilder = new CanvasBuilder(canvas);
+    canvas = canvasBuilder.accept(new PathAwareTypedVisitor<CircleBuilder<Integer>, CanvasBuilder>() {
+      @Override
+      public void visit(CircleBuilder<Integer> builder) {
+        Assert.assertSame(canvasBuilder, getParent());
+        Assert.assertEquals(2, getPath().size());
+        builder.withRadius(100 + builder.getRadius());
+      }
+    }, new TypedVisitor<SquareBuilder>() {
+      @Override
+      public void visit(SquareBuilder builder) {
+        builder.withHeight(2 * builder.getHeight());
+      }
+    }).build();
+
+    Assert.assertEquals(110, ((Circle) canvas.getShapes().get(0)).getRadius());
+    Assert.assertEquals(60, ((Square) canvas.getShapes().get(1)).getHeight());
+  }
+
+  @Test
+  public void testBuildReturnsUnchangedInstance() {
+    PaletteBuilder builder = new PaletteBuilder().withName("warm").addToColors("red").withShades(1, 2);
+    Palette palette = builder.build();
+    Assert.assertSame(palette, builder.build());
+
+    Palette renamed = builder.withName("hot").build();
+    Assert.assertNotSame(palette, renamed);
+    Assert.assertEquals("hot", renamed.getName());
+    Assert.assertSame(renamed, builder.build());
+
+    MySizeBuilder sizeBuilder = new MySizeBuilder().withWidth(10).withHeight(20);
+    MySize size = sizeBuilder.build();
+    Assert.assertSame(size, sizeBuilder.build());
+    Assert.assertEquals(size.hashCode(), sizeBuilder.build().hashCode());
+    Assert.assertEquals(size, new MySizeBuilder().withWidth(10).withHeight(20).build());
+  }
+
+  @Test
+  public void testBuildReturnsUnchangedInstanceWithNestedBuildables() {
+    ExhibitionBuilder builder = new ExhibitionBuilder().addNewArtist("Pablo", "Picasso").withNewCurator("Frida", "Kahlo");
+    Exhibition exhibition = builder.build();
+    Assert.assertSame(exhibition, builder.build());
+
+    builder.accept(ArtistBuilder.class, artist -> artist.withLastName("Ruiz"));
+    Exhibition renamed = builder.build();
+    Assert.assertNotSame(exhibition, renamed);
+    Assert.assertEquals("Ruiz", renamed.getArtists().get(0).getLastName());
+    Assert.assertEquals("Ruiz", renamed.getCurator().getLastName());
+    Assert.assertSame(renamed, builder.build());
+
+    Exhibition curated = builder.editCurator().withFirstName("Joan").endCurator().build();
+    Assert.assertNotSame(renamed, curated);
+    Assert.assertEquals("Joan", curated.getCurator().getFirstName());
+  }
+
+  @Test
+  public void testBuildNoticesInPlaceChanges() {
+    PaletteBuilder builder = new PaletteBuilder().withName("warm").addToColors("red").addToWeights("red", 1);
+    Palette palette = builder.build();
+
+    builder.getColors().add("orange");
+    Palette withOrange = builder.build();
+    Assert.assertNotSame(palette, withOrange);
+    Assert.assertEquals(Arrays.asList("red", "orange"), withOrange.getColors());
+    Assert.assertSame(withOrange, builder.build());
+
+    builder.getWeights().put("orange", 2);
+    Palette weighted = builder.build();
+    Assert.assertNotSame(withOrange, weighted);
+    Assert.assertEquals(Integer.valueOf(2), weighted.getWeights().get("orange"));
+    Assert.assertSame(weighted, builder.build());
+  }
+
+  @Test
+  public void testEqualsDoesNotMaterializeCopiedValues() {
+    Artist picasso = new Artist("Pablo", "Picasso");
+    Exhibition exhibition = new Exhibition(Collections.singletonList(picasso), new Artist("Frida", "Kahlo"));
+    ExhibitionBuilder copied = new ExhibitionBuilder(exhibition);
+    ExhibitionBuilder other = new ExhibitionBuilder(exhibition);
+    ExhibitionBuilder edited = new ExhibitionBuilder(exhibition).withNewCurator("Frida", "Kahlo");
+    edited.buildArtists();
+
+    Assert.assertEquals(copied, other);
+    Assert.assertEquals(copied, edited);
+    Assert.assertEquals(edited, copied);
+    Assert.assertNotEquals(copied, new ExhibitionBuilder(exhibition).withNewCurator("Joan", "Miro"));
+    //Still the copied values, rather than instances built from builders.
+    Assert.assertSame(picasso, copied.getArtists().get(0));
+    Assert.assertSame(exhibition.getCurator(), copied.getCurator());
+  }
+
+  @Test
+  public void testReadsDoNotMaterializeCopiedValues() {
+    Artist picasso = new Artist("Pablo", "Picasso");
+    Artist kahlo = new Artist("Frida", "Kahlo");
+    ExhibitionBuilder builder = new ExhibitionBuilder(new Exhibition(Arrays.asList(picasso, kahlo), kahlo));
+
+    Assert.assertTrue(builder.hasArtists());
+    Assert.assertTrue(builder.hasCurator());
+    Assert.assertSame(picasso, builder.buildFirstArtist());
+    Assert.assertSame(kahlo, builder.buildLastArtist());
+    Assert.assertSame(kahlo, builder.buildArtist(1));
+    Assert.assertSame(kahlo, builder.buildMatchingArtist(artist -> "Frida".equals(artist.getFirstName())));
+    Assert.assertTrue(builder.hasMatchingArtist(artist -> "Pablo".equals(artist.getFirstName())));
+    Assert.assertFalse(builder.hasMatchingArtist(artist -> "Joan".equals(artist.getFirstName())));
+    //Still the copied values, rather than instances built from builders.
+    Assert.assertSame(picasso, builder.buildArtists().get(0));
+
+    builder.editMatchingArtist(artist -> "Frida".equals(artist.getFirstName())).withLastName("Rivera").endArtist();
+    Assert.assertEquals("Picasso", builder.buildFirstArtist().getLastName());
+    Assert.assertEquals("Rivera", builder.buildLastArtist().getLastName());
+
+    builder.editCurator().withFirstName("Joan").endCurator();
+    Assert.assertEquals("Joan", builder.buildCurator().getFirstName());
+    Assert.assertEquals("Kahlo", builder.buildCurator().getLastName());
+  }
+
+  @Test
+  public void testBuiltListsAreCachedUntilModified() {
+    CanvasBuilder builder = new CanvasBuilder().addNewCircleShape(0, 0, 10);
+    List<Shape> shapes = builder.buildShapes();
+    Assert.assertSame(shapes.get(0), builder.buildShapes().get(0));
+    builder.accept(CircleBuilder.class, circle -> circle.withRadius(20));
+    Assert.assertEquals(20, ((Circle) builder.buildShapes().get(0)).getRadius().intValue());
+    Assert.assertEquals(10, ((Circle) shapes.get(0)).getRadius().intValue());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testBuiltListsAreReadOnly() {
+    new CanvasBuilder().addNewCircleShape(0, 0, 10).buildShapes().clear();
+  }
+
+  @Test
+  public void testSetterKeepsVisitOrder() {
+    ExhibitionBuilder builder = new ExhibitionBuilder().addNewArtist("Pablo", "Picasso").withNewCurator("Frida", "Kahlo");
+    builder.withArtists(Collections.singletonList(new Artist("Joan", "Miro")));
+
+    List<String> visited = new ArrayList<>();
+    builder.accept(ArtistBuilder.class, artist -> visited.add(artist.getFirstName()));
+    Assert.assertEquals(Arrays.asList("Joan", "Frida"), visited);
+  }
+
+  @Test
+  public void testRemoveFromListByBuilder() {
+    CanvasBuilder builder = new CanvasBuilder().addNewCircleShape(0, 0, 10).addNewCircleShape(0, 0, 10);
+    List<CircleBuilder> circles = new ArrayList<>();
+    builder.accept(CircleBuilder.class, circles::add);
+    Assert.assertEquals(circles.get(0), circles.get(1));
+
+    builder.removeFromShapes(circles.get(1));
+    List<CircleBuilder> remaining = new ArrayList<>();
+    builder.accept(CircleBuilder.class, remaining::add);
+    Assert.assertEquals(1, remaining.size());
+    Assert.assertSame(circles.get(0), remaining.get(0));
+    Assert.assertEquals(1, builder.buildShapes().size());
+  }
+
+  @Test
+  public void testEditReusesUntouchedNested() {
+    Canvas canvas = new CanvasBuilder()
+        .withNewArtist("Pablo", "Picasso")
+        .addNewCircleShape(0, 0, 10)
+        .addNewSquareShape()
+        .withY(10)
+        .withHeight(30)
+        .and()
+        .build();
+
+    Canvas edited = new CanvasBuilder(canvas).withDate(new Date(1, 1937)).build();
+    Assert.assertSame(canvas.getArtist(), edited.getArtist());
+    Assert.assertSame(canvas.getShapes().get(0), edited.getShapes().get(0));
+    Assert.assertSame(canvas.getShapes().get(1), edited.getShapes().get(1));
+
+    edited = new CanvasBuilder(canvas).editArtist().withFirstName("Georges").endArtist().build();
+    Assert.assertEquals("Georges", edited.getArtist().getFirstName());
+    Assert.assertEquals("Pablo", canvas.getArtist().getFirstName());
+    Assert.assertSame(canvas.getShapes().get(0), edited.getShapes().get(0));
+
+    edited = new CanvasBuilder(canvas).addNewCircleShape(5, 5, 5).build();
+    Assert.assertEquals(3, edited.getShapes().size());
+    Assert.assertEquals(2, canvas.getShapes().size());
+
+    CanvasBuilder copy = new CanvasBuilder(canvas);
+    Assert.assertEquals(copy.buildShapes(), copy.buildShapes());
+
+    CanvasBuilder visited = new CanvasBuilder(canvas).accept(CircleBuilder.class, b -> {
+    });
+    Assert.assertEquals(visited, new CanvasBuilder(canvas));
+  }
+
   @Test
   public void testAddToWithVisitors() {
     CanvasBuilder canvasBuilder = new CanvasBuilder();